@@ -0,0 +1,44 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * <p>Callback notified when an asynchronous Smartsheet call completes.</p>
+ *
+ * <p>Callbacks are invoked on the thread that completed the call, so they should not block.</p>
+ *
+ * @param <T> the type of the call result
+ */
+public interface AsyncCallback<T> {
+    /**
+     * <p>Called when the call completed successfully.</p>
+     *
+     * @param result the result of the call
+     */
+    public void onSuccess(T result);
+
+    /**
+     * <p>Called when the call failed.</p>
+     *
+     * @param error the error (usually a {@link SmartsheetException}) that caused the failure
+     */
+    public void onFailure(Throwable error);
+}
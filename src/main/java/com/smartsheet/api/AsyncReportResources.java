@@ -0,0 +1,67 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.enums.ReportInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.concurrent.Future;
+
+/**
+ * <p>This interface provides asynchronous variants of the most frequently used {@link ReportResources} methods.</p>
+ *
+ * <p>As with {@link AsyncSheetResources}, the requests are made with non-blocking I/O and the responses are read on
+ * the executor of the {@link Smartsheet} instance.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncReportResources {
+
+    /**
+     * <p>Get a report.</p>
+     *
+     * @see ReportResources#getReport(long, EnumSet, Integer, Integer)
+     * @param reportId the reportId of the report
+     * @param includes used To specify the optional objects to include.
+     * @param pageSize page size parameter for pagination
+     * @param page page parameter for pagination
+     * @param callback notified when the call completes (optional)
+     * @return the future report
+     */
+    public Future<Report> getReport(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page,
+                                    AsyncCallback<Report> callback);
+
+    /**
+     * <p>List all reports.</p>
+     *
+     * @see ReportResources#listReports(PaginationParameters, Date)
+     * @param parameters pagination parameters for paging result
+     * @param modifiedSince restrict results to reports modified on or after this date
+     * @param callback notified when the call completes (optional)
+     * @return the future list of reports
+     */
+    public Future<PagedResult<Report>> listReports(PaginationParameters parameters, Date modifiedSince,
+                                                   AsyncCallback<PagedResult<Report>> callback);
+}
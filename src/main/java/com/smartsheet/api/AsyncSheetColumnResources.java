@@ -0,0 +1,101 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.ColumnInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * <p>This interface provides asynchronous variants of the {@link SheetColumnResources} methods.</p>
+ *
+ * <p>As with {@link AsyncSheetResources}, the requests are made with non-blocking I/O and the responses are read on
+ * the executor of the {@link Smartsheet} instance.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetColumnResources {
+
+    /**
+     * <p>List columns of a given sheet.</p>
+     *
+     * @see SheetColumnResources#listColumns(long, EnumSet, PaginationParameters)
+     * @param sheetId the sheet id
+     * @param includes list of includes
+     * @param pagination the object containing the pagination parameters
+     * @param callback notified when the call completes (optional)
+     * @return the future list of columns
+     */
+    public Future<PagedResult<Column>> listColumns(long sheetId, EnumSet<ColumnInclusion> includes,
+                                                   PaginationParameters pagination,
+                                                   AsyncCallback<PagedResult<Column>> callback);
+
+    /**
+     * <p>Add columns to a sheet.</p>
+     *
+     * @see SheetColumnResources#addColumns(long, List)
+     * @param sheetId the sheet id
+     * @param columns the list of column object
+     * @param callback notified when the call completes (optional)
+     * @return the future list of created columns
+     */
+    public Future<List<Column>> addColumns(long sheetId, List<Column> columns, AsyncCallback<List<Column>> callback);
+
+    /**
+     * <p>Delete a column.</p>
+     *
+     * @see SheetColumnResources#deleteColumn(long, long)
+     * @param sheetId the sheet id
+     * @param columnId the column id
+     * @param callback notified when the call completes (optional)
+     * @return a future that completes when the column has been deleted
+     */
+    public Future<Void> deleteColumn(long sheetId, long columnId, AsyncCallback<Void> callback);
+
+    /**
+     * <p>Update a column.</p>
+     *
+     * @see SheetColumnResources#updateColumn(long, Column)
+     * @param sheetId the sheet id
+     * @param column the column to update
+     * @param callback notified when the call completes (optional)
+     * @return the future updated column
+     */
+    public Future<Column> updateColumn(long sheetId, Column column, AsyncCallback<Column> callback);
+
+    /**
+     * <p>Get a column.</p>
+     *
+     * @see SheetColumnResources#getColumn(long, long, EnumSet)
+     * @param sheetId the sheet id
+     * @param columnId the column id
+     * @param includes list of includes
+     * @param callback notified when the call completes (optional)
+     * @return the future column
+     */
+    public Future<Column> getColumn(long sheetId, long columnId, EnumSet<ColumnInclusion> includes,
+                                    AsyncCallback<Column> callback);
+}
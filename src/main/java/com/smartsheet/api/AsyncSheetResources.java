@@ -0,0 +1,143 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+/**
+ * <p>This interface provides asynchronous variants of the most frequently used {@link SheetResources} methods.</p>
+ *
+ * <p>Each method returns immediately. The request is made with non-blocking I/O (see
+ * {@link SmartsheetBuilder#setAsyncHttpClient}), so no thread waits for the response, and a failed request is retried
+ * once its retry delay has passed without holding a thread either; the response is then read on the executor of the
+ * {@link Smartsheet} instance (see {@link SmartsheetBuilder#setExecutorService}). Failures are reported through the
+ * optional callback and by {@link Future#get()} throwing an ExecutionException whose cause is the exception the
+ * blocking method would have thrown. Cancelling the future abandons the request.</p>
+ *
+ * <p>Only the sheet, row, column and report resources, the ones called in bulk, have asynchronous variants; any other
+ * call can be run on the executor through {@link Smartsheet#submit}, where it holds a thread until it completes.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetResources {
+
+    /**
+     * <p>List all sheets.</p>
+     *
+     * @see SheetResources#listSheets(EnumSet, PaginationParameters, Date)
+     * @param includes the source inclusion
+     * @param pagination the object containing the pagination parameters
+     * @param modifiedSince the modified since date
+     * @param callback notified when the call completes (optional)
+     * @return the future list of all sheets
+     */
+    public Future<PagedResult<Sheet>> listSheets(EnumSet<SourceInclusion> includes, PaginationParameters pagination,
+                                                 Date modifiedSince, AsyncCallback<PagedResult<Sheet>> callback);
+
+    /**
+     * <p>Get a sheet.</p>
+     *
+     * @see SheetResources#getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer)
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param callback notified when the call completes (optional)
+     * @return the future sheet
+     */
+    public Future<Sheet> getSheet(long id,
+                                  EnumSet<SheetInclusion> includes,
+                                  EnumSet<ObjectExclusion> excludes,
+                                  Set<Long> rowIds,
+                                  Set<Integer> rowNumbers,
+                                  Set<Long> columnIds,
+                                  Integer pageSize,
+                                  Integer page,
+                                  AsyncCallback<Sheet> callback);
+
+    /**
+     * <p>Get the version of a sheet.</p>
+     *
+     * @see SheetResources#getSheetVersion(long)
+     * @param id the id of the sheet
+     * @param callback notified when the call completes (optional)
+     * @return the future sheet version
+     */
+    public Future<Integer> getSheetVersion(long id, AsyncCallback<Integer> callback);
+
+    /**
+     * <p>Create a sheet in the default location.</p>
+     *
+     * @see SheetResources#createSheet(Sheet)
+     * @param sheet the sheet to create
+     * @param callback notified when the call completes (optional)
+     * @return the future created sheet
+     */
+    public Future<Sheet> createSheet(Sheet sheet, AsyncCallback<Sheet> callback);
+
+    /**
+     * <p>Update a sheet.</p>
+     *
+     * @see SheetResources#updateSheet(Sheet)
+     * @param sheet the sheet to update
+     * @param callback notified when the call completes (optional)
+     * @return the future updated sheet
+     */
+    public Future<Sheet> updateSheet(Sheet sheet, AsyncCallback<Sheet> callback);
+
+    /**
+     * <p>Delete a sheet.</p>
+     *
+     * @see SheetResources#deleteSheet(long)
+     * @param id the id of the sheet
+     * @param callback notified when the call completes (optional)
+     * @return a future that completes when the sheet has been deleted
+     */
+    public Future<Void> deleteSheet(long id, AsyncCallback<Void> callback);
+
+    /**
+     * <p>Return the asynchronous variant of the rows resources of sheets.</p>
+     *
+     * @return the associated async row resources
+     */
+    public AsyncSheetRowResources rowResources();
+
+    /**
+     * <p>Return the asynchronous variant of the columns resources of sheets.</p>
+     *
+     * @return the associated async column resources
+     */
+    public AsyncSheetColumnResources columnResources();
+}
@@ -0,0 +1,115 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+/**
+ * <p>This interface provides asynchronous variants of the {@link SheetRowResources} methods.</p>
+ *
+ * <p>As with {@link AsyncSheetResources}, the requests are made with non-blocking I/O and the responses are read on
+ * the executor of the {@link Smartsheet} instance.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetRowResources {
+
+    /**
+     * <p>Insert rows to a sheet.</p>
+     *
+     * @see SheetRowResources#addRows(long, List)
+     * @param sheetId the sheet id
+     * @param rows the list of rows to create
+     * @param callback notified when the call completes (optional)
+     * @return the future list of created rows
+     */
+    public Future<List<Row>> addRows(long sheetId, List<Row> rows, AsyncCallback<List<Row>> callback);
+
+    /**
+     * <p>Insert rows to a sheet, allowing partial success.</p>
+     *
+     * @see SheetRowResources#addRowsAllowPartialSuccess(long, List)
+     * @param sheetId the sheet id
+     * @param rows the list of rows to create
+     * @param callback notified when the call completes (optional)
+     * @return the future result
+     */
+    public Future<PartialRowUpdateResult> addRowsAllowPartialSuccess(long sheetId, List<Row> rows,
+                                                                     AsyncCallback<PartialRowUpdateResult> callback);
+
+    /**
+     * <p>Get a row.</p>
+     *
+     * @see SheetRowResources#getRow(long, long, EnumSet, EnumSet)
+     * @param sheetId the id of the sheet
+     * @param rowId the id of the row
+     * @param includes optional objects to include
+     * @param excludes optional objects to exclude
+     * @param callback notified when the call completes (optional)
+     * @return the future row
+     */
+    public Future<Row> getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes,
+                              EnumSet<ObjectExclusion> excludes, AsyncCallback<Row> callback);
+
+    /**
+     * <p>Update rows.</p>
+     *
+     * @see SheetRowResources#updateRows(long, List)
+     * @param sheetId the id of the sheet
+     * @param rows the list of rows
+     * @param callback notified when the call completes (optional)
+     * @return the future list of updated rows
+     */
+    public Future<List<Row>> updateRows(long sheetId, List<Row> rows, AsyncCallback<List<Row>> callback);
+
+    /**
+     * <p>Update rows, allowing partial success.</p>
+     *
+     * @see SheetRowResources#updateRowsAllowPartialSuccess(long, List)
+     * @param sheetId the id of the sheet
+     * @param rows the list of rows
+     * @param callback notified when the call completes (optional)
+     * @return the future result
+     */
+    public Future<PartialRowUpdateResult> updateRowsAllowPartialSuccess(long sheetId, List<Row> rows,
+                                                                        AsyncCallback<PartialRowUpdateResult> callback);
+
+    /**
+     * <p>Delete rows.</p>
+     *
+     * @see SheetRowResources#deleteRows(long, Set, boolean)
+     * @param sheetId the sheet id
+     * @param rowIds the row ids
+     * @param ignoreRowsNotFound ignore rows that are not found
+     * @param callback notified when the call completes (optional)
+     * @return the future list of deleted row ids
+     */
+    public Future<List<Long>> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound,
+                                         AsyncCallback<List<Long>> callback);
+}
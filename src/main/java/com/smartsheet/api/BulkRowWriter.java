@@ -0,0 +1,94 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+
+import java.util.List;
+
+/**
+ * <p>Writes large numbers of rows, to one or more sheets, by splitting them into chunks that are sent (with partial
+ * success allowed) concurrently on the executor of the {@link Smartsheet} instance.</p>
+ *
+ * <p>Rows are queued with {@link #addRows(long, List)} and {@link #updateRows(long, List)} and written by
+ * {@link #execute()}. Chunks for different sheets are always written concurrently; chunks for the same sheet are
+ * written one after the other, in the order they were queued, unless {@link #setOrdered(boolean)} is set to false.</p>
+ *
+ * <p>A chunk that fails as a whole (e.g. because of a network error) doesn't fail the other chunks; each of its rows
+ * is reported as a failed item with the error that failed the chunk.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface is not thread safe; the writing itself is done concurrently.</p>
+ */
+public interface BulkRowWriter {
+    /**
+     * The default maximum number of rows sent in one request.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * <p>Set the maximum number of rows sent in one request.</p>
+     *
+     * @param chunkSize the chunk size
+     * @return this writer
+     */
+    public BulkRowWriter setChunkSize(int chunkSize);
+
+    /**
+     * <p>Set whether the chunks for a sheet must be written in order (the default), which is needed when rows are
+     * positioned relative to rows written by an earlier chunk. If not, all chunks are written concurrently.</p>
+     *
+     * @param ordered true to write the chunks for a sheet in order
+     * @return this writer
+     */
+    public BulkRowWriter setOrdered(boolean ordered);
+
+    /**
+     * <p>Queue rows to be inserted in a sheet.</p>
+     *
+     * @see SheetRowResources#addRowsAllowPartialSuccess(long, List)
+     * @param sheetId the sheet id
+     * @param rows the rows to insert
+     * @return this writer
+     */
+    public BulkRowWriter addRows(long sheetId, List<Row> rows);
+
+    /**
+     * <p>Queue rows to be updated in a sheet.</p>
+     *
+     * @see SheetRowResources#updateRowsAllowPartialSuccess(long, List)
+     * @param sheetId the sheet id
+     * @param rows the rows to update
+     * @return this writer
+     */
+    public BulkRowWriter updateRows(long sheetId, List<Row> rows);
+
+    /**
+     * <p>Write all of the queued rows, waiting until every chunk has been written. The queue is then empty so the
+     * writer can be reused.</p>
+     *
+     * @return one result for each addRows/updateRows call, in the order of the calls; the result holds the rows
+     * written by all of the chunks of the call, and the failed items, whose indexes refer to the rows passed to the
+     * call
+     * @throws SmartsheetException if interrupted while waiting for the chunks to be written
+     */
+    public List<PartialRowUpdateResult> execute() throws SmartsheetException;
+}
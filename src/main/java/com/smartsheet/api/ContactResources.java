@@ -49,4 +49,14 @@ public interface ContactResources {
      * @throws SmartsheetException if there is any other error during the operation
      */
     public PagedResult<Contact> listContacts(PaginationParameters parameters) throws SmartsheetException;
+
+    /**
+     * <p>List all contacts, loading it a page at a time as it is iterated (the next page is loaded while
+     * the current one is being used).</p>
+     *
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded contacts; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    public Iterable<Contact> iterateContacts(int pageSize);
 }
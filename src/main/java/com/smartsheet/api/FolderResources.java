@@ -104,6 +104,17 @@ public interface FolderResources {
      */
     public PagedResult<Folder> listFolders(long parentFolderId, PaginationParameters parameters) throws SmartsheetException;
 
+    /**
+     * <p>List child folders of a given folder, loading it a page at a time as it is iterated (the next page is loaded while
+     * the current one is being used).</p>
+     *
+     * @param parentFolderId the parent folder id
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded child folders; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    public Iterable<Folder> iterateFolders(long parentFolderId, int pageSize);
+
     /**
      * <p>Create a folder.</p>
      *
@@ -0,0 +1,41 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+/**
+ * <p>Loads one page of a list, typically by calling a list method of one of the resources.</p>
+ *
+ * @see Smartsheet#iterate(PageLoader, int)
+ * @param <T> the type of the listed objects
+ */
+public interface PageLoader<T> {
+    /**
+     * <p>Load a page.</p>
+     *
+     * @param parameters the page (and page size) to load
+     * @return the page
+     * @throws SmartsheetException if the page can't be loaded
+     */
+    public PagedResult<T> loadPage(PaginationParameters parameters) throws SmartsheetException;
+}
@@ -61,6 +61,29 @@ public interface ReportResources {
      */
      Report getReport(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page) throws SmartsheetException;
 
+    /**
+     * <p>Get a report with all of its rows by reading it a page at a time: page 1 first, to learn the total row count,
+     * then the other pages concurrently. The rows of the pages are merged, in row order, into the returned report.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method:</p>
+     * <p>GET /report/{reportId}</p>
+     *
+     * @param reportId the reportId of the report
+     * @param includes used To specify the optional objects to include.
+     * @param pageSize the number of rows in a page
+     * @param parallelism the maximum number of pages read at once
+     * @return  the report, with the rows of all of its pages (note that if there is no such resource, this method
+     * will throw ResourceNotFoundException rather than returning null)
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+     Report getReportInParallel(long reportId, EnumSet<ReportInclusion> includes, int pageSize, int parallelism)
+             throws SmartsheetException;
+
     /**
      * <p>Send a sheet as a PDF attachment via Email To the designated recipients.</p>
      *
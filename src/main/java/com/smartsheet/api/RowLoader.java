@@ -0,0 +1,44 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Row;
+
+/**
+ * <p>Gets rows, coalescing the rows of the same sheet requested by different threads at about the same time into one
+ * request for the sheet, filtered to those rows.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface RowLoader {
+    /**
+     * <p>Get a row. The call waits for the rows of the same sheet requested by other threads within the loader's
+     * window, so they can all be read by a single request.</p>
+     *
+     * @param sheetId the id of the sheet
+     * @param rowId the id of the row
+     * @return the row (note that if there is no such row, this method will throw ResourceNotFoundException rather
+     * than returning null)
+     * @throws ResourceNotFoundException if the sheet or the row cannot be found
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public Row getRow(long sheetId, long rowId) throws SmartsheetException;
+}
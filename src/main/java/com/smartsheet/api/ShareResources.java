@@ -74,6 +74,18 @@ public interface ShareResources {
      */
     public PagedResult<Share> listShares(long objectId, PaginationParameters parameters, Boolean includeWorkspaceShares) throws SmartsheetException;
 
+    /**
+     * <p>List shares of a given object, loading it a page at a time as it is iterated (the next page is loaded while
+     * the current one is being used).</p>
+     *
+     * @param objectId the object id
+     * @param includeWorkspaceShares include workspace shares
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded shares; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    public Iterable<Share> iterateShares(long objectId, Boolean includeWorkspaceShares, int pageSize);
+
     /**
      * Get a Share.
      *
@@ -0,0 +1,120 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * <p>A cache of sheets in front of {@link SheetResources#getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer,
+ * Integer)}. A cached sheet is checked to still be current with the (cheap) {@link SheetResources#getSheetVersion(long)}
+ * before it is used, unless it was checked within the time to live of the cache. Sheets are evicted, least recently
+ * used first, to keep the memory held by the cache within its limit.</p>
+ *
+ * <p>Each call returns its own copy of the sheet, which the caller is free to modify.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface SheetCache {
+
+    /**
+     * <p>Get a sheet, from the cache if the cached copy is current.</p>
+     *
+     * @see SheetResources#getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer)
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @return the sheet resource (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public Sheet getSheet(long id,
+                          EnumSet<SheetInclusion> includes,
+                          EnumSet<ObjectExclusion> excludes,
+                          Set<Long> rowIds,
+                          Set<Integer> rowNumbers,
+                          Set<Long> columnIds,
+                          Integer pageSize,
+                          Integer page) throws SmartsheetException;
+
+    /**
+     * <p>Remove the cached copies of a sheet.</p>
+     *
+     * @param id the id of the sheet
+     */
+    public void invalidate(long id);
+
+    /**
+     * <p>Remove all of the cached sheets.</p>
+     */
+    public void clear();
+
+    /**
+     * <p>Gets the number of calls answered from the cache.</p>
+     *
+     * @return the hit count
+     */
+    public long getHitCount();
+
+    /**
+     * <p>Gets the number of calls that had to get the sheet, because it wasn't cached or had changed.</p>
+     *
+     * @return the miss count
+     */
+    public long getMissCount();
+
+    /**
+     * <p>Gets the number of times the version of a cached sheet was checked.</p>
+     *
+     * @return the validation count
+     */
+    public long getValidationCount();
+
+    /**
+     * <p>Gets the number of version checks that found the sheet had changed.</p>
+     *
+     * @return the stale count
+     */
+    public long getStaleCount();
+
+    /**
+     * <p>Gets the number of sheets evicted to make room for others.</p>
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount();
+
+    /**
+     * <p>Gets the memory held by the cached sheets.</p>
+     *
+     * @return the size in bytes
+     */
+    public long getSizeBytes();
+}
@@ -54,6 +54,18 @@ public interface SheetResources {
      */
     public PagedResult<Sheet> listSheets(EnumSet<SourceInclusion> includes, PaginationParameters pagination, Date modifiedSince) throws SmartsheetException;
 
+    /**
+     * <p>List all sheets, loading it a page at a time as it is iterated (the next page is loaded while
+     * the current one is being used).</p>
+     *
+     * @param includes the source inclusion
+     * @param modifiedSince restrict results to sheets modified on or after this date
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded sheets; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    public Iterable<Sheet> iterateSheets(EnumSet<SourceInclusion> includes, Date modifiedSince, int pageSize);
+
     /**
      * <p>List all sheets.</p>
      *
@@ -120,6 +132,150 @@ public interface SheetResources {
                           Integer pageSize,
                           Integer page) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet, streaming its rows to a handler one at a time as they are read instead of collecting them in the
+     * returned Sheet. Memory use doesn't depend on the number of rows, which makes this suitable for very large
+     * sheets.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param rowHandler receives the sheet (with its columns, before any row) and then each of its rows
+     * @return the sheet resource, with all of its attributes other than rows (note that if there is no such resource,
+     * this method will throw ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation, or rowHandler throws it
+     */
+    public Sheet getSheet(long id,
+                          EnumSet<SheetInclusion> includes,
+                          EnumSet<ObjectExclusion> excludes,
+                          Set<Long> rowIds,
+                          Set<Integer> rowNumbers,
+                          Set<Long> columnIds,
+                          Integer pageSize,
+                          Integer page,
+                          SheetRowHandler rowHandler) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet, leaving out the properties of a projection. The properties are skipped as the response is parsed,
+     * without being turned into objects.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param projection the properties to leave out, e.g. {@link FieldProjection#values()}
+     * @return the sheet resource (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public Sheet getSheet(long id,
+                          EnumSet<SheetInclusion> includes,
+                          EnumSet<ObjectExclusion> excludes,
+                          Set<Long> rowIds,
+                          Set<Integer> rowNumbers,
+                          Set<Long> columnIds,
+                          Integer pageSize,
+                          Integer page,
+                          FieldProjection projection) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet, streaming its rows to a handler one at a time as they are read, and leaving out the properties
+     * of a projection.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param rowHandler receives the sheet (with its columns, before any row) and then each of its rows
+     * @param projection the properties to leave out, e.g. {@link FieldProjection#values()}
+     * @return the sheet resource, with all of its attributes other than rows
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation, or rowHandler throws it
+     */
+    public Sheet getSheet(long id,
+                          EnumSet<SheetInclusion> includes,
+                          EnumSet<ObjectExclusion> excludes,
+                          Set<Long> rowIds,
+                          Set<Integer> rowNumbers,
+                          Set<Long> columnIds,
+                          Integer pageSize,
+                          Integer page,
+                          SheetRowHandler rowHandler,
+                          FieldProjection projection) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet with all of its rows by reading it a page at a time: page 1 first, to learn the total row count,
+     * then the other pages concurrently. The rows of the pages are merged, in row order, into the returned sheet.</p>
+     *
+     * <p>The pages are read at slightly different times, so rows changed while the sheet is being read may be missed
+     * or repeated; compare the version of the sheet before and after if that matters.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param columnIds the column ids
+     * @param pageSize the number of rows in a page
+     * @param parallelism the maximum number of pages read at once
+     * @return the sheet resource, with the rows of all of its pages (note that if there is no such resource, this
+     * method will throw ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws InvalidRequestException if there is any problem with the REST API request
+     * @throws AuthorizationException if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException if there is any other error during the operation
+     */
+    public Sheet getSheetInParallel(long id,
+                                    EnumSet<SheetInclusion> includes,
+                                    EnumSet<ObjectExclusion> excludes,
+                                    Set<Long> columnIds,
+                                    int pageSize,
+                                    int parallelism) throws SmartsheetException;
+
+    /**
+     * <p>Creates a cache of sheets, which avoids getting sheets that haven't changed since they were last got.</p>
+     *
+     * @param maxBytes the maximum memory held by the cached sheets
+     * @param ttlMillis how long a cached sheet is used without checking its version (0 to always check it)
+     * @return a new SheetCache
+     */
+    public SheetCache sheetCache(long maxBytes, long ttlMillis);
+
     /**
      * <p>Get a sheet as an Excel file.</p>
      *
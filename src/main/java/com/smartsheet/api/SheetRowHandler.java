@@ -0,0 +1,50 @@
+package com.smartsheet.api;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+/**
+ * <p>Receives the rows of a sheet one at a time as they are read from the response, so a sheet of any size can be
+ * processed without ever holding all of its rows in memory.</p>
+ *
+ * @see SheetResources#getSheet(long, java.util.EnumSet, java.util.EnumSet, java.util.Set, java.util.Set,
+ * java.util.Set, Integer, Integer, SheetRowHandler)
+ */
+public interface SheetRowHandler {
+    /**
+     * <p>Called once, before the first row (or at the end if the sheet has no rows), with the sheet attributes read so
+     * far, including its columns. The sheet has no rows.</p>
+     *
+     * @param sheet the sheet
+     * @throws SmartsheetException to stop reading the sheet (the exception is passed on to the caller)
+     */
+    public void onSheet(Sheet sheet) throws SmartsheetException;
+
+    /**
+     * <p>Called for each row of the sheet, in order.</p>
+     *
+     * @param row the row
+     * @throws SmartsheetException to stop reading the sheet (the exception is passed on to the caller)
+     */
+    public void onRow(Row row) throws SmartsheetException;
+}
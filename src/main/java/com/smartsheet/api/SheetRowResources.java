@@ -26,6 +26,7 @@ import com.smartsheet.api.models.enums.ObjectExclusion;
 import com.smartsheet.api.models.enums.RowCopyInclusion;
 import com.smartsheet.api.models.enums.RowInclusion;
 import com.smartsheet.api.models.enums.RowMoveInclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
 
 import java.util.EnumSet;
 import java.util.List;
@@ -194,6 +195,9 @@ public interface SheetRowResources {
      *   SmartsheetRestException : if there is any other REST API related error occurred during the operation
      *   SmartsheetException : if there is any other error occurred during the operation
      *
+     * Only the properties set on the rows and cells since they were read from the API are sent, along with the row
+     * ids and column ids (rows and cells created by the caller are sent in full).
+     *
      * @param sheetId the id of the sheet
      * @param rows the list of rows
      * @return a list of rows
@@ -222,6 +226,25 @@ public interface SheetRowResources {
      */
     public PartialRowUpdateResult updateRowsAllowPartialSuccess(long sheetId, List<Row> rows) throws SmartsheetException;
 
+    /**
+     * <p>Creates a writer that inserts and updates large numbers of rows (in one or more sheets) in concurrently
+     * written chunks, allowing partial success.</p>
+     *
+     * @return a new BulkRowWriter
+     */
+    public BulkRowWriter bulkWriter();
+
+    /**
+     * <p>Creates a loader that gets rows one at a time from many threads, while coalescing the rows of the same sheet
+     * requested within a short window into one request for the sheet (GET /sheets/{sheetId}?rowIds=...).</p>
+     *
+     * @param includes the optional objects to include in the rows
+     * @param excludes the objects to exclude from the rows
+     * @param windowMillis how long to collect the rows of a sheet before requesting them
+     * @return a new RowLoader
+     */
+    public RowLoader rowLoader(EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, long windowMillis);
+
     /**
      * Moves Row(s) from the Sheet specified in the URL to (the bottom of) another sheet.
      *
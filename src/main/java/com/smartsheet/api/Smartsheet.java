@@ -21,6 +21,8 @@ package com.smartsheet.api;
  */
 
 import java.io.Writer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * <p>This interface is the entry point of the Smartsheet SDK, it provides convenient methods to get XXXResources instances
@@ -142,6 +144,44 @@ public interface Smartsheet {
      */
     public WebhookResources webhookResources();
 
+    /**
+     * <p>Returns the AsyncSheetResources instance that provides asynchronous access to Sheet resources.</p>
+     *
+     * @return the async sheet resources instance
+     */
+    public AsyncSheetResources asyncSheetResources();
+
+    /**
+     * <p>Returns the AsyncReportResources instance that provides asynchronous access to Report resources.</p>
+     *
+     * @return the async report resources instance
+     */
+    public AsyncReportResources asyncReportResources();
+
+    /**
+     * <p>Run any (blocking) call on the executor used for asynchronous calls, for resources that have no
+     * asynchronous variant.</p>
+     *
+     * @param call the call to make, e.g. one calling a method of {@link #userResources()}
+     * @param callback notified when the call completes (optional)
+     * @param <T> the type of the call result
+     * @return the future result of the call
+     */
+    public <T> Future<T> submit(Callable<T> call, AsyncCallback<T> callback);
+
+    /**
+     * <p>Iterate over any paged list, loading it a page at a time as it is iterated (the next page is loaded on the
+     * executor used for asynchronous calls while the current one is being used). Iteration can stop at any point;
+     * the rest of the list is then never loaded.</p>
+     *
+     * @param loader loads a page, e.g. by calling a list method of one of the resources
+     * @param pageSize the number of objects in a page
+     * @param <T> the type of the listed objects
+     * @return the lazily loaded list; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    public <T> Iterable<T> iterate(PageLoader<T> loader, int pageSize);
+
     /**
      * <p>Set the email of the user to assume.</p>
      *
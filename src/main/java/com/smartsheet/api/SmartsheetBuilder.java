@@ -23,12 +23,21 @@ package com.smartsheet.api;
 
 
 import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.AsyncHttpClient;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.DefaultCalcBackoff;
+import com.smartsheet.api.internal.http.DefaultShouldRetry;
 import com.smartsheet.api.internal.http.HttpClient;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.metrics.RequestListener;
 import com.smartsheet.api.retry.CalcBackoff;
+import com.smartsheet.api.trace.TraceSampler;
+import com.smartsheet.api.trace.TraceSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * <p>A convenience class to help create a {@link Smartsheet} instance with the appropriate fields.</p>
@@ -93,6 +102,90 @@ public class SmartsheetBuilder {
      */
     private String changeAgent;
 
+    /**
+     * <p>Maximum number of pooled connections (across all routes) used by the default HttpClient.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private int maxConnections = DefaultHttpClient.DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * <p>Maximum number of pooled connections per route used by the default HttpClient.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private int maxConnectionsPerRoute = DefaultHttpClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+
+    /**
+     * <p>Time after which idle pooled connections are evicted by the default HttpClient.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private long idleConnectionTimeoutMillis = DefaultHttpClient.DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS;
+
+    /**
+     * <p>Keep-alive used by the default HttpClient when the server doesn't send one.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private long keepAliveMillis = DefaultHttpClient.DEFAULT_KEEP_ALIVE_MILLIS;
+
+    /**
+     * <p>Requests per minute allowed for each access token by the default HttpClient (0 if not limited).</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private double rateLimitRequestsPerMinute;
+
+    /**
+     * <p>Requests that can be made at once with an access token after a quiet period.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private int rateLimitBurst = DefaultHttpClient.DEFAULT_RATE_LIMIT_BURST;
+
+    /**
+     * <p>Whether identical GET requests in progress at the same time share one request.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private boolean singleFlightGets;
+
+    /**
+     * <p>Listeners notified of every request made by the default HttpClient.</p>
+     *
+     * <p>They can be added using corresponding adder.</p>
+     */
+    private final List<RequestListener> requestListeners = new ArrayList<RequestListener>();
+
+    /**
+     * <p>Where the default HttpClient sends its trace logs.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private TraceSink traceSink;
+
+    /**
+     * <p>Which of the requests traced by the default HttpClient are logged.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private TraceSampler traceSampler;
+
+    /**
+     * <p>Represents the ExecutorService used for asynchronous calls.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private ExecutorService executorService;
+
+    /**
+     * <p>Represents the AsyncHttpClient that makes the requests of asynchronous calls.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private AsyncHttpClient asyncHttpClient;
+
     /**
      * <p>Represents the default base URI of the Smartsheet REST API.</p>
      *
@@ -211,6 +304,160 @@ public class SmartsheetBuilder {
         return this;
     }
 
+    /**
+     * <p>Set the maximum number of pooled connections (across all routes).</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param maxConnections the maximum number of connections
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of pooled connections per route.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections per route
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    /**
+     * <p>Set the time after which idle pooled connections are evicted (0 disables eviction).</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param idleConnectionTimeoutMillis the idle timeout in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setIdleConnectionTimeoutMillis(long idleConnectionTimeoutMillis) {
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * <p>Set how long to keep a connection alive when the server doesn't specify a keep-alive.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param keepAliveMillis the keep-alive in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+        return this;
+    }
+
+    /**
+     * <p>Pace the requests made with each access token to stay within the API rate limit (300 requests per minute
+     * per access token at the time of writing), adapting the pace whenever the limit is still exceeded.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param requestsPerMinute the requests per minute allowed for each access token (0 to not limit requests)
+     * @param burst the requests that can be made at once after a quiet period
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setRateLimit(double requestsPerMinute, int burst) {
+        this.rateLimitRequestsPerMinute = requestsPerMinute;
+        this.rateLimitBurst = burst;
+        return this;
+    }
+
+    /**
+     * <p>Set whether identical GET requests (same URI and headers) made at the same time by different threads share
+     * one request, each caller getting its own copy of the resource. This avoids bursts of identical requests for
+     * popular resources.</p>
+     *
+     * @param singleFlightGets true to share identical GET requests
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setSingleFlightGets(boolean singleFlightGets) {
+        this.singleFlightGets = singleFlightGets;
+        return this;
+    }
+
+    /**
+     * <p>Add a listener notified of every request (and retry) made, e.g. to collect latency and error metrics.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param requestListener the listener
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder addRequestListener(RequestListener requestListener) {
+        this.requestListeners.add(requestListener);
+        return this;
+    }
+
+    /**
+     * <p>Set where trace logs (see {@link Smartsheet#setTraces(Trace...)}) are sent. By default they are written to
+     * System.out as the requests complete; an {@link com.smartsheet.api.trace.AsyncTraceWriter} writes them from a
+     * background thread instead.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param traceSink the trace sink, e.g. an {@link com.smartsheet.api.trace.AsyncTraceWriter}
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setTraceSink(TraceSink traceSink) {
+        this.traceSink = traceSink;
+        return this;
+    }
+
+    /**
+     * <p>Set which of the traced requests are logged, e.g. one in N or only the slow or failed ones (see
+     * {@link com.smartsheet.api.trace.TraceSamplers}). All of them are logged by default.</p>
+     *
+     * <p>This interface is only valid when the DefaultHttpClient is used.</p>
+     *
+     * @param traceSampler the trace sampler
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setTraceSampler(TraceSampler traceSampler) {
+        this.traceSampler = traceSampler;
+        return this;
+    }
+
+    /**
+     * <p>Set the ExecutorService used to run asynchronous calls (a bounded daemon pool is created if not set).</p>
+     *
+     * <p>Its threads read the responses of asynchronous calls, which don't hold a thread while they wait for their
+     * responses, and run the calls passed to {@link Smartsheet#submit}, which do.</p>
+     *
+     * <p>The caller remains responsible for shutting the executor down.</p>
+     *
+     * @param executorService the executor service
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * <p>Set the AsyncHttpClient that makes the requests of asynchronous calls with non-blocking I/O. If not set, a
+     * {@link com.smartsheet.api.internal.http.DefaultAsyncHttpClient} with the same retry settings as the default
+     * HttpClient is created when the first asynchronous call is made.</p>
+     *
+     * <p>Asynchronous calls don't go through the HttpClient, so its trace logging, request listeners and rate limiting
+     * don't apply to them. The caller remains responsible for closing the client.</p>
+     *
+     * @param asyncHttpClient the async http client
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setAsyncHttpClient(AsyncHttpClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+        return this;
+    }
 
     /**
      * <p>Gets the http client.</p>
@@ -294,7 +541,29 @@ public class SmartsheetBuilder {
             accessToken = System.getenv("SMARTSHEET_ACCESS_TOKEN");
         }
 
-        SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, httpClient, jsonSerializer, changeAgent, apiScenario);
+        HttpClient client = httpClient;
+        DefaultShouldRetry shouldRetry = null;
+        if(client == null) {
+            shouldRetry = new DefaultShouldRetry(jsonSerializer);
+            DefaultHttpClient defaultClient = new DefaultHttpClient(DefaultHttpClient.createPooledHttpClient(
+                    maxConnections, maxConnectionsPerRoute, idleConnectionTimeoutMillis, keepAliveMillis), shouldRetry);
+            if (rateLimitRequestsPerMinute > 0) {
+                defaultClient.setRateLimit(rateLimitRequestsPerMinute, rateLimitBurst);
+            }
+            for (RequestListener requestListener : requestListeners) {
+                defaultClient.addRequestListener(requestListener);
+            }
+            if (traceSink != null) {
+                defaultClient.setTraceSink(traceSink);
+            }
+            if (traceSampler != null) {
+                defaultClient.setTraceSampler(traceSampler);
+            }
+            client = defaultClient;
+        }
+
+        SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, client, shouldRetry, jsonSerializer,
+                changeAgent, apiScenario);
 
         if(calcBackoff != null) {
             smartsheet.setCalcBackoff(calcBackoff);
@@ -302,6 +571,12 @@ public class SmartsheetBuilder {
 
         if (assumedUser != null) { smartsheet.setAssumedUser(assumedUser); }
 
+        if (executorService != null) { smartsheet.setExecutorService(executorService); }
+
+        if (asyncHttpClient != null) { smartsheet.setAsyncHttpClient(asyncHttpClient); }
+
+        if (singleFlightGets) { smartsheet.setSingleFlightGets(true); }
+
         return smartsheet;
     }
 }
@@ -67,6 +67,17 @@ public interface UserResources {
      */
     public PagedResult<User> listUsers(Set<String> email, PaginationParameters pagination) throws SmartsheetException;
 
+    /**
+     * <p>List all users, loading it a page at a time as it is iterated (the next page is loaded while
+     * the current one is being used).</p>
+     *
+     * @param email the list of email addresses
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded users; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    public Iterable<User> iterateUsers(Set<String> email, int pageSize);
+
     /**
      * <p>Add a user to the organization, without sending email.</p>
      *
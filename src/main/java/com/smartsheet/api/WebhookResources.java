@@ -43,6 +43,16 @@ public interface WebhookResources {
      */
     PagedResult<Webhook> listWebhooks(PaginationParameters paging) throws SmartsheetException;
 
+    /**
+     * <p>List all webhooks, loading it a page at a time as it is iterated (the next page is loaded while
+     * the current one is being used).</p>
+     *
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded webhooks; failures to load a page are thrown by its iterators as
+     * {@link SmartsheetRuntimeException}
+     */
+    Iterable<Webhook> iterateWebhooks(int pageSize);
+
     /**
      * <p>Gets the Webhook specified in the URL.</p>
      *
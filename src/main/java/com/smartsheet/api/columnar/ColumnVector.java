@@ -0,0 +1,273 @@
+package com.smartsheet.api.columnar;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The values of a column of a {@link ColumnarSheet}, stored by type: numbers as doubles, strings as codes into a
+ * dictionary of the distinct strings, booleans as bits; null values are marked in a bitmap. A vector is replaced by
+ * one that can hold more types when a value of another type is added (e.g. a string in a column of numbers).
+ *
+ * Thread Safety: This class is not thread safe while being filled; it is read only afterwards.
+ */
+abstract class ColumnVector {
+    /** the initial number of values a vector has room for */
+    static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Set the value of a row; rows are set in order, each at most once.
+     *
+     * @param row the row index
+     * @param value the value (not null)
+     * @return this vector, or the vector replacing it if it can't hold the value
+     */
+    abstract ColumnVector set(int row, Object value);
+
+    /**
+     * @param row the row index
+     * @return the value, null if there is none
+     */
+    abstract Object get(int row);
+
+    /**
+     * Release the room reserved for further values.
+     *
+     * @param rowCount the number of rows
+     */
+    abstract void trim(int rowCount);
+
+    static int grow(int capacity, int row) {
+        int newCapacity = Math.max(capacity, INITIAL_CAPACITY);
+        while (newCapacity <= row) {
+            newCapacity += newCapacity >> 1;
+        }
+        return newCapacity;
+    }
+
+    /**
+     * A vector made of null values, replaced by a vector of the type of the first value.
+     */
+    static class EmptyVector extends ColumnVector {
+        static final EmptyVector INSTANCE = new EmptyVector();
+
+        @Override
+        ColumnVector set(int row, Object value) {
+            ColumnVector vector;
+            if (value instanceof Number && NumberVector.isExact((Number) value)) {
+                vector = new NumberVector();
+            } else if (value instanceof String) {
+                vector = new StringVector();
+            } else if (value instanceof Boolean) {
+                vector = new BooleanVector();
+            } else {
+                vector = new ObjectVector();
+            }
+            return vector.set(row, value);
+        }
+
+        @Override
+        Object get(int row) {
+            return null;
+        }
+
+        @Override
+        void trim(int rowCount) {
+        }
+    }
+
+    /**
+     * Numbers, as doubles with a bitmap of the rows that have a value.
+     */
+    static class NumberVector extends ColumnVector {
+        private double[] values = new double[0];
+        private final BitSet present = new BitSet();
+
+        /**
+         * @param number the number
+         * @return true if the number is held exactly by a double
+         */
+        static boolean isExact(Number number) {
+            if (number instanceof Double || number instanceof Float) {
+                return true;
+            }
+            if (number instanceof Long || number instanceof Integer || number instanceof Short
+                    || number instanceof Byte) {
+                return (long) number.doubleValue() == number.longValue();
+            }
+            return false;
+        }
+
+        @Override
+        ColumnVector set(int row, Object value) {
+            if (!(value instanceof Number) || !isExact((Number) value)) {
+                return ObjectVector.copyOf(this, row).set(row, value);
+            }
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = ((Number) value).doubleValue();
+            present.set(row);
+            return this;
+        }
+
+        @Override
+        Object get(int row) {
+            return present.get(row) ? values[row] : null;
+        }
+
+        /**
+         * @param row the row index
+         * @return the number, NaN if there is none
+         */
+        double getDouble(int row) {
+            return present.get(row) ? values[row] : Double.NaN;
+        }
+
+        @Override
+        void trim(int rowCount) {
+            if (values.length > rowCount) {
+                values = Arrays.copyOf(values, rowCount);
+            }
+        }
+    }
+
+    /**
+     * Strings, as codes into a dictionary of the distinct strings (a code of -1 for no value).
+     */
+    static class StringVector extends ColumnVector {
+        private int[] codes = new int[0];
+        private String[] dictionary = new String[INITIAL_CAPACITY];
+        private int dictionarySize;
+        /** the codes of the strings, dropped once the vector is trimmed */
+        private Map<String, Integer> codesByString = new HashMap<String, Integer>();
+
+        @Override
+        ColumnVector set(int row, Object value) {
+            if (!(value instanceof String) || codesByString == null) {
+                return ObjectVector.copyOf(this, row).set(row, value);
+            }
+            if (row >= codes.length) {
+                int length = codes.length;
+                codes = Arrays.copyOf(codes, grow(length, row));
+                Arrays.fill(codes, length, codes.length, -1);
+            }
+            Integer code = codesByString.get(value);
+            if (code == null) {
+                if (dictionarySize == dictionary.length) {
+                    dictionary = Arrays.copyOf(dictionary, grow(dictionarySize, dictionarySize));
+                }
+                code = dictionarySize;
+                dictionary[dictionarySize++] = (String) value;
+                codesByString.put((String) value, code);
+            }
+            codes[row] = code;
+            return this;
+        }
+
+        @Override
+        Object get(int row) {
+            int code = row < codes.length ? codes[row] : -1;
+            return code < 0 ? null : dictionary[code];
+        }
+
+        @Override
+        void trim(int rowCount) {
+            if (codes.length > rowCount) {
+                codes = Arrays.copyOf(codes, rowCount);
+            }
+            dictionary = Arrays.copyOf(dictionary, dictionarySize);
+            codesByString = null;
+        }
+    }
+
+    /**
+     * Booleans, as bits with a bitmap of the rows that have a value.
+     */
+    static class BooleanVector extends ColumnVector {
+        private final BitSet values = new BitSet();
+        private final BitSet present = new BitSet();
+
+        @Override
+        ColumnVector set(int row, Object value) {
+            if (!(value instanceof Boolean)) {
+                return ObjectVector.copyOf(this, row).set(row, value);
+            }
+            values.set(row, (Boolean) value);
+            present.set(row);
+            return this;
+        }
+
+        @Override
+        Object get(int row) {
+            return present.get(row) ? values.get(row) : null;
+        }
+
+        @Override
+        void trim(int rowCount) {
+        }
+    }
+
+    /**
+     * Values of any type, as references; used when the values of a column have different types.
+     */
+    static class ObjectVector extends ColumnVector {
+        private Object[] values = new Object[0];
+
+        /**
+         * @param vector the vector to copy
+         * @param rowCount the number of rows set so far
+         * @return a vector holding the values of the vector
+         */
+        static ObjectVector copyOf(ColumnVector vector, int rowCount) {
+            ObjectVector copy = new ObjectVector();
+            copy.values = new Object[grow(0, rowCount)];
+            for (int row = 0; row < rowCount; row++) {
+                copy.values[row] = vector.get(row);
+            }
+            return copy;
+        }
+
+        @Override
+        ColumnVector set(int row, Object value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = value;
+            return this;
+        }
+
+        @Override
+        Object get(int row) {
+            return row < values.length ? values[row] : null;
+        }
+
+        @Override
+        void trim(int rowCount) {
+            if (values.length > rowCount) {
+                values = Arrays.copyOf(values, rowCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.smartsheet.api.columnar;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Cell;
+
+/**
+ * A view of a cell of a {@link ColumnarSheet}; it holds no value of its own.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public class ColumnarCell {
+    private final ColumnarSheet sheet;
+    private final int rowIndex;
+    private final int columnIndex;
+
+    ColumnarCell(ColumnarSheet sheet, int rowIndex, int columnIndex) {
+        this.sheet = sheet;
+        this.rowIndex = rowIndex;
+        this.columnIndex = columnIndex;
+    }
+
+    public long getRowId() {
+        return sheet.getRowId(rowIndex);
+    }
+
+    public Long getColumnId() {
+        return sheet.getColumns().get(columnIndex).getId();
+    }
+
+    /**
+     * @return the value, null if the cell is empty
+     * @see ColumnarSheet#getValue(int, int)
+     */
+    public Object getValue() {
+        return sheet.getValue(rowIndex, columnIndex);
+    }
+
+    /**
+     * @return the value as a number, NaN if the cell is empty or doesn't hold a number
+     */
+    public double getNumber() {
+        return sheet.getNumber(rowIndex, columnIndex);
+    }
+
+    /**
+     * @return the value as a string, null if the cell is empty
+     */
+    public String getString() {
+        return sheet.getString(rowIndex, columnIndex);
+    }
+
+    /**
+     * @return a Cell holding the column id, row id and value of the cell
+     */
+    public Cell toCell() {
+        return new Cell().setColumnId(getColumnId()).setRowId(getRowId()).setValue(getValue());
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarCell{rowId=" + getRowId() + ", columnId=" + getColumnId() + ", value=" + getValue() + "}";
+    }
+}
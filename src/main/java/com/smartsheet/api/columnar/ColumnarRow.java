@@ -0,0 +1,107 @@
+package com.smartsheet.api.columnar;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A view of a row of a {@link ColumnarSheet}; it holds no values of its own.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public class ColumnarRow {
+    private final ColumnarSheet sheet;
+    private final int rowIndex;
+
+    ColumnarRow(ColumnarSheet sheet, int rowIndex) {
+        this.sheet = sheet;
+        this.rowIndex = rowIndex;
+    }
+
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    public long getId() {
+        return sheet.getRowId(rowIndex);
+    }
+
+    /**
+     * @param columnIndex the column index
+     * @return the cell value, null if the cell is empty
+     * @see ColumnarSheet#getValue(int, int)
+     */
+    public Object getValue(int columnIndex) {
+        return sheet.getValue(rowIndex, columnIndex);
+    }
+
+    /**
+     * @param columnIndex the column index
+     * @return the cell value as a number, NaN if the cell is empty or doesn't hold a number
+     */
+    public double getNumber(int columnIndex) {
+        return sheet.getNumber(rowIndex, columnIndex);
+    }
+
+    /**
+     * @param columnIndex the column index
+     * @return the cell value as a string, null if the cell is empty
+     */
+    public String getString(int columnIndex) {
+        return sheet.getString(rowIndex, columnIndex);
+    }
+
+    /**
+     * @param columnIndex the column index
+     * @return a view of the cell
+     */
+    public ColumnarCell getCell(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= sheet.getColumnCount()) {
+            throw new IndexOutOfBoundsException("column " + columnIndex + " of " + sheet.getColumnCount());
+        }
+        return new ColumnarCell(sheet, rowIndex, columnIndex);
+    }
+
+    /**
+     * @return a Row holding the id and the non empty cells of the row
+     */
+    public Row toRow() {
+        List<Cell> cells = new ArrayList<Cell>();
+        for (int columnIndex = 0; columnIndex < sheet.getColumnCount(); columnIndex++) {
+            if (getValue(columnIndex) != null) {
+                cells.add(getCell(columnIndex).toCell());
+            }
+        }
+        Row row = new Row();
+        row.setId(getId());
+        row.setCells(cells);
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarRow{id=" + getId() + "}";
+    }
+}
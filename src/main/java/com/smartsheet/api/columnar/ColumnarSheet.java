@@ -0,0 +1,273 @@
+package com.smartsheet.api.columnar;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetRowHandler;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A read only, compact in-memory copy of the cell values of a sheet, for holding large sheets (e.g. for analysis).
+ * Rather than a {@link Row} object with a list of {@link Cell} objects per row, it keeps an array of row ids and a
+ * vector of values per column: numbers as doubles, strings dictionary encoded (so the strings repeated in a column,
+ * such as picklist values, are stored once), booleans as bits. Only the cell values are kept, not their display
+ * values, formats, links or other properties.</p>
+ *
+ * <p>The rows and cells are read through {@link ColumnarRow} and {@link ColumnarCell} views, which only hold
+ * positions into the vectors.</p>
+ *
+ * <p>A ColumnarSheet is made from a {@link Sheet} by {@link #of(Sheet)}, or filled with the rows as they are read,
+ * without the Sheet ever being held in memory, by passing a {@link Builder} to
+ * {@link com.smartsheet.api.SheetResources#getSheet(long, java.util.EnumSet, java.util.EnumSet, java.util.Set,
+ * java.util.Set, java.util.Set, Integer, Integer, SheetRowHandler)}.</p>
+ *
+ * <p>Numbers are held as doubles, so whole numbers are returned as Double values. Numbers that a double can't hold
+ * exactly make the column fall back to storing the values as objects, as do values of different types in the same
+ * column.</p>
+ *
+ * <p>Thread Safety: This class is immutable and thread safe.</p>
+ */
+public class ColumnarSheet {
+    private final Long id;
+    private final String name;
+    private final Integer version;
+    private final List<Column> columns;
+    private final Map<Long, Integer> columnIndexes;
+    private final long[] rowIds;
+    private final int rowCount;
+    private final ColumnVector[] vectors;
+
+    private ColumnarSheet(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.version = builder.version;
+        this.columns = Collections.unmodifiableList(builder.columns);
+        this.columnIndexes = builder.columnIndexes;
+        this.rowCount = builder.rowCount;
+        this.rowIds = Arrays.copyOf(builder.rowIds, rowCount);
+        this.vectors = builder.vectors;
+        for (ColumnVector vector : vectors) {
+            vector.trim(rowCount);
+        }
+    }
+
+    /**
+     * Copy the cell values of a sheet.
+     *
+     * @param sheet the sheet, with its columns
+     * @return the columnar sheet
+     */
+    public static ColumnarSheet of(Sheet sheet) {
+        Util.throwIfNull(sheet);
+        Builder builder = new Builder();
+        builder.onSheet(sheet);
+        if (sheet.getRows() != null) {
+            for (Row row : sheet.getRows()) {
+                builder.onRow(row);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Read a sheet from its JSON representation (as returned by GET /sheets/{sheetId}), one row at a time.
+     *
+     * @param inputStream the JSON
+     * @return the columnar sheet
+     * @throws SmartsheetException if the JSON can't be read
+     */
+    public static ColumnarSheet fromJson(InputStream inputStream) throws SmartsheetException {
+        Util.throwIfNull(inputStream);
+        Builder builder = new Builder();
+        new JacksonJsonSerializer().deserializeSheetRows(inputStream, builder);
+        return builder.build();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the columns of the sheet (their order gives the column indexes used by this class)
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public int getColumnCount() {
+        return vectors.length;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @param columnId the column id
+     * @return the index of the column, -1 if the sheet has no such column
+     */
+    public int getColumnIndex(long columnId) {
+        Integer index = columnIndexes.get(columnId);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @param rowIndex the row index
+     * @return the row id
+     */
+    public long getRowId(int rowIndex) {
+        checkRow(rowIndex);
+        return rowIds[rowIndex];
+    }
+
+    /**
+     * @param rowIndex the row index
+     * @param columnIndex the column index
+     * @return the cell value (a Double, String, Boolean or, for columns of mixed values, any other value), null if
+     * the cell is empty
+     */
+    public Object getValue(int rowIndex, int columnIndex) {
+        checkRow(rowIndex);
+        return vectors[columnIndex].get(rowIndex);
+    }
+
+    /**
+     * @param rowIndex the row index
+     * @param columnIndex the column index
+     * @return the cell value as a number, NaN if the cell is empty or doesn't hold a number
+     */
+    public double getNumber(int rowIndex, int columnIndex) {
+        checkRow(rowIndex);
+        ColumnVector vector = vectors[columnIndex];
+        if (vector instanceof ColumnVector.NumberVector) {
+            return ((ColumnVector.NumberVector) vector).getDouble(rowIndex);
+        }
+        Object value = vector.get(rowIndex);
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+
+    /**
+     * @param rowIndex the row index
+     * @param columnIndex the column index
+     * @return the cell value as a string, null if the cell is empty
+     */
+    public String getString(int rowIndex, int columnIndex) {
+        Object value = getValue(rowIndex, columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * @param rowIndex the row index
+     * @return a view of the row
+     */
+    public ColumnarRow getRow(int rowIndex) {
+        checkRow(rowIndex);
+        return new ColumnarRow(this, rowIndex);
+    }
+
+    private void checkRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException("row " + rowIndex + " of " + rowCount);
+        }
+    }
+
+    /**
+     * <p>Fills a ColumnarSheet with the rows of a sheet as they are read.</p>
+     *
+     * <p>Thread Safety: This class is not thread safe.</p>
+     */
+    public static class Builder implements SheetRowHandler {
+        private Long id;
+        private String name;
+        private Integer version;
+        private List<Column> columns;
+        private Map<Long, Integer> columnIndexes;
+        private long[] rowIds = new long[ColumnVector.INITIAL_CAPACITY];
+        private int rowCount;
+        private ColumnVector[] vectors;
+
+        public void onSheet(Sheet sheet) {
+            if (columns != null) {
+                throw new IllegalStateException("The sheet was already received");
+            }
+            id = sheet.getId();
+            name = sheet.getName();
+            version = sheet.getVersion();
+            columns = sheet.getColumns() == null ? new ArrayList<Column>() : new ArrayList<Column>(sheet.getColumns());
+            columnIndexes = new HashMap<Long, Integer>();
+            vectors = new ColumnVector[columns.size()];
+            for (int i = 0; i < vectors.length; i++) {
+                columnIndexes.put(columns.get(i).getId(), i);
+                vectors[i] = ColumnVector.EmptyVector.INSTANCE;
+            }
+        }
+
+        public void onRow(Row row) {
+            if (columns == null) {
+                throw new IllegalStateException("The sheet must be received before its rows");
+            }
+            if (rowCount == rowIds.length) {
+                rowIds = Arrays.copyOf(rowIds, ColumnVector.grow(rowCount, rowCount));
+            }
+            rowIds[rowCount] = row.getId() == null ? 0 : row.getId();
+            if (row.getCells() != null) {
+                for (Cell cell : row.getCells()) {
+                    Integer index = cell.getColumnId() == null ? null : columnIndexes.get(cell.getColumnId());
+                    if (index != null && cell.getValue() != null) {
+                        vectors[index] = vectors[index].set(rowCount, cell.getValue());
+                    }
+                }
+            }
+            rowCount++;
+        }
+
+        /**
+         * @return the columnar sheet holding the rows received so far
+         */
+        public ColumnarSheet build() {
+            if (columns == null) {
+                throw new IllegalStateException("No sheet was received");
+            }
+            return new ColumnarSheet(this);
+        }
+    }
+}
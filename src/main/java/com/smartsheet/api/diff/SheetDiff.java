@@ -0,0 +1,79 @@
+package com.smartsheet.api.diff;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Row;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The changes that turn the rows of a sheet into the desired rows, as computed by {@link SheetDiffer}: the rows to pass
+ * to {@link com.smartsheet.api.SheetRowResources#addRows}, {@link com.smartsheet.api.SheetRowResources#updateRows}
+ * and {@link com.smartsheet.api.SheetRowResources#deleteRows}.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class SheetDiff {
+    private final List<Row> rowsToAdd;
+    private final List<Row> rowsToUpdate;
+    private final Set<Long> rowIdsToDelete;
+
+    SheetDiff(List<Row> rowsToAdd, List<Row> rowsToUpdate, Set<Long> rowIdsToDelete) {
+        this.rowsToAdd = rowsToAdd;
+        this.rowsToUpdate = rowsToUpdate;
+        this.rowIdsToDelete = rowIdsToDelete;
+    }
+
+    /**
+     * @return the new rows, holding the non empty cells of the desired rows, placed at the bottom of the sheet
+     */
+    public List<Row> getRowsToAdd() {
+        return rowsToAdd;
+    }
+
+    /**
+     * @return the changed rows, each holding the row id and only the cells whose value changed
+     */
+    public List<Row> getRowsToUpdate() {
+        return rowsToUpdate;
+    }
+
+    /**
+     * @return the ids of the rows that have no desired row
+     */
+    public Set<Long> getRowIdsToDelete() {
+        return rowIdsToDelete;
+    }
+
+    /**
+     * @return true if the sheet already holds the desired rows
+     */
+    public boolean isEmpty() {
+        return rowsToAdd.isEmpty() && rowsToUpdate.isEmpty() && rowIdsToDelete.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SheetDiff{add=" + rowsToAdd.size() + ", update=" + rowsToUpdate.size() + ", delete="
+                + rowIdsToDelete.size() + "}";
+    }
+}
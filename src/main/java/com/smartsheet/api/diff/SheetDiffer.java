@@ -0,0 +1,233 @@
+package com.smartsheet.api.diff;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Compares the rows of a sheet with the desired rows (e.g. a table being mirrored into the sheet) and computes the
+ * smallest set of rows to add, update and delete to make the sheet match, see {@link SheetDiff}.</p>
+ *
+ * <p>Rows are matched on the value of a key column (the primary column by default), through a hash map, so the
+ * comparison takes time linear in the number of cells. The desired rows hold a cell (column id and value) for each
+ * column to keep in sync; the other columns of the sheet are left as they are. Values are compared as the API returns
+ * them: numbers by numeric value (so 1 equals 1.0) and empty strings as empty cells.</p>
+ *
+ * <p>Rows of the sheet with an empty key are left alone. If several rows of the sheet have the same key, the first is
+ * kept and the others are deleted.</p>
+ *
+ * <p>Thread Safety: This class is thread safe once configured.</p>
+ */
+public class SheetDiffer {
+    private final Long keyColumnId;
+    private boolean deleteMissingRows = true;
+
+    /**
+     * Constructor, matching the rows on the primary column.
+     */
+    public SheetDiffer() {
+        this.keyColumnId = null;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param keyColumnId the id of the column whose values identify the rows
+     */
+    public SheetDiffer(long keyColumnId) {
+        this.keyColumnId = keyColumnId;
+    }
+
+    /**
+     * Set whether the rows of the sheet that have no desired row are deleted (the default) or left alone.
+     *
+     * @param deleteMissingRows true to delete the rows
+     * @return this differ
+     */
+    public SheetDiffer setDeleteMissingRows(boolean deleteMissingRows) {
+        this.deleteMissingRows = deleteMissingRows;
+        return this;
+    }
+
+    /**
+     * Compute the changes that turn the rows of a sheet into the desired rows.
+     *
+     * @param sheet the current sheet, with its columns and rows (with their cells)
+     * @param desiredRows the desired rows, each with a cell holding the key
+     * @return the changes
+     * @throws IllegalArgumentException if the key column isn't found, or a desired row has no key or the same key as
+     * another
+     */
+    public SheetDiff diff(Sheet sheet, List<Row> desiredRows) {
+        Util.throwIfNull(sheet, desiredRows);
+        long keyColumnId = getKeyColumnId(sheet);
+
+        List<Row> currentRows = sheet.getRows() == null ? new ArrayList<Row>() : sheet.getRows();
+        Map<Object, Row> currentByKey = new HashMap<Object, Row>(capacity(currentRows.size()));
+        Set<Long> rowIdsToDelete = new LinkedHashSet<Long>();
+        for (Row row : currentRows) {
+            Object key = normalize(getValue(row.getCells(), keyColumnId));
+            if (key == null) {
+                continue;
+            }
+            if (currentByKey.containsKey(key)) {
+                rowIdsToDelete.add(row.getId());
+            } else {
+                currentByKey.put(key, row);
+            }
+        }
+
+        List<Row> rowsToAdd = new ArrayList<Row>();
+        List<Row> rowsToUpdate = new ArrayList<Row>();
+        Set<Object> desiredKeys = new HashSet<Object>(capacity(desiredRows.size()));
+        for (Row desiredRow : desiredRows) {
+            List<Cell> desiredCells = desiredRow.getCells() == null ? new ArrayList<Cell>() : desiredRow.getCells();
+            Object key = normalize(getValue(desiredCells, keyColumnId));
+            if (key == null) {
+                throw new IllegalArgumentException("A desired row has no value in the key column");
+            }
+            if (!desiredKeys.add(key)) {
+                throw new IllegalArgumentException("Several desired rows have the key " + key);
+            }
+
+            Row currentRow = currentByKey.get(key);
+            if (currentRow == null) {
+                List<Cell> cells = new ArrayList<Cell>(desiredCells.size());
+                for (Cell desiredCell : desiredCells) {
+                    if (normalize(desiredCell.getValue()) != null) {
+                        cells.add(new Cell().setColumnId(desiredCell.getColumnId()).setValue(desiredCell.getValue()));
+                    }
+                }
+                rowsToAdd.add(new Row.AddRowBuilder().setToBottom(true).setCells(cells).build());
+                continue;
+            }
+
+            List<Cell> changedCells = null;
+            Map<Long, Object> currentValues = getValues(currentRow.getCells());
+            for (Cell desiredCell : desiredCells) {
+                Object value = normalize(desiredCell.getValue());
+                if (!equal(value, normalize(currentValues.get(desiredCell.getColumnId())))) {
+                    if (changedCells == null) {
+                        changedCells = new ArrayList<Cell>();
+                    }
+                    // an empty string clears the cell
+                    changedCells.add(new Cell().setColumnId(desiredCell.getColumnId())
+                            .setValue(value == null ? "" : desiredCell.getValue()));
+                }
+            }
+            if (changedCells != null) {
+                rowsToUpdate.add(new Row.UpdateRowBuilder().setRowId(currentRow.getId()).setCells(changedCells)
+                        .build());
+            }
+        }
+
+        if (deleteMissingRows) {
+            for (Map.Entry<Object, Row> entry : currentByKey.entrySet()) {
+                if (!desiredKeys.contains(entry.getKey())) {
+                    rowIdsToDelete.add(entry.getValue().getId());
+                }
+            }
+        } else {
+            rowIdsToDelete.clear();
+        }
+        return new SheetDiff(rowsToAdd, rowsToUpdate, rowIdsToDelete);
+    }
+
+    private long getKeyColumnId(Sheet sheet) {
+        if (keyColumnId != null) {
+            return keyColumnId;
+        }
+        if (sheet.getColumns() != null) {
+            for (Column column : sheet.getColumns()) {
+                if (Boolean.TRUE.equals(column.getPrimary())) {
+                    return column.getId();
+                }
+            }
+        }
+        throw new IllegalArgumentException("The sheet has no primary column");
+    }
+
+    private static Object getValue(List<Cell> cells, long columnId) {
+        if (cells != null) {
+            for (Cell cell : cells) {
+                if (cell.getColumnId() != null && cell.getColumnId() == columnId) {
+                    return cell.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<Long, Object> getValues(List<Cell> cells) {
+        if (cells == null) {
+            return new HashMap<Long, Object>();
+        }
+        Map<Long, Object> values = new HashMap<Long, Object>(capacity(cells.size()));
+        for (Cell cell : cells) {
+            values.put(cell.getColumnId(), cell.getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Normalize a cell value so that the values the API considers equal are equal, and hash the same.
+     *
+     * @param value the value
+     * @return the normalized value, null for an empty cell
+     */
+    static Object normalize(Object value) {
+        if (value == null || "".equals(value)) {
+            return null;
+        }
+        if (value instanceof Number) {
+            BigDecimal decimal;
+            try {
+                decimal = new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                // NaN or infinite
+                return value;
+            }
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        }
+        return value;
+    }
+
+    private static boolean equal(Object value1, Object value2) {
+        return value1 == null ? value2 == null : value1.equals(value2);
+    }
+
+    private static int capacity(int size) {
+        return Math.max(16, (int) (size / .75f) + 1);
+    }
+}
@@ -21,8 +21,11 @@ package com.smartsheet.api.internal;
  */
 
 
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.smartsheet.api.AsyncCallback;
 import com.smartsheet.api.AuthorizationException;
 import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
@@ -34,24 +37,27 @@ import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.util.CallbackFuture;
+import com.smartsheet.api.internal.util.CapturingInputStream;
+import com.smartsheet.api.internal.util.ConcatenatedInputStream;
+import com.smartsheet.api.internal.util.RequestBodyBuffer;
+import com.smartsheet.api.internal.util.RewindableFileInputStream;
+import com.smartsheet.api.internal.util.SingleFlight;
 import com.smartsheet.api.internal.util.StreamUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.CopyOrMoveRowDirective;
 import com.smartsheet.api.models.CopyOrMoveRowResult;
+import com.smartsheet.api.models.FieldProjection;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.Result;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -62,6 +68,9 @@ import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * This is the base class of the Smartsheet REST API resources.
@@ -74,6 +83,12 @@ public abstract class AbstractResources {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractResources.class);
 
+    /** number of the most recently read response bytes kept to report a parse failure (covers Jackson's read-ahead) */
+    private static final int RESPONSE_LOG_WINDOW = 16 * 1024;
+
+    /** number of bytes logged either side of the point where parsing a response failed */
+    private static final int RESPONSE_LOG_CONTEXT = 64;
+
     /** The Constant BUFFER_SIZE. */
     private final static int BUFFER_SIZE = 4098;
     private Map<String, String> headers;
@@ -203,6 +218,24 @@ public abstract class AbstractResources {
      * @throws SmartsheetException the smartsheet exception
      */
     protected <T> T getResource(String path, Class<T> objectClass) throws SmartsheetException  {
+        return getResource(path, objectClass, null);
+    }
+
+    /**
+     * Get a resource from Smartsheet REST API, skipping the properties left out by a projection as the response is
+     * parsed.
+     *
+     * Exceptions: see {@link #getResource(String, Class)}
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource.
+     * @param objectClass the object class
+     * @param projection the properties to leave out (null to read them all)
+     * @return the resource
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T> T getResource(String path, Class<T> objectClass, FieldProjection projection)
+            throws SmartsheetException {
         Util.throwIfNull(path, objectClass);
 
         if(path.isEmpty()) {
@@ -211,45 +244,104 @@ public abstract class AbstractResources {
             throw new ResourceNotFoundException(error);
         }
 
-        HttpRequest  request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        final HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+
+        SingleFlight<byte[]> singleFlight = smartsheet.getSingleFlight();
+        if (singleFlight != null) {
+            // identical GETs in progress share one response; each caller deserializes its own copy of the resource
+            String key = request.getUri() + " " + new TreeMap<String, String>(request.getHeaders());
+            byte[] content = singleFlight.execute(key, new Callable<byte[]>() {
+                public byte[] call() throws SmartsheetException {
+                    return getResourceContent(request);
+                }
+            });
+            return deserializeResource(new ByteArrayInputStream(content), objectClass, projection);
+        }
 
         T obj = null;
-        String content = null;
         try {
             HttpResponse response = this.smartsheet.getHttpClient().request(request);
-            InputStream inputStream = response.getEntity().getContent();
             switch (response.getStatusCode()) {
                 case 200:
-                    try {
-                        if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
-                        }
-                        obj = this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
-                    } catch (JsonParseException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (JsonMappingException e) {
-                        log.info("failure mapping '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure loading '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    }
+                    obj = deserializeResource(response.getEntity().getContent(), objectClass, projection);
                     break;
                 default:
                     handleError(response);
             }
-        } catch (JSONSerializerException jsx) {
-            log.info("failed to parse '{}'", content, jsx);
-            throw jsx;
         } finally {
             smartsheet.getHttpClient().releaseConnection();
         }
         return obj;
     }
 
+    /**
+     * Get the content of a resource, undeserialized.
+     *
+     * @param path the relative path of the resource
+     * @return the content
+     * @throws SmartsheetException if the resource can't be got
+     */
+    protected byte[] getResourceContent(String path) throws SmartsheetException {
+        Util.throwIfNull(path);
+        return getResourceContent(createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET));
+    }
+
+    /**
+     * Get the content of a resource.
+     *
+     * @param request the GET request
+     * @return the content
+     * @throws SmartsheetException if the resource can't be got
+     */
+    private byte[] getResourceContent(HttpRequest request) throws SmartsheetException {
+        try {
+            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+            if (response.getStatusCode() != 200) {
+                handleError(response);
+            }
+            return StreamUtil.readBytesFromStream(response.getEntity().getContent());
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
+        } finally {
+            smartsheet.getHttpClient().releaseConnection();
+        }
+    }
+
+    /**
+     * Deserialize a resource, logging the part of the content that fails to parse.
+     *
+     * @param <T> the generic type
+     * @param inputStream the content
+     * @param objectClass the object class
+     * @param projection the properties to leave out (may be null)
+     * @return the resource
+     * @throws SmartsheetException if the content can't be deserialized
+     */
+    private <T> T deserializeResource(InputStream inputStream, Class<T> objectClass, FieldProjection projection)
+            throws SmartsheetException {
+        CapturingInputStream capture = null;
+        try {
+            if (log.isInfoEnabled()) {
+                // keep just enough of the content (as it is read) to describe a parse failure
+                capture = captureForLog(inputStream);
+                inputStream = capture;
+            }
+            if (projection != null) {
+                return this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream, projection);
+            }
+            return this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
+        } catch (JsonParseException e) {
+            logParseFailure("parsing", capture, e);
+            throw new SmartsheetException(e);
+        } catch (JsonMappingException e) {
+            logParseFailure("mapping", capture, e);
+            throw new SmartsheetException(e);
+        } catch (IOException e) {
+            logParseFailure("loading", capture, e);
+            throw new SmartsheetException(e);
+        }
+    }
+
     /**
      * Create a resource using Smartsheet REST API.
      *
@@ -275,45 +367,31 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        RequestBodyBuffer body = setJsonEntity(request, object, false);
 
         T obj = null;
-        String content = null;
+        CapturingInputStream capture = null;
         try {
             HttpResponse response = this.smartsheet.getHttpClient().request(request);
             InputStream inputStream = response.getEntity().getContent();
             switch (response.getStatusCode()) {
                 case 200:
-                    // Can't be here as the stream has not ...???
-                    try {
-                        if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
-                        }
-                        obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
-                    } catch (JsonParseException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (JsonMappingException e) {
-                        log.info("failure mapping '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure loading '{}'", content, e);
-                        throw new SmartsheetException(e);
+                    if (log.isInfoEnabled()) {
+                        // keep just enough of the content (as it is read) to describe a parse failure
+                        capture = captureForLog(inputStream);
+                        inputStream = capture;
                     }
+                    obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
                     break;
                 default:
                     handleError(response);
             }
+        } catch (JSONSerializerException jsx) {
+            logParseFailure("parsing", capture, jsx);
+            throw jsx;
         } finally {
             smartsheet.getHttpClient().releaseConnection();
+            body.release();
         }
 
         return obj;
@@ -338,40 +416,129 @@ public abstract class AbstractResources {
      * @throws SmartsheetException the smartsheet exception
      */
     protected <T> T createResourceWithAttachment(String path, Class<T> objectClass, T object, String partName,InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException {
-        Util.throwIfNull(path, object);
+        return createResourceWithAttachment(path, objectClass, object, partName, inputStream, contentType, -1,
+                attachmentName);
+    }
+
+    /**
+     * Create a resource using Smartsheet REST API, uploading the object and a file as a multipart request.
+     *
+     * The request is made by the configured HttpClient so it is subject to the same retry policy and tracing as any
+     * other request; it can only be retried if the inputStream supports mark/reset (e.g. RewindableFileInputStream).
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @param object the object to create
+     * @param partName the name of the part holding the object
+     * @param inputStream the content of the file
+     * @param contentType the content type of the file
+     * @param contentLength the length of the file (-1 if not known)
+     * @param attachmentName the name of the file
+     * @return the created resource
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T, S> T createResourceWithAttachment(String path, Class<T> objectClass, S object, String partName,
+                                                    InputStream inputStream, String contentType, long contentLength,
+                                                    String attachmentName) throws SmartsheetException {
+        Util.throwIfNull(path, object, inputStream, contentType);
         Util.throwIfEmpty(path);
 
-        HttpRequest request;
-        final String boundary = "----" + System.currentTimeMillis() ;
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(path));
+        HttpRequest request = createMultipartRequest(smartsheet.getBaseURI().resolve(path), partName,
+                this.getSmartsheet().getJsonSerializer().serialize(object), inputStream, contentType, contentLength,
+                attachmentName);
 
+        T obj = null;
         try {
-            uploadFile.setHeader("Content-Type", "multipart/form-data; boundary=" + boundary);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+            switch (response.getStatusCode()) {
+                case 200:
+                    obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
+                            response.getEntity().getContent()).getResult();
+                    break;
+                default:
+                    handleError(response);
+            }
+        } finally {
+            smartsheet.getHttpClient().releaseConnection();
         }
+        return obj;
+    }
 
-        MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-        builder.setBoundary(boundary);
-        builder.addTextBody(partName, this.getSmartsheet().getJsonSerializer().serialize(object), ContentType.APPLICATION_JSON);
-        builder.addBinaryBody("file", inputStream, ContentType.create(contentType), attachmentName);
-        org.apache.http.HttpEntity multipart = builder.build();
-
-        uploadFile.setEntity(multipart);
-
-        T obj = null;
-        //implement switch case
+    /**
+     * Create a resource using Smartsheet REST API, uploading the object and a file as a multipart request. The file is
+     * streamed (so the request can be retried) and closed when the request completes.
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @param object the object to create
+     * @param partName the name of the part holding the object
+     * @param file the file to upload
+     * @param contentType the content type of the file
+     * @return the created resource
+     * @throws SmartsheetException the smartsheet exception
+     * @throws FileNotFoundException if the file can't be opened
+     */
+    protected <T, S> T createResourceWithAttachment(String path, Class<T> objectClass, S object, String partName,
+                                                    File file, String contentType)
+            throws SmartsheetException, FileNotFoundException {
+        Util.throwIfNull(file);
+        RewindableFileInputStream inputStream = new RewindableFileInputStream(file);
         try {
-            CloseableHttpResponse response = httpClient.execute(uploadFile);
-            org.apache.http.HttpEntity responseEntity = response.getEntity();
-            obj = this.getSmartsheet().getJsonSerializer().deserializeResult(objectClass,
-                    responseEntity.getContent()).getResult();
+            return createResourceWithAttachment(path, objectClass, object, partName, inputStream, contentType,
+                    inputStream.getLength(), file.getName());
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException ignore) {
+            }
         }
-        catch (Exception e) {
-            throw  new RuntimeException(e);
+    }
+
+    /**
+     * Create a multipart/form-data POST request with a JSON part and a file part. The body is streamed from the file
+     * content (never held in memory as a whole) and its length is known whenever the file length is.
+     *
+     * @param uri the URI
+     * @param partName the name of the JSON part
+     * @param json the content of the JSON part
+     * @param inputStream the content of the file
+     * @param contentType the content type of the file
+     * @param contentLength the length of the file (-1 if not known)
+     * @param attachmentName the name of the file
+     * @return the http request
+     */
+    HttpRequest createMultipartRequest(URI uri, String partName, String json, InputStream inputStream,
+                                       String contentType, long contentLength, String attachmentName) {
+        final String boundary = "----" + System.currentTimeMillis();
+        final byte[] head;
+        final byte[] tail;
+        try {
+            head = ("--" + boundary + "\r\n" +
+                    "Content-Disposition: form-data; name=\"" + partName + "\"\r\n" +
+                    "Content-Type: application/json; charset=UTF-8\r\n" +
+                    "\r\n" +
+                    json + "\r\n" +
+                    "--" + boundary + "\r\n" +
+                    "Content-Disposition: form-data; name=\"file\"; filename=\"" +
+                            attachmentName.replace("\"", "\\\"") + "\"\r\n" +
+                    "Content-Type: " + contentType + "\r\n" +
+                    "\r\n").getBytes("UTF-8");
+            tail = ("\r\n--" + boundary + "--\r\n").getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
         }
-        return obj;
+
+        HttpRequest request = createHttpRequest(uri, HttpMethod.POST);
+        request.getHeaders().put("Content-Type", "multipart/form-data; boundary=" + boundary);
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("multipart/form-data; boundary=" + boundary);
+        entity.setContent(new ConcatenatedInputStream(new ByteArrayInputStream(head), inputStream,
+                new ByteArrayInputStream(tail)));
+        entity.setContentLength(contentLength < 0 ? -1 : head.length + contentLength + tail.length);
+        request.setEntity(entity);
+        return request;
     }
 
     /**
@@ -394,19 +561,32 @@ public abstract class AbstractResources {
      * @throws SmartsheetException the smartsheet exception
      */
     protected <T> T updateResource(String path, Class<T> objectClass, T object) throws SmartsheetException {
+        return updateResource(path, objectClass, object, false);
+    }
+
+    /**
+     * Update a resource using Smartsheet REST API, optionally sending only the changed properties of the
+     * {@link com.smartsheet.api.models.ChangeTracked} objects.
+     *
+     * Exceptions: see {@link #updateResource(String, Class, Object)}
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource
+     * @param objectClass the resource object class
+     * @param object the object to update
+     * @param changesOnly whether to send only the changed properties
+     * @return the updated resource
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T> T updateResource(String path, Class<T> objectClass, T object, boolean changesOnly)
+            throws SmartsheetException {
         Util.throwIfNull(path, object);
         Util.throwIfEmpty(path);
 
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        RequestBodyBuffer body = setJsonEntity(request, object, changesOnly);
 
 
         T obj = null;
@@ -422,6 +602,7 @@ public abstract class AbstractResources {
             }
         } finally {
             smartsheet.getHttpClient().releaseConnection();
+            body.release();
         }
 
         return obj;
@@ -622,13 +803,7 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        RequestBodyBuffer body = setJsonEntity(request, objectToPost, false);
 
 
         List<S> obj = null;
@@ -644,6 +819,7 @@ public abstract class AbstractResources {
             }
         } finally {
             smartsheet.getHttpClient().releaseConnection();
+            body.release();
         }
 
         return obj;
@@ -675,13 +851,7 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        RequestBodyBuffer body = setJsonEntity(request, objectToPost, false);
 
 
         CopyOrMoveRowResult obj = null;
@@ -697,6 +867,7 @@ public abstract class AbstractResources {
             }
         } finally {
             smartsheet.getHttpClient().releaseConnection();
+            body.release();
         }
 
         return obj;
@@ -723,18 +894,32 @@ public abstract class AbstractResources {
      */
     protected <T, S> List<S> putAndReceiveList(String path, T objectToPut, Class<S> objectClassToReceive)
             throws SmartsheetException {
+        return putAndReceiveList(path, objectToPut, objectClassToReceive, false);
+    }
+
+    /**
+     * Put an object to Smartsheet REST API and receive a list of objects from response, optionally sending only the
+     * changed properties of the {@link com.smartsheet.api.models.ChangeTracked} objects.
+     *
+     * Exceptions: see {@link #putAndReceiveList(String, Object, Class)}
+     *
+     * @param <T> the generic type
+     * @param <S> the generic type
+     * @param path the relative path of the resource collections
+     * @param objectToPut the object to put
+     * @param objectClassToReceive the resource object class to receive
+     * @param changesOnly whether to send only the changed properties
+     * @return the object list
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T, S> List<S> putAndReceiveList(String path, T objectToPut, Class<S> objectClassToReceive,
+                                               boolean changesOnly) throws SmartsheetException {
         Util.throwIfNull(path, objectToPut, objectClassToReceive);
         Util.throwIfEmpty(path);
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPut, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        RequestBodyBuffer body = setJsonEntity(request, objectToPut, changesOnly);
 
 
         List<S> obj = null;
@@ -750,12 +935,278 @@ public abstract class AbstractResources {
             }
         } finally {
             smartsheet.getHttpClient().releaseConnection();
+            body.release();
         }
 
         return obj;
     }
 
 
+    /**
+     * Get a resource from Smartsheet REST API without blocking; see {@link #getResource(String, Class)}.
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource
+     * @param objectClass the object class
+     * @param callback notified when the call completes (may be null)
+     * @return the future resource
+     */
+    protected <T> Future<T> getResourceAsync(String path, final Class<T> objectClass, AsyncCallback<T> callback) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        return new AsyncResourceCall<T>(this, request, null, callback) {
+            T read(InputStream content) throws SmartsheetException {
+                return deserializeResource(content, objectClass, null);
+            }
+        }.send();
+    }
+
+    /**
+     * List resources (with paging info) using Smartsheet REST API without blocking; see
+     * {@link #listResourcesWithWrapper(String, Class)}.
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @param callback notified when the call completes (may be null)
+     * @return the future resources
+     */
+    protected <T> Future<PagedResult<T>> listResourcesWithWrapperAsync(String path, final Class<T> objectClass,
+                                                                       AsyncCallback<PagedResult<T>> callback) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        return new AsyncResourceCall<PagedResult<T>>(this, request, null, callback) {
+            PagedResult<T> read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializeDataWrapper(objectClass, content);
+            }
+        }.send();
+    }
+
+    /**
+     * Create a resource using Smartsheet REST API without blocking; see {@link #createResource(String, Class, Object)}.
+     *
+     * @param <T> the generic type of object to return/deserialize
+     * @param <S> the generic type of object to serialize
+     * @param path the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @param object the object to create
+     * @param callback notified when the call completes (may be null)
+     * @return the future created resource
+     */
+    protected <T, S> Future<T> createResourceAsync(String path, final Class<T> objectClass, S object,
+                                                   AsyncCallback<T> callback) {
+        Util.throwIfNull(path, object, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        RequestBodyBuffer body;
+        try {
+            body = setJsonEntity(request, object, false);
+        } catch (JSONSerializerException e) {
+            return failedAsync(e, callback);
+        }
+        return new AsyncResourceCall<T>(this, request, body, callback) {
+            T read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializeResult(objectClass, content).getResult();
+            }
+        }.send();
+    }
+
+    /**
+     * Update a resource using Smartsheet REST API without blocking; see
+     * {@link #updateResource(String, Class, Object, boolean)}.
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource
+     * @param objectClass the resource object class
+     * @param object the object to update
+     * @param changesOnly whether to send only the changed properties
+     * @param callback notified when the call completes (may be null)
+     * @return the future updated resource
+     */
+    protected <T> Future<T> updateResourceAsync(String path, final Class<T> objectClass, T object, boolean changesOnly,
+                                                AsyncCallback<T> callback) {
+        Util.throwIfNull(path, object);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        RequestBodyBuffer body;
+        try {
+            body = setJsonEntity(request, object, changesOnly);
+        } catch (JSONSerializerException e) {
+            return failedAsync(e, callback);
+        }
+        return new AsyncResourceCall<T>(this, request, body, callback) {
+            T read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializeResult(objectClass, content).getResult();
+            }
+        }.send();
+    }
+
+    /**
+     * Delete a resource from Smartsheet REST API without blocking; see {@link #deleteResource(String, Class)}.
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource
+     * @param objectClass the resource object class
+     * @param callback notified when the call completes (may be null)
+     * @return the future completing once the resource is deleted
+     */
+    protected <T> Future<Void> deleteResourceAsync(String path, final Class<T> objectClass,
+                                                   AsyncCallback<Void> callback) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        return new AsyncResourceCall<Void>(this, request, null, callback) {
+            Void read(InputStream content) throws SmartsheetException {
+                smartsheet.getJsonSerializer().deserializeResult(objectClass, content);
+                return null;
+            }
+        }.send();
+    }
+
+    /**
+     * Delete resources and return a list from Smartsheet REST API without blocking; see
+     * {@link #deleteListResources(String, Class)}.
+     *
+     * @param <T> the generic type
+     * @param path the relative path of the resource
+     * @param objectClass the resource object class
+     * @param callback notified when the call completes (may be null)
+     * @return the future list of ids deleted
+     */
+    protected <T> Future<List<T>> deleteListResourcesAsync(String path, final Class<T> objectClass,
+                                                           AsyncCallback<List<T>> callback) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        return new AsyncResourceCall<List<T>>(this, request, null, callback) {
+            List<T> read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializeListResult(objectClass, content).getResult();
+            }
+        }.send();
+    }
+
+    /**
+     * Post an object to Smartsheet REST API and receive a list of objects from response without blocking; see
+     * {@link #postAndReceiveList(String, Object, Class)}.
+     *
+     * @param <T> the generic type
+     * @param <S> the generic type
+     * @param path the path
+     * @param objectToPost the object to post
+     * @param objectClassToReceive the object class to receive
+     * @param callback notified when the call completes (may be null)
+     * @return the future list
+     */
+    protected <T, S> Future<List<S>> postAndReceiveListAsync(String path, T objectToPost,
+                                                             final Class<S> objectClassToReceive,
+                                                             AsyncCallback<List<S>> callback) {
+        Util.throwIfNull(path, objectToPost, objectClassToReceive);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
+        RequestBodyBuffer body;
+        try {
+            body = setJsonEntity(request, objectToPost, false);
+        } catch (JSONSerializerException e) {
+            return failedAsync(e, callback);
+        }
+        return new AsyncResourceCall<List<S>>(this, request, body, callback) {
+            List<S> read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializeListResult(objectClassToReceive, content).getResult();
+            }
+        }.send();
+    }
+
+    /**
+     * Put an object to Smartsheet REST API and receive a list of objects from response without blocking; see
+     * {@link #putAndReceiveList(String, Object, Class, boolean)}.
+     *
+     * @param <T> the generic type
+     * @param <S> the generic type
+     * @param path the relative path of the resource collections
+     * @param objectToPut the object to put
+     * @param objectClassToReceive the resource object class to receive
+     * @param changesOnly whether to send only the changed properties
+     * @param callback notified when the call completes (may be null)
+     * @return the future object list
+     */
+    protected <T, S> Future<List<S>> putAndReceiveListAsync(String path, T objectToPut,
+                                                            final Class<S> objectClassToReceive, boolean changesOnly,
+                                                            AsyncCallback<List<S>> callback) {
+        Util.throwIfNull(path, objectToPut, objectClassToReceive);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
+        RequestBodyBuffer body;
+        try {
+            body = setJsonEntity(request, objectToPut, changesOnly);
+        } catch (JSONSerializerException e) {
+            return failedAsync(e, callback);
+        }
+        return new AsyncResourceCall<List<S>>(this, request, body, callback) {
+            List<S> read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializeListResult(objectClassToReceive, content).getResult();
+            }
+        }.send();
+    }
+
+    /**
+     * Return the future of an asynchronous call that failed before its request could be made.
+     *
+     * @param <T> the type of the call result
+     * @param error the error
+     * @param callback notified of the error (may be null)
+     * @return the failed future
+     */
+    protected static <T> Future<T> failedAsync(Throwable error, AsyncCallback<T> callback) {
+        CallbackFuture<T> future = new CallbackFuture<T>(callback);
+        future.fail(error);
+        return future;
+    }
+
+    /**
+     * Serialize an object into the JSON body of a request. The body is sent straight from the buffer it was
+     * serialized into, which must be released once the request is done.
+     *
+     * @param request the request
+     * @param object the object to serialize
+     * @param changesOnly whether to serialize only the changed properties (see
+     * {@link com.smartsheet.api.internal.json.JsonSerializer#serializeChanges})
+     * @return the buffer holding the body
+     * @throws JSONSerializerException if the object can't be serialized
+     */
+    protected RequestBodyBuffer setJsonEntity(HttpRequest request, Object object, boolean changesOnly)
+            throws JSONSerializerException {
+        RequestBodyBuffer body = RequestBodyBuffer.acquire();
+        try {
+            if (changesOnly) {
+                this.smartsheet.getJsonSerializer().serializeChanges(object, body);
+            } else {
+                this.smartsheet.getJsonSerializer().serialize(object, body);
+            }
+        } catch (JSONSerializerException e) {
+            body.release();
+            throw e;
+        } catch (RuntimeException e) {
+            body.release();
+            throw e;
+        }
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        entity.setContent(body.toInputStream());
+        entity.setContentLength(body.size());
+        request.setEntity(entity);
+        return body;
+    }
+
     /**
      * Create an HttpRequest.
      * <p>
@@ -777,6 +1228,15 @@ public abstract class AbstractResources {
         return request;
     }
 
+    /**
+     * Create an Apache HttpPost with the headers of the SDK requests.
+     *
+     * @param uri the URI
+     * @return the http post
+     * @deprecated uploads are now sent through the configured HttpClient as an {@link HttpRequest}; use
+     * {@link #createHttpRequest(URI, HttpMethod)}
+     */
+    @Deprecated
     protected HttpPost createHttpPost(URI uri) {
         HttpPost httpPost = new HttpPost(uri);
         Map<String, String> headers = createHeaders();
@@ -785,6 +1245,7 @@ public abstract class AbstractResources {
         }
         return httpPost;
     }
+
     public Attachment attachFile(String url, InputStream inputStream, String contentType, long contentLength, String attachmentName)
             throws SmartsheetException {
         Util.throwIfNull(inputStream, contentType);
@@ -833,36 +1294,10 @@ public abstract class AbstractResources {
     public <T> Attachment attachFile(String url, T t, String partName, InputStream inputstream, String contentType, String attachmentName)
             throws SmartsheetException {
         Util.throwIfNull(inputstream, contentType);
-        Attachment attachment = null;
-        final String boundary = "----" + System.currentTimeMillis() ;
-
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(url));
-
-        try {
-            uploadFile.setHeader("Content-Type", "multipart/form-data; boundary=" + boundary);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-        builder.setBoundary(boundary);
-        builder.addTextBody(partName, this.getSmartsheet().getJsonSerializer().serialize(t), ContentType.APPLICATION_JSON);
-        builder.addBinaryBody("file", inputstream, ContentType.create(contentType), attachmentName);
-        org.apache.http.HttpEntity multipart = builder.build();
-
-        uploadFile.setEntity(multipart);
-
-        try {
-            CloseableHttpResponse response = httpClient.execute(uploadFile);
-            org.apache.http.HttpEntity responseEntity = response.getEntity();
-            attachment = this.getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
-                    responseEntity.getContent()).getResult();
-        }
-        catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-        return attachment;
+        long contentLength = inputstream instanceof RewindableFileInputStream ?
+                ((RewindableFileInputStream) inputstream).getLength() : -1;
+        return createResourceWithAttachment(url, Attachment.class, t, partName, inputstream, contentType,
+                contentLength, attachmentName);
     }
 
 
@@ -1011,6 +1446,44 @@ public abstract class AbstractResources {
         return headers;
     }
 
+    /**
+     * Wrap response content so that the start of it (getResponseLogLength() characters) and a window of the most
+     * recently read bytes are kept as it is read, which is all that's needed to describe a failure to parse it.
+     */
+    CapturingInputStream captureForLog(InputStream inputStream) {
+        final int logLength = getResponseLogLength();
+        // a UTF-8 character takes up to 4 bytes
+        final int maxCapture = logLength == -1 ? Integer.MAX_VALUE : logLength * 4;
+        return new CapturingInputStream(inputStream, maxCapture, RESPONSE_LOG_WINDOW);
+    }
+
+    /**
+     * Log a failure to parse response content, including the offset where the parser gave up and the content around
+     * it.
+     *
+     * @param failure what failed (parsing, mapping, ...)
+     * @param capture the captured content (null if not captured)
+     * @param e the failure
+     */
+    void logParseFailure(String failure, CapturingInputStream capture, Throwable e) {
+        if (capture == null) {
+            return;
+        }
+        long offset = capture.getBytesRead();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException) {
+                JsonLocation location = ((JsonProcessingException) cause).getLocation();
+                if (location != null && location.getByteOffset() >= 0) {
+                    offset = location.getByteOffset();
+                }
+                break;
+            }
+        }
+        log.info("failure {} '{}' at byte {} near '{}'", failure,
+                StreamUtil.toUtf8StringOrHex(capture.getCapturedBytes(), getResponseLogLength()), offset,
+                StreamUtil.toUtf8StringOrHex(capture.getBytesAround(offset, RESPONSE_LOG_CONTEXT), -1), e);
+    }
+
     int getResponseLogLength() {
          // not cached to allow for it to be changed dynamically by client code
          return Integer.getInteger(PROPERTY_RESPONSE_LOG_CHARS, 1024);
@@ -0,0 +1,65 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.AsyncReportResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.enums.ReportInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.concurrent.Future;
+
+/**
+ * This is the implementation of the AsyncReportResources. Requests are made through the
+ * {@link com.smartsheet.api.internal.http.AsyncHttpClient} of the SmartsheetImpl, so no thread waits for a response;
+ * responses are read on its executor.
+ *
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncReportResourcesImpl extends AbstractResources implements AsyncReportResources {
+
+    /**
+     * Constructor.
+     *
+     * Exceptions: - IllegalArgumentException : if any argument is null
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncReportResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+    }
+
+    public Future<Report> getReport(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page,
+                                    AsyncCallback<Report> callback) {
+        return this.getResourceAsync(ReportResourcesImpl.getReportPath(reportId, includes, pageSize, page),
+                Report.class, callback);
+    }
+
+    public Future<PagedResult<Report>> listReports(PaginationParameters parameters, Date modifiedSince,
+                                                   AsyncCallback<PagedResult<Report>> callback) {
+        return this.listResourcesWithWrapperAsync(ReportResourcesImpl.listReportsPath(parameters, modifiedSince),
+                Report.class, callback);
+    }
+}
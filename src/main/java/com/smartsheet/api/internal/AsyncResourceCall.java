@@ -0,0 +1,151 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.CallbackFuture;
+import com.smartsheet.api.internal.util.RequestBodyBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An asynchronous call that makes a single request through the {@link com.smartsheet.api.internal.http.AsyncHttpClient}
+ * of a SmartsheetImpl. The response is handled (read into the result, or turned into the exception of an error
+ * response) on the executor used for asynchronous calls, so that neither the I/O threads of the client nor the
+ * executor threads wait for the response.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+abstract class AsyncResourceCall<T> extends CallbackFuture<T> implements AsyncCallback<HttpResponse> {
+    private final AbstractResources resources;
+    private final HttpRequest request;
+
+    /** the buffer holding the request body, until the request is done; null if there is none (or it's released) */
+    private final AtomicReference<RequestBodyBuffer> body;
+
+    /** the request in flight */
+    private volatile Future<HttpResponse> response;
+
+    /**
+     * Constructor.
+     *
+     * @param resources the resources making the call
+     * @param request the request
+     * @param body the buffer holding the request body, released once the request is done (may be null)
+     * @param callback notified when the call completes (may be null)
+     */
+    AsyncResourceCall(AbstractResources resources, HttpRequest request, RequestBodyBuffer body,
+                      AsyncCallback<T> callback) {
+        super(callback);
+        this.resources = resources;
+        this.request = request;
+        this.body = new AtomicReference<RequestBodyBuffer>(body);
+    }
+
+    /**
+     * Read the result out of the content of a successful response.
+     *
+     * @param content the content
+     * @return the result
+     * @throws SmartsheetException if the content can't be read
+     * @throws IOException if the content can't be read
+     */
+    abstract T read(InputStream content) throws SmartsheetException, IOException;
+
+    /**
+     * Send the request.
+     *
+     * @return this call
+     */
+    AsyncResourceCall<T> send() {
+        try {
+            response = resources.getSmartsheet().getAsyncHttpClient().request(request, this);
+        } catch (RuntimeException e) {
+            onFailure(e);
+            return this;
+        }
+        if (isCancelled()) {
+            response.cancel(true);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        Future<HttpResponse> request = response;
+        if (cancelled && request != null) {
+            request.cancel(true);
+        }
+        return cancelled;
+    }
+
+    public void onSuccess(final HttpResponse httpResponse) {
+        releaseBody();
+        Runnable handler = new Runnable() {
+            public void run() {
+                handle(httpResponse);
+            }
+        };
+        try {
+            resources.getSmartsheet().getExecutorService().execute(handler);
+        } catch (RejectedExecutionException e) {
+            // the executor was shut down; handle the response here rather than leave the call incomplete
+            handler.run();
+        }
+    }
+
+    public void onFailure(Throwable error) {
+        releaseBody();
+        fail(error);
+    }
+
+    private void handle(HttpResponse httpResponse) {
+        if (isDone()) {
+            // cancelled
+            return;
+        }
+        try {
+            if (httpResponse.getStatusCode() != 200) {
+                resources.handleError(httpResponse);
+            }
+            complete(read(httpResponse.getEntity().getContent()));
+        } catch (IOException e) {
+            fail(new SmartsheetException(e));
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    private void releaseBody() {
+        RequestBodyBuffer buffer = body.getAndSet(null);
+        if (buffer != null) {
+            buffer.release();
+        }
+    }
+}
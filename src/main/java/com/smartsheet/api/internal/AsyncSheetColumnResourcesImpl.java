@@ -0,0 +1,81 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.AsyncSheetColumnResources;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.enums.ColumnInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * This is the implementation of the AsyncSheetColumnResources. Requests are made through the
+ * {@link com.smartsheet.api.internal.http.AsyncHttpClient} of the SmartsheetImpl, so no thread waits for a response;
+ * responses are read on its executor.
+ *
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncSheetColumnResourcesImpl extends AbstractResources implements AsyncSheetColumnResources {
+
+    /**
+     * Constructor.
+     *
+     * Exceptions: - IllegalArgumentException : if any argument is null
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncSheetColumnResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+    }
+
+    public Future<PagedResult<Column>> listColumns(long sheetId, EnumSet<ColumnInclusion> includes,
+                                                   PaginationParameters pagination,
+                                                   AsyncCallback<PagedResult<Column>> callback) {
+        return this.listResourcesWithWrapperAsync(SheetColumnResourcesImpl.listColumnsPath(sheetId, includes,
+                pagination), Column.class, callback);
+    }
+
+    public Future<List<Column>> addColumns(long sheetId, List<Column> columns, AsyncCallback<List<Column>> callback) {
+        return this.postAndReceiveListAsync("sheets/" + sheetId + "/columns", columns, Column.class, callback);
+    }
+
+    public Future<Void> deleteColumn(long sheetId, long columnId, AsyncCallback<Void> callback) {
+        return this.deleteResourceAsync("sheets/" + sheetId + "/columns/" + columnId, Column.class, callback);
+    }
+
+    public Future<Column> updateColumn(long sheetId, Column column, AsyncCallback<Column> callback) {
+        Util.throwIfNull(column);
+        return this.updateResourceAsync("sheets/" + sheetId + "/columns/" + column.getId(), Column.class, column,
+                true, callback);
+    }
+
+    public Future<Column> getColumn(long sheetId, long columnId, EnumSet<ColumnInclusion> includes,
+                                    AsyncCallback<Column> callback) {
+        return this.getResourceAsync(SheetColumnResourcesImpl.getColumnPath(sheetId, columnId, includes),
+                Column.class, callback);
+    }
+}
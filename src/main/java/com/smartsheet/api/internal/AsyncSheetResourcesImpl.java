@@ -0,0 +1,112 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.AsyncSheetColumnResources;
+import com.smartsheet.api.AsyncSheetResources;
+import com.smartsheet.api.AsyncSheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+/**
+ * This is the implementation of the AsyncSheetResources. Requests are made through the
+ * {@link com.smartsheet.api.internal.http.AsyncHttpClient} of the SmartsheetImpl, so no thread waits for a response;
+ * responses are read on its executor.
+ *
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncSheetResourcesImpl extends AbstractResources implements AsyncSheetResources {
+
+    private final AsyncSheetRowResources rows;
+
+    private final AsyncSheetColumnResources columns;
+
+    /**
+     * Constructor.
+     *
+     * Exceptions: - IllegalArgumentException : if any argument is null
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncSheetResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+        this.rows = new AsyncSheetRowResourcesImpl(smartsheet);
+        this.columns = new AsyncSheetColumnResourcesImpl(smartsheet);
+    }
+
+    public Future<PagedResult<Sheet>> listSheets(EnumSet<SourceInclusion> includes, PaginationParameters pagination,
+                                                 Date modifiedSince, AsyncCallback<PagedResult<Sheet>> callback) {
+        return this.listResourcesWithWrapperAsync(SheetResourcesImpl.listSheetsPath(includes, pagination,
+                modifiedSince), Sheet.class, callback);
+    }
+
+    public Future<Sheet> getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                                  Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                                  Integer page, AsyncCallback<Sheet> callback) {
+        return this.getResourceAsync(SheetResourcesImpl.getSheetPath(id, includes, excludes, rowIds, rowNumbers,
+                columnIds, pageSize, page), Sheet.class, callback);
+    }
+
+    public Future<Integer> getSheetVersion(long id, AsyncCallback<Integer> callback) {
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve("sheets/" + id + "/version"),
+                HttpMethod.GET);
+        return new AsyncResourceCall<Integer>(this, request, null, callback) {
+            Integer read(InputStream content) throws SmartsheetException, IOException {
+                return smartsheet.getJsonSerializer().deserialize(Sheet.class, content).getVersion();
+            }
+        }.send();
+    }
+
+    public Future<Sheet> createSheet(Sheet sheet, AsyncCallback<Sheet> callback) {
+        return this.createResourceAsync("sheets", Sheet.class, sheet, callback);
+    }
+
+    public Future<Sheet> updateSheet(Sheet sheet, AsyncCallback<Sheet> callback) {
+        return this.updateResourceAsync("sheets/" + sheet.getId(), Sheet.class, sheet, false, callback);
+    }
+
+    public Future<Void> deleteSheet(long id, AsyncCallback<Void> callback) {
+        return this.deleteResourceAsync("sheets/" + id, Sheet.class, callback);
+    }
+
+    public AsyncSheetRowResources rowResources() {
+        return rows;
+    }
+
+    public AsyncSheetColumnResources columnResources() {
+        return columns;
+    }
+}
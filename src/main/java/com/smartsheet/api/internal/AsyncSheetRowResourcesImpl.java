@@ -0,0 +1,110 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.AsyncSheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.json.JSONSerializerException;
+import com.smartsheet.api.internal.util.RequestBodyBuffer;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+/**
+ * This is the implementation of the AsyncSheetRowResources. Requests are made through the
+ * {@link com.smartsheet.api.internal.http.AsyncHttpClient} of the SmartsheetImpl, so no thread waits for a response;
+ * responses are read on its executor.
+ *
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncSheetRowResourcesImpl extends AbstractResources implements AsyncSheetRowResources {
+
+    /**
+     * Constructor.
+     *
+     * Exceptions: - IllegalArgumentException : if any argument is null
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncSheetRowResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+    }
+
+    public Future<List<Row>> addRows(long sheetId, List<Row> rows, AsyncCallback<List<Row>> callback) {
+        return this.postAndReceiveListAsync("sheets/" + sheetId + "/rows", rows, Row.class, callback);
+    }
+
+    public Future<PartialRowUpdateResult> addRowsAllowPartialSuccess(long sheetId, List<Row> rows,
+                                                                     AsyncCallback<PartialRowUpdateResult> callback) {
+        return doPartialRowOperation(sheetId, rows, HttpMethod.POST, callback);
+    }
+
+    public Future<Row> getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes,
+                              EnumSet<ObjectExclusion> excludes, AsyncCallback<Row> callback) {
+        return this.getResourceAsync(SheetRowResourcesImpl.getRowPath(sheetId, rowId, includes, excludes), Row.class,
+                callback);
+    }
+
+    public Future<List<Row>> updateRows(long sheetId, List<Row> rows, AsyncCallback<List<Row>> callback) {
+        return this.putAndReceiveListAsync("sheets/" + sheetId + "/rows", rows, Row.class, true, callback);
+    }
+
+    public Future<PartialRowUpdateResult> updateRowsAllowPartialSuccess(long sheetId, List<Row> rows,
+                                                                        AsyncCallback<PartialRowUpdateResult> callback) {
+        return doPartialRowOperation(sheetId, rows, HttpMethod.PUT, callback);
+    }
+
+    public Future<List<Long>> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound,
+                                         AsyncCallback<List<Long>> callback) {
+        return this.deleteListResourcesAsync(SheetRowResourcesImpl.deleteRowsPath(sheetId, rowIds,
+                ignoreRowsNotFound), Long.class, callback);
+    }
+
+    private Future<PartialRowUpdateResult> doPartialRowOperation(long sheetId, List<Row> rows, HttpMethod method,
+                                                                 AsyncCallback<PartialRowUpdateResult> callback) {
+        Util.throwIfNull(rows);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(
+                SheetRowResourcesImpl.partialRowsPath(sheetId)), method);
+        RequestBodyBuffer body;
+        try {
+            body = setJsonEntity(request, rows, method == HttpMethod.PUT);
+        } catch (JSONSerializerException e) {
+            return failedAsync(e, callback);
+        }
+        return new AsyncResourceCall<PartialRowUpdateResult>(this, request, body, callback) {
+            PartialRowUpdateResult read(InputStream content) throws SmartsheetException {
+                return smartsheet.getJsonSerializer().deserializePartialRowUpdateResult(content);
+            }
+        }.send();
+    }
+}
@@ -20,14 +20,15 @@ package com.smartsheet.api.internal;
  */
 
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.util.RewindableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 /**
  * This is the implementation of the AssociatedAttachmentResources.
@@ -116,7 +117,15 @@ public class AttachmentVersioningResourcesImpl extends AbstractResources impleme
         Util.throwIfNull(attachmentId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachNewVersion(sheetId ,attachmentId, new FileInputStream(file), contentType, file.length(), file.getName());
+        RewindableFileInputStream inputStream = new RewindableFileInputStream(file);
+        try {
+            return attachNewVersion(sheetId ,attachmentId, inputStream, contentType, file.length(), file.getName());
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException ignore) {
+            }
+        }
     }
 
     /**
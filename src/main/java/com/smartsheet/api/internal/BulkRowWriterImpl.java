@@ -0,0 +1,274 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.BulkRowWriter;
+import com.smartsheet.api.SheetRowResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRestException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.BulkRowFailedItem;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+/**
+ * This is the implementation of the BulkRowWriter.
+ *
+ * Thread Safety: This class is not thread safe; the chunks are written concurrently by the calling thread and on the
+ * executor of the SmartsheetImpl, each by a single thread.
+ */
+public class BulkRowWriterImpl implements BulkRowWriter {
+    /** result code of a Result where some rows failed */
+    static final int PARTIAL_SUCCESS_RESULT_CODE = 3;
+
+    private final SmartsheetImpl smartsheet;
+    private final SheetRowResources rowResources;
+    private final List<Operation> operations = new ArrayList<Operation>();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean ordered = true;
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the SmartsheetImpl whose executor writes the chunks
+     * @param rowResources the row resources used to write the chunks
+     */
+    public BulkRowWriterImpl(SmartsheetImpl smartsheet, SheetRowResources rowResources) {
+        Util.throwIfNull(smartsheet, rowResources);
+        this.smartsheet = smartsheet;
+        this.rowResources = rowResources;
+    }
+
+    public BulkRowWriter setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public BulkRowWriter setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    public BulkRowWriter addRows(long sheetId, List<Row> rows) {
+        Util.throwIfNull(rows);
+        operations.add(new Operation(sheetId, false, new ArrayList<Row>(rows)));
+        return this;
+    }
+
+    public BulkRowWriter updateRows(long sheetId, List<Row> rows) {
+        Util.throwIfNull(rows);
+        operations.add(new Operation(sheetId, true, new ArrayList<Row>(rows)));
+        return this;
+    }
+
+    public List<PartialRowUpdateResult> execute() throws SmartsheetException {
+        List<Operation> operations = new ArrayList<Operation>(this.operations);
+        this.operations.clear();
+
+        // group the chunks into the units of work that may run concurrently
+        Map<Object, List<Chunk>> work = new LinkedHashMap<Object, List<Chunk>>();
+        for (Operation operation : operations) {
+            for (int offset = 0; offset < operation.rows.size(); offset += chunkSize) {
+                Chunk chunk = new Chunk(operation, offset,
+                        operation.rows.subList(offset, Math.min(offset + chunkSize, operation.rows.size())));
+                operation.chunks.add(chunk);
+                Object key = ordered ? operation.sheetId : chunk;
+                List<Chunk> chunks = work.get(key);
+                if (chunks == null) {
+                    chunks = new ArrayList<Chunk>();
+                    work.put(key, chunks);
+                }
+                chunks.add(chunk);
+            }
+        }
+
+        // each worker writes the next unwritten unit until there are none left; the calling thread is one of the
+        // workers, so the writes progress (and execute() can't deadlock) even when called on a busy executor
+        Queue<List<Chunk>> units = new ConcurrentLinkedQueue<List<Chunk>>(work.values());
+        CountDownLatch written = new CountDownLatch(units.size());
+        Worker worker = new Worker(units, written);
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 1; i < work.size(); i++) {
+            futures.add(smartsheet.getExecutorService().submit(worker));
+        }
+        try {
+            worker.call();
+            // wait for the units taken by other workers; the workers that haven't started have nothing left to write
+            written.await();
+        } catch (InterruptedException e) {
+            units.clear();
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException("interrupted while writing rows", e);
+        }
+        for (Future<Void> future : futures) {
+            future.cancel(false);
+        }
+
+        List<PartialRowUpdateResult> results = new ArrayList<PartialRowUpdateResult>();
+        for (Operation operation : operations) {
+            results.add(combine(operation));
+        }
+        return results;
+    }
+
+    /**
+     * Writes units of chunks until there are none left.
+     */
+    private class Worker implements Callable<Void> {
+        private final Queue<List<Chunk>> units;
+        private final CountDownLatch written;
+
+        Worker(Queue<List<Chunk>> units, CountDownLatch written) {
+            this.units = units;
+            this.written = written;
+        }
+
+        public Void call() {
+            for (List<Chunk> chunks = units.poll(); chunks != null; chunks = units.poll()) {
+                try {
+                    for (Chunk chunk : chunks) {
+                        write(chunk);
+                    }
+                } finally {
+                    written.countDown();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Write a chunk, turning a failure of the whole chunk (whatever it is, so that every chunk gets a result) into a
+     * failed item for each of its rows.
+     */
+    private void write(Chunk chunk) {
+        try {
+            chunk.result = chunk.operation.update
+                    ? rowResources.updateRowsAllowPartialSuccess(chunk.operation.sheetId, chunk.rows)
+                    : rowResources.addRowsAllowPartialSuccess(chunk.operation.sheetId, chunk.rows);
+        } catch (Throwable t) {
+            chunk.result = failedResult(chunk, toError(t));
+        }
+    }
+
+    private static PartialRowUpdateResult failedResult(Chunk chunk, Error error) {
+        List<BulkRowFailedItem> failedItems = new ArrayList<BulkRowFailedItem>();
+        for (int i = 0; i < chunk.rows.size(); i++) {
+            failedItems.add(new BulkRowFailedItem().setIndex(i).setError(error).setRowId(chunk.rows.get(i).getId()));
+        }
+        PartialRowUpdateResult result = new PartialRowUpdateResult();
+        result.setResultCode(PARTIAL_SUCCESS_RESULT_CODE);
+        result.setMessage(error.getMessage());
+        result.setResult(new ArrayList<Row>());
+        result.setFailedItems(failedItems);
+        return result;
+    }
+
+    private static Error toError(Throwable e) {
+        Error error = new Error().setMessage(e.getMessage());
+        if (e instanceof SmartsheetRestException) {
+            error.setErrorCode(((SmartsheetRestException) e).getErrorCode());
+            error.setRefId(((SmartsheetRestException) e).getRefId());
+        }
+        return error;
+    }
+
+    /**
+     * Combine the results of the chunks of an operation, with the failed item indexes referring to the operation rows.
+     */
+    private static PartialRowUpdateResult combine(Operation operation) {
+        List<Row> rows = new ArrayList<Row>();
+        List<BulkRowFailedItem> failedItems = new ArrayList<BulkRowFailedItem>();
+        Integer version = null;
+        for (Chunk chunk : operation.chunks) {
+            if (chunk.result.getResult() != null) {
+                rows.addAll(chunk.result.getResult());
+            }
+            if (chunk.result.getFailedItems() != null) {
+                for (BulkRowFailedItem failedItem : chunk.result.getFailedItems()) {
+                    // the index of an item can be missing, leaving only its row id to identify it
+                    Integer index = failedItem.getIndex() == null ? null : chunk.offset + failedItem.getIndex();
+                    failedItems.add(new BulkRowFailedItem().setIndex(index)
+                            .setError(failedItem.getError()).setRowId(failedItem.getRowId()));
+                }
+            }
+            if (chunk.result.getVersion() != null && (version == null || chunk.result.getVersion() > version)) {
+                version = chunk.result.getVersion();
+            }
+        }
+        PartialRowUpdateResult result = new PartialRowUpdateResult();
+        result.setResultCode(failedItems.isEmpty() ? 0 : PARTIAL_SUCCESS_RESULT_CODE);
+        result.setMessage(failedItems.isEmpty() ? "SUCCESS" : "PARTIAL_SUCCESS");
+        result.setVersion(version);
+        result.setResult(rows);
+        result.setFailedItems(failedItems);
+        return result;
+    }
+
+    /**
+     * An addRows/updateRows call.
+     */
+    private static class Operation {
+        final long sheetId;
+        final boolean update;
+        final List<Row> rows;
+        final List<Chunk> chunks = new ArrayList<Chunk>();
+
+        Operation(long sheetId, boolean update, List<Row> rows) {
+            this.sheetId = sheetId;
+            this.update = update;
+            this.rows = rows;
+        }
+    }
+
+    /**
+     * The rows of an operation sent in one request, and the result of that request.
+     */
+    private static class Chunk {
+        final Operation operation;
+        final int offset;
+        final List<Row> rows;
+        volatile PartialRowUpdateResult result;
+
+        Chunk(Operation operation, int offset, List<Row> rows) {
+            this.operation = operation;
+            this.offset = offset;
+            this.rows = rows;
+        }
+    }
+}
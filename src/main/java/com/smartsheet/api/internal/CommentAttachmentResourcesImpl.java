@@ -20,6 +20,7 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.util.RewindableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 
@@ -85,7 +86,15 @@ public class CommentAttachmentResourcesImpl extends AbstractResources implements
         Util.throwIfNull(sheetId, commentId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFileWithSimpleUpload(sheetId, commentId, new FileInputStream(file), contentType, file.length(), file.getName());
+        RewindableFileInputStream inputStream = new RewindableFileInputStream(file);
+        try {
+            return attachFileWithSimpleUpload(sheetId, commentId, inputStream, contentType, file.length(), file.getName());
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException ignore) {
+            }
+        }
     }
 
     /**
@@ -21,6 +21,7 @@ package com.smartsheet.api.internal;
  */
 
 import com.smartsheet.api.ContactResources;
+import com.smartsheet.api.PageLoader;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.models.Contact;
 import com.smartsheet.api.models.PagedResult;
@@ -74,4 +75,18 @@ public class ContactResourcesImpl extends AbstractResources implements ContactRe
         }
         return this.listResourcesWithWrapper(path, Contact.class);
     }
+
+    /**
+     * List all contacts, loading it a page at a time as it is iterated.
+     *
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded list
+     */
+    public Iterable<Contact> iterateContacts(int pageSize) {
+        return smartsheet.iterate(new PageLoader<Contact>() {
+            public PagedResult<Contact> loadPage(PaginationParameters parameters) throws SmartsheetException {
+                return listContacts(parameters);
+            }
+        }, pageSize);
+    }
 }
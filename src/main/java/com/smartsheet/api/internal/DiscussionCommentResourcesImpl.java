@@ -23,9 +23,7 @@ import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Comment;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 /**
  * This is the implementation of the DiscussionCommentResources.
  *
@@ -89,11 +87,7 @@ public class DiscussionCommentResourcesImpl extends AbstractResources implements
         String path = "sheets/" + sheetId + "/discussions/" + discussionId + "/comments";
         Util.throwIfNull(sheetId, comment, file, contentType);
 
-        return this.addCommentWithAttachment(path, comment, new FileInputStream(file), contentType, file.getName());
-    }
-
-    private Comment addCommentWithAttachment(String path, Comment comment, InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException{
-        return this.createResourceWithAttachment(path, Comment.class, comment, "comment", inputStream , contentType, attachmentName);
+        return this.createResourceWithAttachment(path, Comment.class, comment, "comment", file, contentType);
     }
 
     /**
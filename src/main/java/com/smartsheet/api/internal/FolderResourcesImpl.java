@@ -21,6 +21,7 @@ package com.smartsheet.api.internal;
  */
 
 import com.smartsheet.api.FolderResources;
+import com.smartsheet.api.PageLoader;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.models.ContainerDestination;
@@ -157,6 +158,21 @@ public class FolderResourcesImpl extends AbstractResources implements FolderReso
         return this.listResourcesWithWrapper(path, Folder.class);
     }
 
+    /**
+     * List child folders of a given folder, loading it a page at a time as it is iterated.
+     *
+     * @param parentFolderId the parent folder id
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded list
+     */
+    public Iterable<Folder> iterateFolders(final long parentFolderId, int pageSize) {
+        return smartsheet.iterate(new PageLoader<Folder>() {
+            public PagedResult<Folder> loadPage(PaginationParameters parameters) throws SmartsheetException {
+                return listFolders(parentFolderId, parameters);
+            }
+        }, pageSize);
+    }
+
     /**
      * Create a folder.
      *
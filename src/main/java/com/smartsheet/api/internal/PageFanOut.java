@@ -0,0 +1,185 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.AbstractRow;
+import com.smartsheet.api.models.AbstractSheet;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads all of the pages of a sheet or report: page 1 first, to learn the total row count, then the other pages
+ * concurrently, with at most a given number of page requests in flight, merging their rows in row order.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+class PageFanOut<S extends AbstractSheet<R, C, L>, R extends AbstractRow<C, L>, C extends Column, L extends Cell> {
+    /**
+     * Reads one page.
+     */
+    interface PageReader<S> {
+        S readPage(int page) throws SmartsheetException;
+    }
+
+    private final SmartsheetImpl smartsheet;
+    private final PageReader<S> reader;
+    private final int pageSize;
+    private final int parallelism;
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the SmartsheetImpl whose executor reads the pages
+     * @param reader reads a page
+     * @param pageSize the number of rows in a page
+     * @param parallelism the maximum number of pages read at once (including by the calling thread)
+     */
+    PageFanOut(SmartsheetImpl smartsheet, PageReader<S> reader, int pageSize, int parallelism) {
+        Util.throwIfNull(smartsheet, reader);
+        if (pageSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("pageSize and parallelism must be positive");
+        }
+        this.smartsheet = smartsheet;
+        this.reader = reader;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Read all of the pages.
+     *
+     * @return page 1, holding the rows of all of the pages
+     * @throws SmartsheetException if any page can't be read
+     */
+    S read() throws SmartsheetException {
+        S first = reader.readPage(1);
+        int totalRowCount = first.getTotalRowCount() != null ? first.getTotalRowCount() : 0;
+        int pageCount = (totalRowCount + pageSize - 1) / pageSize;
+        if (pageCount <= 1) {
+            return first;
+        }
+
+        List<S> pages = new ArrayList<S>(pageCount);
+        pages.add(first);
+        for (int i = 1; i < pageCount; i++) {
+            pages.add(null);
+        }
+
+        // each worker reads the next unread page until there are none left, so the workers cap the requests in flight;
+        // the calling thread is one of the workers, so the pages get read (and read() can't deadlock) even when called
+        // on a busy executor
+        AtomicInteger nextPage = new AtomicInteger(2);
+        CountDownLatch read = new CountDownLatch(pageCount - 1);
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Worker worker = new Worker(pages, nextPage, read, failure);
+
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 1; i < Math.min(parallelism, pageCount - 1); i++) {
+            futures.add(smartsheet.getExecutorService().submit(worker));
+        }
+        try {
+            worker.call();
+            // wait for the pages taken by other workers; the workers that haven't started have nothing left to read
+            read.await();
+        } catch (InterruptedException e) {
+            nextPage.set(pageCount + 1);
+            Thread.currentThread().interrupt();
+            throw new SmartsheetException("interrupted while reading pages", e);
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(false);
+            }
+        }
+        Throwable cause = failure.get();
+        if (cause instanceof SmartsheetException) {
+            throw (SmartsheetException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        List<R> rows = new ArrayList<R>(totalRowCount);
+        synchronized (pages) {
+            for (S page : pages) {
+                if (page.getRows() != null) {
+                    rows.addAll(page.getRows());
+                }
+            }
+        }
+        first.setRows(rows);
+        return first;
+    }
+
+    /**
+     * Reads pages until there are none left, or until a page fails to be read; the first failure stops all of the
+     * workers from starting any more pages.
+     */
+    private class Worker implements Callable<Void> {
+        private final List<S> pages;
+        private final AtomicInteger nextPage;
+        private final CountDownLatch read;
+        private final AtomicReference<Throwable> failure;
+
+        Worker(List<S> pages, AtomicInteger nextPage, CountDownLatch read, AtomicReference<Throwable> failure) {
+            this.pages = pages;
+            this.nextPage = nextPage;
+            this.read = read;
+            this.failure = failure;
+        }
+
+        public Void call() {
+            for (int page = nextPage.getAndIncrement(); page <= pages.size(); page = nextPage.getAndIncrement()) {
+                try {
+                    S result = reader.readPage(page);
+                    synchronized (pages) {
+                        pages.set(page - 1, result);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                    stop();
+                } finally {
+                    read.countDown();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Stop the workers from starting any more pages, counting the pages that won't be read as done.
+         */
+        private void stop() {
+            for (int page = nextPage.getAndSet(pages.size() + 1); page <= pages.size(); page++) {
+                read.countDown();
+            }
+        }
+    }
+}
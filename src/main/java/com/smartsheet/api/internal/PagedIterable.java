@@ -0,0 +1,138 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.PageLoader;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRuntimeException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * A list that is loaded a page at a time as it is iterated. While the objects of a page are being used, the next page
+ * is loaded on the executor of the SmartsheetImpl, so at most two pages are held at once and, once it is running,
+ * iteration doesn't wait on page loads unless the consumer is faster than the API. An iterator that is abandoned
+ * stops loading pages, leaving at most one page load running.
+ *
+ * Failures to load a page are thrown from hasNext()/next() as a SmartsheetRuntimeException.
+ *
+ * Thread Safety: This class is thread safe; its iterators are not.
+ */
+public class PagedIterable<T> implements Iterable<T> {
+    private final SmartsheetImpl smartsheet;
+    private final PageLoader<T> loader;
+    private final int pageSize;
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the SmartsheetImpl whose executor loads the pages
+     * @param loader loads the pages
+     * @param pageSize the number of objects in a page
+     */
+    public PagedIterable(SmartsheetImpl smartsheet, PageLoader<T> loader, int pageSize) {
+        Util.throwIfNull(smartsheet, loader);
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.smartsheet = smartsheet;
+        this.loader = loader;
+        this.pageSize = pageSize;
+    }
+
+    public Iterator<T> iterator() {
+        return new PageIterator();
+    }
+
+    private class PageIterator implements Iterator<T> {
+        private Iterator<T> current = Collections.<T>emptyList().iterator();
+        private Future<PagedResult<T>> nextPage = loadPage(1);
+        private int nextPageNumber = 1;
+
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (nextPage == null) {
+                    return false;
+                }
+                PagedResult<T> page = waitForPage();
+                List<T> data = page.getData() != null ? page.getData() : Collections.<T>emptyList();
+                current = data.iterator();
+                // without a page count, a short page is the last one
+                boolean more = page.getTotalPages() != null ? nextPageNumber < page.getTotalPages()
+                        : data.size() >= pageSize;
+                nextPageNumber++;
+                nextPage = more ? loadPage(nextPageNumber) : null;
+            }
+            return true;
+        }
+
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private Future<PagedResult<T>> loadPage(int pageNumber) {
+            final PaginationParameters parameters = new PaginationParameters(false, pageSize, pageNumber);
+            return smartsheet.submit(new Callable<PagedResult<T>>() {
+                public PagedResult<T> call() throws SmartsheetException {
+                    return loader.loadPage(parameters);
+                }
+            }, null);
+        }
+
+        private PagedResult<T> waitForPage() {
+            try {
+                return nextPage.get();
+            } catch (InterruptedException e) {
+                nextPage.cancel(true);
+                nextPage = null;
+                Thread.currentThread().interrupt();
+                throw new SmartsheetRuntimeException(new SmartsheetException("interrupted while loading a page", e));
+            } catch (ExecutionException e) {
+                nextPage = null;
+                Throwable cause = e.getCause();
+                if (cause instanceof SmartsheetException) {
+                    throw new SmartsheetRuntimeException((SmartsheetException) cause);
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new SmartsheetRuntimeException(new SmartsheetException("failed to load a page", cause));
+            }
+        }
+    }
+}
@@ -33,7 +33,10 @@ import com.smartsheet.api.models.Folder;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.ReportCell;
+import com.smartsheet.api.models.ReportColumn;
 import com.smartsheet.api.models.ReportPublish;
+import com.smartsheet.api.models.ReportRow;
 import com.smartsheet.api.models.SheetEmail;
 import com.smartsheet.api.models.SheetPublish;
 import com.smartsheet.api.models.enums.ReportInclusion;
@@ -95,6 +98,10 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
      * @throws SmartsheetException the smartsheet exception
      */
     public Report getReport(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page) throws SmartsheetException{
+        return this.getResource(getReportPath(reportId, includes, pageSize, page), Report.class);
+    }
+
+    static String getReportPath(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page) {
         String path = "reports/" + reportId;
         HashMap<String, Object> parameters = new HashMap<String, Object>();
 
@@ -108,7 +115,26 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
         }
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.getResource(path, Report.class);
+        return path;
+    }
+
+    /**
+     * Get a report with all of its rows, reading the pages after the first one concurrently.
+     *
+     * @param reportId the report id
+     * @param includes the optional objects to include in response
+     * @param pageSize Number of rows per page
+     * @param parallelism the maximum number of pages read at once
+     * @return the report, with the rows of all of its pages
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public Report getReportInParallel(final long reportId, final EnumSet<ReportInclusion> includes,
+                                      final int pageSize, int parallelism) throws SmartsheetException {
+        return new PageFanOut<Report, ReportRow, ReportColumn, ReportCell>(smartsheet, new PageFanOut.PageReader<Report>() {
+            public Report readPage(int page) throws SmartsheetException {
+                return getReport(reportId, includes, pageSize, page);
+            }
+        }, pageSize, parallelism).read();
     }
 
     /**
@@ -154,6 +180,10 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
         return this.listReports(pagination, null);
     }
     public PagedResult<Report> listReports(PaginationParameters pagination, Date modifiedSince) throws SmartsheetException {
+        return this.listResourcesWithWrapper(listReportsPath(pagination, modifiedSince), Report.class);
+    }
+
+    static String listReportsPath(PaginationParameters pagination, Date modifiedSince) {
         String path= "reports";
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
@@ -166,7 +196,7 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
         }
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.listResourcesWithWrapper(path, Report.class);
+        return path;
     }
 
     /**
@@ -21,6 +21,7 @@ package com.smartsheet.api.internal;
  */
 
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.util.RewindableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.PagedResult;
@@ -118,7 +119,15 @@ public class RowAttachmentResourcesImpl extends AbstractResources implements Row
         Util.throwIfNull(sheetId, rowId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFileWithSimpleUpload(sheetId, rowId, new FileInputStream(file), contentType, file.length(), file.getName());
+        RewindableFileInputStream inputStream = new RewindableFileInputStream(file);
+        try {
+            return attachFileWithSimpleUpload(sheetId, rowId, inputStream, contentType, file.length(), file.getName());
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException ignore) {
+            }
+        }
     }
 
     /**
@@ -10,7 +10,6 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.DiscussionInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -90,7 +89,7 @@ public class RowDiscussionResourcesImpl extends AbstractResources implements Row
         String path = "sheets/" + sheetId + "/rows/" + rowId + "/discussions";
         Util.throwIfNull(sheetId, discussion, file, contentType);
 
-        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", new FileInputStream(file), contentType, file.getName());
+        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", file, contentType);
     }
     /**
      * Gets a list of all Discussions associated with the specified Row.
@@ -0,0 +1,248 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.RowLoader;
+import com.smartsheet.api.SheetResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * This is the implementation of the RowLoader.
+ *
+ * The first thread to ask for a row of a sheet starts a batch for the sheet, waits for the window and then gets the
+ * sheet filtered to the rows of the batch; the threads that ask for rows of the sheet in the meantime join the batch
+ * and wait for its result. A batch that reaches the maximum number of rows per request (which keeps the URL short
+ * enough) is sent at once by the thread that filled it, and a new batch is started for the following rows.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class RowLoaderImpl implements RowLoader {
+    /** maximum number of row ids in one request, which keeps the query string well under common URL limits */
+    static final int MAX_ROWS_PER_REQUEST = 100;
+
+    private final SheetResources sheetResources;
+    private final EnumSet<SheetInclusion> includes;
+    private final EnumSet<ObjectExclusion> excludes;
+    private final long windowMillis;
+    private final int maxRowsPerRequest;
+
+    /** the batches being collected, by sheet id; guarded by itself */
+    private final Map<Long, Batch> batches = new HashMap<Long, Batch>();
+
+    /**
+     * Constructor.
+     *
+     * @param sheetResources the sheet resources used to get the rows
+     * @param includes the optional objects to include in the rows
+     * @param excludes the objects to exclude from the rows
+     * @param windowMillis how long to collect the rows of a sheet before requesting them
+     */
+    public RowLoaderImpl(SheetResources sheetResources, EnumSet<SheetInclusion> includes,
+                         EnumSet<ObjectExclusion> excludes, long windowMillis) {
+        this(sheetResources, includes, excludes, windowMillis, MAX_ROWS_PER_REQUEST);
+    }
+
+    RowLoaderImpl(SheetResources sheetResources, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                  long windowMillis, int maxRowsPerRequest) {
+        Util.throwIfNull(sheetResources);
+        if (windowMillis < 0 || maxRowsPerRequest < 1) {
+            throw new IllegalArgumentException("windowMillis can't be negative and maxRowsPerRequest must be positive");
+        }
+        this.sheetResources = sheetResources;
+        this.includes = includes;
+        this.excludes = excludes;
+        this.windowMillis = windowMillis;
+        this.maxRowsPerRequest = maxRowsPerRequest;
+    }
+
+    public Row getRow(long sheetId, long rowId) throws SmartsheetException {
+        Batch batch;
+        PendingRow pending;
+        boolean leader = false;
+        boolean full = false;
+        synchronized (batches) {
+            batch = batches.get(sheetId);
+            if (batch == null) {
+                batch = new Batch(sheetId);
+                batches.put(sheetId, batch);
+                leader = true;
+            }
+            pending = batch.add(rowId);
+            if (batch.rows.size() >= maxRowsPerRequest) {
+                batches.remove(sheetId);
+                full = true;
+            }
+        }
+
+        if (full) {
+            load(batch);
+        } else if (leader) {
+            boolean interrupted = false;
+            try {
+                Thread.sleep(windowMillis);
+            } catch (InterruptedException e) {
+                // the other threads of the batch are waiting for it, so send it now
+                interrupted = true;
+            }
+            boolean send;
+            synchronized (batches) {
+                // unless the batch was filled (and sent) in the meantime
+                send = batches.get(sheetId) == batch;
+                if (send) {
+                    batches.remove(sheetId);
+                }
+            }
+            if (send) {
+                load(batch);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return pending.getRow();
+    }
+
+    /**
+     * Get the rows of a batch and hand them to the threads waiting for them. Whatever happens, every row of the batch
+     * is completed or failed, as the threads waiting for them don't give up.
+     */
+    private void load(Batch batch) {
+        try {
+            Sheet sheet = sheetResources.getSheet(batch.sheetId, includes, excludes, batch.rows.keySet(), null, null,
+                    null, null);
+            if (sheet.getRows() != null) {
+                for (Row row : sheet.getRows()) {
+                    PendingRow pending = batch.rows.get(row.getId());
+                    if (pending != null) {
+                        if (row.getSheetId() == null) {
+                            row.setSheetId(batch.sheetId);
+                        }
+                        pending.complete(row);
+                    }
+                }
+            }
+            for (Map.Entry<Long, PendingRow> entry : batch.rows.entrySet()) {
+                entry.getValue().fail(new ResourceNotFoundException(new Error().setErrorCode(1006)
+                        .setMessage("Row " + entry.getKey() + " not found in sheet " + batch.sheetId)));
+            }
+        } catch (Throwable t) {
+            for (PendingRow pending : batch.rows.values()) {
+                pending.fail(t);
+            }
+        }
+    }
+
+    /**
+     * The rows of a sheet to be read by one request.
+     */
+    private static class Batch {
+        final long sheetId;
+        /** the threads asking for the same row share its result */
+        final Map<Long, PendingRow> rows = new LinkedHashMap<Long, PendingRow>();
+
+        Batch(long sheetId) {
+            this.sheetId = sheetId;
+        }
+
+        PendingRow add(long rowId) {
+            PendingRow pending = rows.get(rowId);
+            if (pending == null) {
+                pending = new PendingRow();
+                rows.put(rowId, pending);
+            }
+            return pending;
+        }
+    }
+
+    /**
+     * The result of a requested row, set once its batch has been read; only the first result set counts.
+     */
+    private static class PendingRow {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Row row;
+        private Throwable failure;
+
+        void complete(Row row) {
+            synchronized (this) {
+                if (done.getCount() == 0) {
+                    return;
+                }
+                this.row = row;
+                done.countDown();
+            }
+        }
+
+        void fail(Throwable failure) {
+            synchronized (this) {
+                if (done.getCount() == 0) {
+                    return;
+                }
+                this.failure = failure;
+                done.countDown();
+            }
+        }
+
+        Row getRow() throws SmartsheetException {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // the batch is being read and will complete, so wait for it
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            Throwable failure;
+            synchronized (this) {
+                if (this.failure == null) {
+                    return row;
+                }
+                failure = this.failure;
+            }
+            if (failure instanceof SmartsheetException) {
+                throw (SmartsheetException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof java.lang.Error) {
+                throw (java.lang.Error) failure;
+            }
+            throw new SmartsheetException("failed to get the row", failure);
+        }
+    }
+}
@@ -91,6 +91,22 @@ public class ShareResourcesImpl extends AbstractAssociatedResources implements S
         return this.listResourcesWithWrapper(path, Share.class);
     }
 
+    /**
+     * List shares of a given object, loading it a page at a time as it is iterated.
+     *
+     * @param objectId the object id
+     * @param includeWorkspaceShares include workspace shares
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded list
+     */
+    public Iterable<Share> iterateShares(final long objectId, final Boolean includeWorkspaceShares, int pageSize) {
+        return smartsheet.iterate(new PageLoader<Share>() {
+            public PagedResult<Share> loadPage(PaginationParameters parameters) throws SmartsheetException {
+                return listShares(objectId, parameters, includeWorkspaceShares);
+            }
+        }, pageSize);
+    }
+
     /**
      * Get a Share.
      *
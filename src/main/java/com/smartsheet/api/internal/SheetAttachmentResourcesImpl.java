@@ -19,6 +19,7 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.util.RewindableFileInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.PagedResult;
@@ -158,7 +159,15 @@ public class SheetAttachmentResourcesImpl extends AbstractResources implements S
         Util.throwIfNull(sheetId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFileWithSimpleUpload(sheetId, new FileInputStream(file), contentType, file.length(), file.getName());
+        RewindableFileInputStream inputStream = new RewindableFileInputStream(file);
+        try {
+            return attachFileWithSimpleUpload(sheetId, inputStream, contentType, file.length(), file.getName());
+        } finally {
+            try {
+                inputStream.close();
+            } catch (IOException ignore) {
+            }
+        }
     }
 
     /**
@@ -0,0 +1,248 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SheetCache;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is the implementation of the SheetCache.
+ *
+ * Sheets are cached as the JSON of their responses, which takes a fraction of the memory of the deserialized sheet
+ * and makes the size of an entry exact; each hit deserializes a new copy of the sheet from it. The response is kept
+ * as is rather than re-serialized from the sheet, since serializing a Sheet leaves out the ids of the sheet and of
+ * its columns. Sheets are cached per caller (access token and assumed user), as what a sheet shows depends on who
+ * gets it.
+ *
+ * Thread Safety: This class is thread safe. The sheets are got and checked outside of the lock, so concurrent misses
+ * for the same sheet may each get it.
+ */
+public class SheetCacheImpl implements SheetCache {
+    /** rough memory used by an entry besides its JSON (key, entry and map node) */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final SheetResourcesImpl sheetResources;
+    private final JsonSerializer serializer;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    /** the cached sheets, least recently used first; guarded by itself */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private long sizeBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong validations = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param sheetResources the sheet resources used to get the sheets and their versions
+     * @param serializer the serializer used to read the cached sheets
+     * @param maxBytes the maximum memory held by the cached sheets
+     * @param ttlMillis how long a cached sheet is used without checking its version (0 to always check it)
+     */
+    public SheetCacheImpl(SheetResourcesImpl sheetResources, JsonSerializer serializer, long maxBytes, long ttlMillis) {
+        Util.throwIfNull(sheetResources, serializer);
+        if (maxBytes < 0 || ttlMillis < 0) {
+            throw new IllegalArgumentException("maxBytes and ttlMillis can't be negative");
+        }
+        this.sheetResources = sheetResources;
+        this.serializer = serializer;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                          Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                          Integer page) throws SmartsheetException {
+        SmartsheetImpl smartsheet = sheetResources.getSmartsheet();
+        String key = key(smartsheet.getAccessToken(), smartsheet.getAssumedUser(), id, includes, excludes, rowIds,
+                rowNumbers, columnIds, pageSize, page);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            long now = System.currentTimeMillis();
+            if (now - entry.validatedAt < ttlMillis) {
+                hits.incrementAndGet();
+                return entry.toSheet(serializer);
+            }
+            validations.incrementAndGet();
+            if (sheetResources.getSheetVersion(id) == entry.version) {
+                entry.validatedAt = now;
+                hits.incrementAndGet();
+                return entry.toSheet(serializer);
+            }
+            stale.incrementAndGet();
+            remove(key, entry);
+        }
+
+        misses.incrementAndGet();
+        byte[] json = sheetResources.getSheetContent(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize,
+                page);
+        Sheet sheet = Entry.toSheet(serializer, json);
+        if (sheet.getVersion() != null) {
+            put(key, new Entry(id, sheet.getVersion(), json, System.currentTimeMillis()));
+        }
+        return sheet;
+    }
+
+    public void invalidate(long id) {
+        synchronized (entries) {
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+                Entry entry = iterator.next();
+                if (entry.sheetId == id) {
+                    iterator.remove();
+                    sizeBytes -= entry.sizeBytes();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            sizeBytes = 0;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getValidationCount() {
+        return validations.get();
+    }
+
+    public long getStaleCount() {
+        return stale.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getSizeBytes() {
+        synchronized (entries) {
+            return sizeBytes;
+        }
+    }
+
+    private void put(String key, Entry entry) {
+        if (entry.sizeBytes() > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                sizeBytes -= previous.sizeBytes();
+            }
+            sizeBytes += entry.sizeBytes();
+            for (Iterator<Entry> iterator = entries.values().iterator(); sizeBytes > maxBytes; ) {
+                Entry eldest = iterator.next();
+                iterator.remove();
+                sizeBytes -= eldest.sizeBytes();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(String key, Entry entry) {
+        synchronized (entries) {
+            // unless it was replaced in the meantime
+            if (entries.get(key) == entry) {
+                entries.remove(key);
+                sizeBytes -= entry.sizeBytes();
+            }
+        }
+    }
+
+    /**
+     * The key of a sheet and query, as seen by the caller (the user of the access token, or the assumed user); sets
+     * are sorted so that equal queries have equal keys. The access token is digested rather than held in the key.
+     */
+    private static String key(String accessToken, String assumedUser, long id, EnumSet<SheetInclusion> includes,
+                              EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers,
+                              Set<Long> columnIds, Integer pageSize, Integer page) {
+        StringBuilder key = new StringBuilder().append(Util.digest(accessToken)).append('|').append(assumedUser);
+        key.append('|').append(id);
+        key.append('|').append(includes).append('|').append(excludes);
+        key.append('|').append(rowIds == null ? null : new TreeSet<Long>(rowIds));
+        key.append('|').append(rowNumbers == null ? null : new TreeSet<Integer>(rowNumbers));
+        key.append('|').append(columnIds == null ? null : new TreeSet<Long>(columnIds));
+        key.append('|').append(pageSize).append('|').append(page);
+        return key.toString();
+    }
+
+    private static class Entry {
+        final long sheetId;
+        final int version;
+        final byte[] json;
+        volatile long validatedAt;
+
+        Entry(long sheetId, int version, byte[] json, long validatedAt) {
+            this.sheetId = sheetId;
+            this.version = version;
+            this.json = json;
+            this.validatedAt = validatedAt;
+        }
+
+        long sizeBytes() {
+            return json.length + ENTRY_OVERHEAD_BYTES;
+        }
+
+        Sheet toSheet(JsonSerializer serializer) throws SmartsheetException {
+            return toSheet(serializer, json);
+        }
+
+        static Sheet toSheet(JsonSerializer serializer, byte[] json) throws SmartsheetException {
+            try {
+                return serializer.deserialize(Sheet.class, new ByteArrayInputStream(json));
+            } catch (IOException e) {
+                throw new SmartsheetException(e);
+            }
+        }
+    }
+}
@@ -70,6 +70,10 @@ public class SheetColumnResourcesImpl extends AbstractResources implements Sheet
      * @throws SmartsheetException the smartsheet exception
      */
     public PagedResult<Column> listColumns(long sheetId, EnumSet<ColumnInclusion> includes, PaginationParameters pagination) throws SmartsheetException  {
+        return this.listResourcesWithWrapper(listColumnsPath(sheetId, includes, pagination), Column.class);
+    }
+
+    static String listColumnsPath(long sheetId, EnumSet<ColumnInclusion> includes, PaginationParameters pagination) {
         String path = "sheets/" + sheetId + "/columns";
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
@@ -80,7 +84,7 @@ public class SheetColumnResourcesImpl extends AbstractResources implements Sheet
         parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.listResourcesWithWrapper(path, Column.class);
+        return path;
     }
 
     /**
@@ -151,7 +155,7 @@ public class SheetColumnResourcesImpl extends AbstractResources implements Sheet
      */
     public Column updateColumn(long sheetId, Column column) throws SmartsheetException {
         Util.throwIfNull(column);
-        return this.updateResource("sheets/" + sheetId + "/columns/" + column.getId(), Column.class, column);
+        return this.updateResource("sheets/" + sheetId + "/columns/" + column.getId(), Column.class, column, true);
     }
 
     /**
@@ -174,12 +178,15 @@ public class SheetColumnResourcesImpl extends AbstractResources implements Sheet
      * @throws SmartsheetException the smartsheet exception
      */
     public Column getColumn(long sheetId, long columnId, EnumSet<ColumnInclusion> includes) throws SmartsheetException  {
+        return this.getResource(getColumnPath(sheetId, columnId, includes), Column.class);
+    }
+
+    static String getColumnPath(long sheetId, long columnId, EnumSet<ColumnInclusion> includes) {
         String path = "sheets/" + sheetId + "/columns/" + columnId;
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
         parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
 
-        path = QueryUtil.generateUrl(path, parameters);
-        return this.getResource(path, Column.class);
+        return QueryUtil.generateUrl(path, parameters);
     }
 }
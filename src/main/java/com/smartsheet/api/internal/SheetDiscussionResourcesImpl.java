@@ -10,9 +10,7 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.DiscussionInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.EnumSet;
 import java.util.HashMap;
 
@@ -98,11 +96,7 @@ public class SheetDiscussionResourcesImpl extends  AbstractResources implements
         Util.throwIfNull(discussion, file, contentType);
         String path = "sheets/" + sheetId + "/discussions";
 
-        return this.createDiscussionWithAttachment(path, discussion, new FileInputStream(file), contentType, file.getName());
-    }
-
-    private Discussion createDiscussionWithAttachment(String path, Discussion discussion, InputStream inputStream, String contentType, String attachmentName) throws SmartsheetException{
-        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", inputStream, contentType, attachmentName);
+        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", file, contentType);
     }
 
     /**
@@ -23,6 +23,7 @@ package com.smartsheet.api.internal;
 import com.smartsheet.api.*;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
 import com.smartsheet.api.internal.util.QueryUtil;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
@@ -130,6 +131,10 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
     }
 
     public PagedResult<Sheet> listSheets(EnumSet<SourceInclusion> includes, PaginationParameters pagination, Date modifiedSince) throws SmartsheetException {
+        return this.listResourcesWithWrapper(listSheetsPath(includes, pagination, modifiedSince), Sheet.class);
+    }
+
+    static String listSheetsPath(EnumSet<SourceInclusion> includes, PaginationParameters pagination, Date modifiedSince) {
         String path = "sheets";
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
@@ -143,7 +148,23 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         parameters.put("include", QueryUtil.generateCommaSeparatedList(includes));
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.listResourcesWithWrapper(path, Sheet.class);
+        return path;
+    }
+
+    /**
+     * List all sheets, loading it a page at a time as it is iterated.
+     *
+     * @param includes the source inclusion
+     * @param modifiedSince restrict results to sheets modified on or after this date
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded list
+     */
+    public Iterable<Sheet> iterateSheets(final EnumSet<SourceInclusion> includes, final Date modifiedSince, int pageSize) {
+        return smartsheet.iterate(new PageLoader<Sheet>() {
+            public PagedResult<Sheet> loadPage(PaginationParameters parameters) throws SmartsheetException {
+                return listSheets(includes, parameters, modifiedSince);
+            }
+        }, pageSize);
     }
 
     /**
@@ -199,6 +220,153 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
      * @throws SmartsheetException the smartsheet exception
      */
     public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page) throws SmartsheetException {
+        return this.getResource(getSheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page),
+                Sheet.class);
+    }
+
+    /**
+     * Get a sheet, skipping the properties left out by a projection as the response is parsed.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id the id
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param projection the properties to leave out
+     * @return the resource
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page, FieldProjection projection) throws SmartsheetException {
+        Util.throwIfNull(projection);
+        return this.getResource(getSheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page),
+                Sheet.class, projection);
+    }
+
+    /**
+     * Get a sheet, streaming its rows to rowHandler one at a time as they are read.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * Exceptions:
+     *   - InvalidRequestException : if there is any problem with the REST API request
+     *   - AuthorizationException : if there is any problem with the REST API authorization(access token)
+     *   - ResourceNotFoundException : if the resource can not be found
+     *   - ServiceUnavailableException : if the REST API service is not available (possibly due to rate limiting)
+     *   - SmartsheetRestException : if there is any other REST API related error occurred during the operation
+     *   - SmartsheetException : if there is any other error occurred during the operation, or rowHandler throws it
+     *
+     * @param id the id
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param rowHandler receives the sheet (without rows) and then each of its rows
+     * @return the sheet, with all of its attributes other than rows
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page, SheetRowHandler rowHandler) throws SmartsheetException {
+        return getSheet(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, rowHandler, null);
+    }
+
+    /**
+     * Get a sheet, streaming its rows to rowHandler one at a time as they are read, and skipping the properties left
+     * out by a projection as the response is parsed.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id the id
+     * @param includes used to specify the optional objects to include
+     * @param excludes the exclude parameters
+     * @param rowIds the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds the column ids
+     * @param pageSize the page size
+     * @param page the page number
+     * @param rowHandler receives the sheet (without rows) and then each of its rows
+     * @param projection the properties to leave out (null to read them all)
+     * @return the sheet, with all of its attributes other than rows
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page, SheetRowHandler rowHandler, FieldProjection projection) throws SmartsheetException {
+        Util.throwIfNull(rowHandler);
+        String path = getSheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        Sheet sheet = null;
+        try {
+            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+            switch (response.getStatusCode()) {
+                case 200:
+                    sheet = this.smartsheet.getJsonSerializer().deserializeSheetRows(
+                            response.getEntity().getContent(), rowHandler, projection);
+                    break;
+                default:
+                    handleError(response);
+            }
+        } finally {
+            smartsheet.getHttpClient().releaseConnection();
+        }
+        return sheet;
+    }
+
+    /**
+     * Get the JSON of a sheet as returned by the API (including the ids that serializing a Sheet leaves out).
+     *
+     * Parameters and exceptions: see {@link #getSheet(long, EnumSet, EnumSet, Set, Set, Set, Integer, Integer)}
+     *
+     * @return the JSON of the sheet
+     */
+    byte[] getSheetContent(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                           Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                           Integer page) throws SmartsheetException {
+        return getResourceContent(getSheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize,
+                page));
+    }
+
+    /**
+     * Creates a cache of sheets, validated with the sheet versions.
+     *
+     * @param maxBytes the maximum memory held by the cached sheets
+     * @param ttlMillis how long a cached sheet is used without checking its version
+     * @return a new SheetCache
+     */
+    public SheetCache sheetCache(long maxBytes, long ttlMillis) {
+        return new SheetCacheImpl(this, smartsheet.getJsonSerializer(), maxBytes, ttlMillis);
+    }
+
+    /**
+     * Get a sheet with all of its rows, reading the pages after the first one concurrently.
+     *
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id the id of the sheet
+     * @param includes used to specify the optional objects to include.
+     * @param excludes the exclude parameters
+     * @param columnIds the column ids
+     * @param pageSize the number of rows in a page
+     * @param parallelism the maximum number of pages read at once
+     * @return the sheet, with the rows of all of its pages
+     * @throws SmartsheetException if there is any error during the operation
+     */
+    public Sheet getSheetInParallel(final long id, final EnumSet<SheetInclusion> includes,
+                                    final EnumSet<ObjectExclusion> excludes, final Set<Long> columnIds,
+                                    final int pageSize, int parallelism) throws SmartsheetException {
+        return new PageFanOut<Sheet, Row, Column, Cell>(smartsheet, new PageFanOut.PageReader<Sheet>() {
+            public Sheet readPage(int page) throws SmartsheetException {
+                return getSheet(id, includes, excludes, null, null, columnIds, pageSize, page);
+            }
+        }, pageSize, parallelism).read();
+    }
+
+    static String getSheetPath(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize, Integer page) {
         String path = "sheets/" + id;
 
         // Add the parameters to a map and build the query string at the end
@@ -215,7 +383,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         // Iterate through the map of parameters and generate the query string
         path += QueryUtil.generateUrl(null, parameters);
 
-        return this.getResource(path, Sheet.class);
+        return path;
     }
 
     /**
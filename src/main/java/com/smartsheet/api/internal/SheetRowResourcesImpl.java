@@ -24,15 +24,15 @@ import com.smartsheet.api.*;
 import com.smartsheet.api.internal.http.*;
 import com.smartsheet.api.internal.json.JSONSerializerException;
 import com.smartsheet.api.internal.util.QueryUtil;
+import com.smartsheet.api.internal.util.RequestBodyBuffer;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.enums.ObjectExclusion;
 import com.smartsheet.api.models.enums.RowCopyInclusion;
 import com.smartsheet.api.models.enums.RowInclusion;
 import com.smartsheet.api.models.enums.RowMoveInclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -114,6 +114,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public Row getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) throws SmartsheetException {
+        return this.getResource(getRowPath(sheetId, rowId, includes, excludes), Row.class);
+    }
+
+    static String getRowPath(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) {
         String path = "sheets/" + sheetId + "/rows/" + rowId;
 
         HashMap<String, Object> parameters = new HashMap<String, Object>();
@@ -122,7 +126,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         parameters.put("exclude", QueryUtil.generateCommaSeparatedList(excludes));
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.getResource(path, Row.class);
+        return path;
     }
 
     /**
@@ -174,6 +178,10 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException the smartsheet exception
      */
     public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) throws SmartsheetException {
+        return this.deleteListResources(deleteRowsPath(sheetId, rowIds, ignoreRowsNotFound), Long.class);
+    }
+
+    static String deleteRowsPath(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) {
         Util.throwIfNull(rowIds);
         HashMap<String, Object> parameters = new HashMap<String, Object>();
         String path = "sheets/" + sheetId + "/rows/";
@@ -182,7 +190,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
 
         path += QueryUtil.generateUrl(null, parameters);
 
-        return this.deleteListResources(path, Long.class);
+        return path;
     }
 
     /**
@@ -243,13 +251,16 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      *   SmartsheetRestException : if there is any other REST API related error occurred during the operation
      *   SmartsheetException : if there is any other error occurred during the operation
      *
+     * Only the properties set on the rows and cells since they were read from the API are sent, along with the row
+     * ids and column ids (rows and cells created by the caller are sent in full).
+     *
      * @param sheetId the id of the sheet
      * @param rows the list of rows
      * @return a list of rows
      * @throws SmartsheetException the smartsheet exception
      */
     public List<Row> updateRows(long sheetId, List<Row> rows) throws SmartsheetException {
-        return this.putAndReceiveList("sheets/" + sheetId + "/rows", rows, Row.class);
+        return this.putAndReceiveList("sheets/" + sheetId + "/rows", rows, Row.class, true);
     }
 
 
@@ -258,44 +269,41 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         return doPartialRowOperation(sheetId, rows, HttpMethod.PUT);
     }
 
+    static String partialRowsPath(long sheetId) {
+        String path = "sheets/" + sheetId + "/rows";
+        HashMap<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("allowPartialSuccess", "true");
+
+        return QueryUtil.generateUrl(path, parameters);
+    }
+
     private PartialRowUpdateResult doPartialRowOperation(long sheetId, List<Row> rows, HttpMethod method) throws SmartsheetException {
         Util.throwIfNull(rows, method);
         if (method != HttpMethod.POST && method != HttpMethod.PUT) {
             throw new IllegalArgumentException();
         }
 
-        String path = "sheets/" + sheetId + "/rows";
-        HashMap<String, Object> parameters = new HashMap<String, Object>();
-        parameters.put("allowPartialSuccess", "true");
-
-        path = QueryUtil.generateUrl(path, parameters);
-
         HttpRequest request;
-        request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
-
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        this.smartsheet.getJsonSerializer().serialize(rows, baos);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
+        request = createHttpRequest(smartsheet.getBaseURI().resolve(partialRowsPath(sheetId)), method);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        RequestBodyBuffer body = setJsonEntity(request, rows, method == HttpMethod.PUT);
 
         PartialRowUpdateResult result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                result = this.smartsheet.getJsonSerializer().deserializePartialRowUpdateResult(response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
+        try {
+            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+            switch (response.getStatusCode()) {
+                case 200:
+                    result = this.smartsheet.getJsonSerializer().deserializePartialRowUpdateResult(
+                            response.getEntity().getContent());
+                    break;
+                default:
+                    handleError(response);
+            }
+        } finally {
+            smartsheet.getHttpClient().releaseConnection();
+            body.release();
         }
 
-        smartsheet.getHttpClient().releaseConnection();
-
         return result;
 
     }
@@ -413,6 +421,27 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         return discussions;
     }
 
+    /**
+     * Creates a writer that inserts and updates large numbers of rows in concurrently written chunks.
+     *
+     * @return a new BulkRowWriter
+     */
+    public BulkRowWriter bulkWriter() {
+        return new BulkRowWriterImpl(smartsheet, this);
+    }
+
+    /**
+     * Creates a loader that coalesces the rows of the same sheet requested at about the same time into one request.
+     *
+     * @param includes the optional objects to include in the rows
+     * @param excludes the objects to exclude from the rows
+     * @param windowMillis how long to collect the rows of a sheet before requesting them
+     * @return a new RowLoader
+     */
+    public RowLoader rowLoader(EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes, long windowMillis) {
+        return new RowLoaderImpl(smartsheet.sheetResources(), includes, excludes, windowMillis);
+    }
+
     /**
      * <p>Creates an object of RowColumnResources.</p>
      *
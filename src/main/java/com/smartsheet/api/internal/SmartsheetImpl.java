@@ -22,17 +22,28 @@ package com.smartsheet.api.internal;
 
 
 import com.smartsheet.api.*;
+import com.smartsheet.api.internal.http.AsyncHttpClient;
+import com.smartsheet.api.internal.http.DefaultAsyncHttpClient;
 import com.smartsheet.api.internal.http.DefaultShouldRetry;
 import com.smartsheet.api.retry.CalcBackoff;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.CallbackFutureTask;
+import com.smartsheet.api.internal.util.SingleFlight;
 import com.smartsheet.api.internal.util.Util;
-import org.apache.http.impl.client.HttpClients;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -42,6 +53,12 @@ import java.util.concurrent.atomic.AtomicReference;
  * ensure atomic modifications, and also the underlying HttpClient and JsonSerializer interfaces are thread safe.
  */
 public class SmartsheetImpl implements Smartsheet {
+    /**
+     * number of threads in the executor created when no ExecutorService is supplied for asynchronous calls; its
+     * threads handle the responses of asynchronous calls (and run submitted calls), they don't wait for responses
+     */
+    public static final int DEFAULT_ASYNC_THREADS = 16;
+
     /**
      * Represents the HttpClient.
      *
@@ -248,6 +265,52 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private final AtomicReference<WebhookResources> webhooks;
 
+    /**
+     * Represents the AtomicReference to AsyncSheetResources.
+     *
+     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
+     * effectively the underlying value is lazily created in a thread safe manner.
+     */
+    private final AtomicReference<AsyncSheetResources> asyncSheets;
+
+    /**
+     * Represents the AtomicReference to AsyncReportResources.
+     *
+     * It will be initialized in constructor and will not change afterwards. The underlying value will be initially set
+     * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
+     * effectively the underlying value is lazily created in a thread safe manner.
+     */
+    private final AtomicReference<AsyncReportResources> asyncReports;
+
+    /**
+     * Represents the AtomicReference to the ExecutorService that runs asynchronous calls.
+     *
+     * Either supplied through {@link #setExecutorService(ExecutorService)} or lazily created (and then owned and shut
+     * down by this instance).
+     */
+    private final AtomicReference<ExecutorService> executor;
+
+    /** whether the executor was created (and hence must be shut down) by this instance */
+    private volatile boolean ownsExecutor;
+
+    /**
+     * Represents the AtomicReference to the AsyncHttpClient that makes the requests of asynchronous calls.
+     *
+     * Either supplied through {@link #setAsyncHttpClient(AsyncHttpClient)} or lazily created (and then owned and closed
+     * by this instance).
+     */
+    private final AtomicReference<AsyncHttpClient> asyncHttpClient = new AtomicReference<AsyncHttpClient>();
+
+    /** whether the async http client was created (and hence must be closed) by this instance */
+    private volatile boolean ownsAsyncHttpClient;
+
+    /**
+     * Shares the responses of identical GET requests in progress at once; null unless enabled through
+     * {@link #setSingleFlightGets(boolean)}.
+     */
+    private volatile SingleFlight<byte[]> singleFlight;
+
     /**
      * Create an instance with given server URI, HttpClient (optional) and JsonSerializer (optional)
      *
@@ -273,15 +336,38 @@ public class SmartsheetImpl implements Smartsheet {
      * @param jsonSerializer the json serializer (optional)
      */
     public SmartsheetImpl(String baseURI, String accessToken, HttpClient httpClient, JsonSerializer jsonSerializer, String changeAgent, String apiScenario) {
+        this(baseURI, accessToken, httpClient, null, jsonSerializer, changeAgent, apiScenario);
+    }
+
+    /**
+     * Create an instance with given server URI, HttpClient (optional) and JsonSerializer (optional), where the
+     * HttpClient was created with the given DefaultShouldRetry, so that {@link #setCalcBackoff(CalcBackoff)} applies to
+     * it.
+     *
+     * Exceptions: - IllegalArgumentException : if serverURI/version/accessToken is null/empty
+     *
+     * @param baseURI the server uri
+     * @param accessToken the access token
+     * @param httpClient the http client (optional)
+     * @param defaultShouldRetry the DefaultShouldRetry of the http client (optional)
+     * @param jsonSerializer the json serializer (optional)
+     */
+    public SmartsheetImpl(String baseURI, String accessToken, HttpClient httpClient,
+                          DefaultShouldRetry defaultShouldRetry, JsonSerializer jsonSerializer, String changeAgent,
+                          String apiScenario) {
         Util.throwIfNull(baseURI);
         Util.throwIfEmpty(baseURI);
 
         this.baseURI = URI.create(baseURI);
         if(httpClient == null) {
             this.defaultShouldRetry = new DefaultShouldRetry(jsonSerializer);
-            this.httpClient = new DefaultHttpClient(HttpClients.createDefault(), this.defaultShouldRetry);
+            this.httpClient = new DefaultHttpClient(DefaultHttpClient.createPooledHttpClient(
+                    DefaultHttpClient.DEFAULT_MAX_CONNECTIONS, DefaultHttpClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+                    DefaultHttpClient.DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS, DefaultHttpClient.DEFAULT_KEEP_ALIVE_MILLIS),
+                    this.defaultShouldRetry);
         }
         else {
+            this.defaultShouldRetry = defaultShouldRetry;
             this.httpClient = httpClient;
         }
         this.jsonSerializer = jsonSerializer == null ? new JacksonJsonSerializer() : jsonSerializer;
@@ -305,6 +391,9 @@ public class SmartsheetImpl implements Smartsheet {
         this.contacts = new AtomicReference<ContactResources>();
         this.imageUrls = new AtomicReference<ImageUrlResources>();
         this.webhooks = new AtomicReference<WebhookResources>();
+        this.asyncSheets = new AtomicReference<AsyncSheetResources>();
+        this.asyncReports = new AtomicReference<AsyncReportResources>();
+        this.executor = new AtomicReference<ExecutorService>();
     }
 
     /**
@@ -314,6 +403,12 @@ public class SmartsheetImpl implements Smartsheet {
      */
     protected void finalize() throws IOException {
         this.httpClient.close();
+        if (ownsExecutor) {
+            this.executor.get().shutdown();
+        }
+        if (ownsAsyncHttpClient) {
+            this.asyncHttpClient.get().close();
+        }
     }
 
     /**
@@ -572,6 +667,165 @@ public class SmartsheetImpl implements Smartsheet {
         return webhooks.get();
     }
 
+    /**
+     * Returns the AsyncSheetResources instance that provides asynchronous access to Sheet resources.
+     *
+     * @return the async sheet resources
+     */
+    public AsyncSheetResources asyncSheetResources() {
+        if (asyncSheets.get() == null) {
+            asyncSheets.compareAndSet(null, new AsyncSheetResourcesImpl(this));
+        }
+        return asyncSheets.get();
+    }
+
+    /**
+     * Returns the AsyncReportResources instance that provides asynchronous access to Report resources.
+     *
+     * @return the async report resources
+     */
+    public AsyncReportResources asyncReportResources() {
+        if (asyncReports.get() == null) {
+            asyncReports.compareAndSet(null, new AsyncReportResourcesImpl(this));
+        }
+        return asyncReports.get();
+    }
+
+    /**
+     * Run a call on the executor used for asynchronous calls.
+     *
+     * @param call the call to make
+     * @param callback notified when the call completes (optional)
+     * @param <T> the type of the call result
+     * @return the future result of the call
+     */
+    public <T> Future<T> submit(Callable<T> call, AsyncCallback<T> callback) {
+        Util.throwIfNull(call);
+        CallbackFutureTask<T> task = new CallbackFutureTask<T>(call, callback);
+        getExecutorService().execute(task);
+        return task;
+    }
+
+    /**
+     * Iterate over a paged list, loading it a page at a time (the next page on the executor) as it is iterated.
+     *
+     * @param loader loads a page
+     * @param pageSize the number of objects in a page
+     * @param <T> the type of the listed objects
+     * @return the lazily loaded list
+     */
+    public <T> Iterable<T> iterate(PageLoader<T> loader, int pageSize) {
+        return new PagedIterable<T>(this, loader, pageSize);
+    }
+
+    /**
+     * Set the ExecutorService used to run asynchronous calls. The caller remains responsible for shutting it down.
+     *
+     * @param executorService the executor service
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        Util.throwIfNull(executorService);
+        ExecutorService previous = this.executor.getAndSet(executorService);
+        if (previous != null && ownsExecutor) {
+            previous.shutdown();
+        }
+        ownsExecutor = false;
+    }
+
+    /**
+     * Set the AsyncHttpClient that makes the requests of asynchronous calls (a {@link DefaultAsyncHttpClient} sharing
+     * the retry settings of the default HttpClient is created if not set). The caller remains responsible for closing
+     * it.
+     *
+     * @param asyncHttpClient the async http client
+     */
+    public void setAsyncHttpClient(AsyncHttpClient asyncHttpClient) {
+        Util.throwIfNull(asyncHttpClient);
+        AsyncHttpClient previous = this.asyncHttpClient.getAndSet(asyncHttpClient);
+        if (previous != null && ownsAsyncHttpClient) {
+            closeQuietly(previous);
+        }
+        ownsAsyncHttpClient = false;
+    }
+
+    /**
+     * Set whether identical GET requests (same URI and headers) made at the same time by different threads share one
+     * request, each caller getting its own copy of the resource.
+     *
+     * @param singleFlightGets true to share identical GET requests
+     */
+    public void setSingleFlightGets(boolean singleFlightGets) {
+        this.singleFlight = singleFlightGets ? new SingleFlight<byte[]>() : null;
+    }
+
+    /**
+     * Return the SingleFlight shared by identical GET requests.
+     *
+     * @return the SingleFlight, or null if GET requests aren't shared
+     */
+    SingleFlight<byte[]> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Return the ExecutorService used to run asynchronous calls, creating the default one if none was set.
+     *
+     * @return the executor service
+     */
+    ExecutorService getExecutorService() {
+        if (executor.get() == null) {
+            ExecutorService defaultExecutor = createDefaultExecutorService();
+            if (executor.compareAndSet(null, defaultExecutor)) {
+                ownsExecutor = true;
+            } else {
+                defaultExecutor.shutdown();
+            }
+        }
+        return executor.get();
+    }
+
+    /**
+     * Return the AsyncHttpClient that makes the requests of asynchronous calls, creating the default one if none was
+     * set.
+     *
+     * @return the async http client
+     */
+    AsyncHttpClient getAsyncHttpClient() {
+        if (asyncHttpClient.get() == null) {
+            AsyncHttpClient defaultAsyncHttpClient = new DefaultAsyncHttpClient(defaultShouldRetry != null
+                    ? defaultShouldRetry : new DefaultShouldRetry(jsonSerializer));
+            if (asyncHttpClient.compareAndSet(null, defaultAsyncHttpClient)) {
+                ownsAsyncHttpClient = true;
+            } else {
+                closeQuietly(defaultAsyncHttpClient);
+            }
+        }
+        return asyncHttpClient.get();
+    }
+
+    private static void closeQuietly(AsyncHttpClient asyncHttpClient) {
+        try {
+            asyncHttpClient.close();
+        } catch (IOException ignore) {
+        }
+    }
+
+    private static ExecutorService createDefaultExecutorService() {
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(DEFAULT_ASYNC_THREADS, DEFAULT_ASYNC_THREADS,
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "smartsheet-async-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executorService.allowCoreThreadTimeOut(true);
+        return executorService;
+    }
+
     /**
      * Set the email of the user to assume. Null/empty string indicates no user is assumed.
      *
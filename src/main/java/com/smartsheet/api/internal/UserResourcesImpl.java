@@ -105,6 +105,21 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         return this.listResourcesWithWrapper(path, User.class);
     }
 
+    /**
+     * List all users, loading it a page at a time as it is iterated.
+     *
+     * @param email the list of email addresses
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded list
+     */
+    public Iterable<User> iterateUsers(final Set<String> email, int pageSize) {
+        return smartsheet.iterate(new PageLoader<User>() {
+            public PagedResult<User> loadPage(PaginationParameters parameters) throws SmartsheetException {
+                return listUsers(email, parameters);
+            }
+        }, pageSize);
+    }
+
     /**
      * Add a user to the organization, without sending email.
      *
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.smartsheet.api.AuthorizationException;
 import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.PageLoader;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
@@ -73,6 +74,20 @@ public class WebhookResourcesImpl extends AbstractResources implements WebhookRe
         return this.listResourcesWithWrapper(path, Webhook.class);
     }
 
+    /**
+     * List all webhooks, loading it a page at a time as it is iterated.
+     *
+     * @param pageSize the number of objects in a page
+     * @return the lazily loaded list
+     */
+    public Iterable<Webhook> iterateWebhooks(int pageSize) {
+        return smartsheet.iterate(new PageLoader<Webhook>() {
+            public PagedResult<Webhook> loadPage(PaginationParameters parameters) throws SmartsheetException {
+                return listWebhooks(parameters);
+            }
+        }, pageSize);
+    }
+
     /**
      * <p>Gets the Webhook specified in the URL.</p>
      *
@@ -0,0 +1,48 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+
+import java.io.Closeable;
+import java.util.concurrent.Future;
+
+/**
+ * This interface defines methods to make an HTTP request without blocking the calling thread (or any other thread)
+ * while the request is in flight.
+ *
+ * Thread Safety: Implementation of this interface must be thread safe.
+ */
+public interface AsyncHttpClient extends Closeable {
+    /**
+     * Make an HTTP request and return at once. The response body is read into memory before the response is handed
+     * over, so there is no connection to release once the request is done. Cancelling the returned future abandons
+     * the request.
+     *
+     * Exceptions: - IllegalArgumentException : if request is null or has no URI
+     *
+     * @param request the request; its body (if any) must not be changed until the request is done
+     * @param callback notified when the request is done (may be null); it may be called on a thread that does I/O
+     * for other requests, so it must not block
+     * @return the future HTTP response, which fails with an HttpClientException if the request can't be made
+     */
+    public Future<HttpResponse> request(HttpRequest request, AsyncCallback<HttpResponse> callback);
+}
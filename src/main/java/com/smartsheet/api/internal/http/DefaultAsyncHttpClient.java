@@ -0,0 +1,411 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.internal.util.CallbackFuture;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.retry.RetryDecision;
+import com.smartsheet.api.retry.RetryPolicy;
+import com.smartsheet.api.retry.ShouldRetry;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is the Apache HttpAsyncClient (http://hc.apache.org/httpcomponents-asyncclient-4.1.x/index.html) based
+ * AsyncHttpClient implementation. Requests are multiplexed over a small number of non-blocking I/O threads, so no
+ * thread waits for a response; failed requests are retried (as decided by the {@link ShouldRetry}) from a timer once
+ * the retry delay has passed.
+ *
+ * Error responses are logged as {@link DefaultHttpClient} does. Trace logging, request listeners and client-side rate
+ * limiting are features of the {@link DefaultHttpClient} and don't apply to requests made through this client.
+ *
+ * Thread Safety: This class is thread safe. All per-request state is kept in the future returned for the request, and
+ * the underlying Apache CloseableHttpAsyncClient is thread safe.
+ */
+public class DefaultAsyncHttpClient implements AsyncHttpClient {
+    /** logger for general errors, warnings, etc */
+    private static final Logger logger = LoggerFactory.getLogger(DefaultAsyncHttpClient.class);
+
+    /**
+     * Represents the underlying Apache CloseableHttpAsyncClient.
+     * <p>
+     * It will be initialized (and started) in constructor and will not change afterwards.
+     */
+    private final CloseableHttpAsyncClient httpClient;
+
+    /** decides whether failed requests are retried; null if they never are */
+    private final ShouldRetry shouldRetry;
+
+    /** UserAgent string sent with each request */
+    private final String userAgent;
+
+    /** the timer that sends requests again once their retry delay has passed; lazily created */
+    private final AtomicReference<ScheduledExecutorService> retryTimer = new AtomicReference<ScheduledExecutorService>();
+
+    /**
+     * Constructor.
+     *
+     * @param shouldRetry decides whether failed requests are retried (null to never retry them)
+     */
+    public DefaultAsyncHttpClient(ShouldRetry shouldRetry) {
+        this(createPooledHttpAsyncClient(DefaultHttpClient.DEFAULT_MAX_CONNECTIONS,
+                DefaultHttpClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DefaultHttpClient.DEFAULT_KEEP_ALIVE_MILLIS),
+                shouldRetry);
+    }
+
+    /**
+     * Constructor. The Apache client is started if it isn't already.
+     * <p>
+     * Exceptions: - IllegalArgumentException : if httpClient is null
+     *
+     * @param httpClient the Apache CloseableHttpAsyncClient to use
+     * @param shouldRetry decides whether failed requests are retried (null to never retry them)
+     */
+    public DefaultAsyncHttpClient(CloseableHttpAsyncClient httpClient, ShouldRetry shouldRetry) {
+        this.httpClient = Util.throwIfNull(httpClient);
+        this.shouldRetry = shouldRetry;
+        this.userAgent = DefaultHttpClient.generateUserAgent(getClass());
+        httpClient.start();
+    }
+
+    /**
+     * Make an HTTP request and return at once.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @param callback notified when the request is done (may be null)
+     * @return the future HTTP response
+     */
+    public Future<HttpResponse> request(HttpRequest smartsheetRequest, AsyncCallback<HttpResponse> callback) {
+        Util.throwIfNull(smartsheetRequest);
+        if (smartsheetRequest.getUri() == null) {
+            throw new IllegalArgumentException("A Request URI is required.");
+        }
+        Exchange exchange = new Exchange(smartsheetRequest, callback);
+        try {
+            // the body is sent from memory, so that it can be sent again if the request is retried
+            HttpEntity entity = smartsheetRequest.getEntity();
+            if (entity != null && entity.getContent() != null) {
+                exchange.body = StreamUtil.readBytesFromStream(entity.getContent());
+            }
+        } catch (IOException e) {
+            exchange.fail(new HttpClientException("Error occurred.", e));
+            return exchange;
+        }
+        exchange.send();
+        return exchange;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ScheduledExecutorService timer = retryTimer.get();
+        if (timer != null) {
+            timer.shutdown();
+        }
+        httpClient.close();
+    }
+
+    /**
+     * Create a CloseableHttpAsyncClient whose connections are pooled and whose I/O threads are daemon threads.
+     *
+     * @param maxConnections the maximum number of pooled connections
+     * @param maxConnectionsPerRoute the maximum number of pooled connections per route
+     * @param keepAliveMillis the keep-alive used when the server doesn't send a Keep-Alive header
+     * @return the (not yet started) client
+     */
+    public static CloseableHttpAsyncClient createPooledHttpAsyncClient(int maxConnections, int maxConnectionsPerRoute,
+                                                                       final long keepAliveMillis) {
+        return HttpAsyncClients.custom()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+                    @Override
+                    public long getKeepAliveDuration(org.apache.http.HttpResponse response, HttpContext context) {
+                        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        return serverKeepAlive > 0 ? serverKeepAlive : keepAliveMillis;
+                    }
+                })
+                .setThreadFactory(new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "smartsheet-async-io-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                })
+                .build();
+    }
+
+    private ScheduledExecutorService getRetryTimer() {
+        if (retryTimer.get() == null) {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "smartsheet-async-retry-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            if (!retryTimer.compareAndSet(null, timer)) {
+                timer.shutdown();
+            }
+        }
+        return retryTimer.get();
+    }
+
+    /**
+     * A request, along with all of its attempts.
+     */
+    private class Exchange extends CallbackFuture<HttpResponse> implements FutureCallback<org.apache.http.HttpResponse> {
+        private final HttpRequest smartsheetRequest;
+        private final long start = System.currentTimeMillis();
+
+        /** the request body, null if there is none */
+        byte[] body;
+
+        /** the number of attempts made so far; only changed by the attempt in flight */
+        private volatile int attempt;
+
+        /** the attempt in flight */
+        private volatile HttpRequestBase apacheHttpRequest;
+        private volatile Future<org.apache.http.HttpResponse> inFlight;
+
+        Exchange(HttpRequest smartsheetRequest, AsyncCallback<HttpResponse> callback) {
+            super(callback);
+            this.smartsheetRequest = smartsheetRequest;
+        }
+
+        /**
+         * Make an attempt.
+         */
+        void send() {
+            if (isDone()) {
+                // cancelled while waiting to be retried
+                return;
+            }
+            apacheHttpRequest = createApacheHttpRequest();
+            try {
+                inFlight = httpClient.execute(apacheHttpRequest, this);
+            } catch (RuntimeException e) {
+                // e.g. the client was closed
+                fail(new HttpClientException("Error occurred.", e));
+                return;
+            }
+            if (isCancelled()) {
+                inFlight.cancel(true);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Future<org.apache.http.HttpResponse> request = inFlight;
+            if (cancelled && request != null) {
+                request.cancel(true);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public void completed(org.apache.http.HttpResponse apacheHttpResponse) {
+            attempt++;
+            final HttpResponse smartsheetResponse;
+            try {
+                smartsheetResponse = toSmartsheetResponse(apacheHttpResponse);
+            } catch (IOException e) {
+                failed(e);
+                return;
+            }
+            if (smartsheetResponse.getStatusCode() == 200) {
+                complete(smartsheetResponse);
+                return;
+            }
+
+            // log the summary request and response on error
+            try {
+                logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, requestEntity(), smartsheetResponse,
+                        smartsheetResponse.getEntity(), DefaultHttpClient.REQUEST_RESPONSE_SUMMARY));
+            } catch (IOException ignore) {
+            }
+
+            if (shouldRetry == null || shouldRetry instanceof RetryPolicy) {
+                retryOrComplete(smartsheetResponse);
+                return;
+            }
+            // a ShouldRetry that isn't a RetryPolicy waits before deciding, which mustn't hold up an I/O thread
+            try {
+                getRetryTimer().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        retryOrComplete(smartsheetResponse);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                complete(smartsheetResponse);
+            }
+        }
+
+        @Override
+        public void failed(Exception e) {
+            try {
+                logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, requestEntity(), null, null,
+                        DefaultHttpClient.REQUEST_RESPONSE_SUMMARY));
+            } catch (IOException ignore) {
+            }
+            fail(new HttpClientException("Error occurred.", e));
+        }
+
+        @Override
+        public void cancelled() {
+            // either cancelled through this future, or abandoned as the client was closed
+            fail(new HttpClientException("The request was cancelled."));
+        }
+
+        private void retryOrComplete(HttpResponse smartsheetResponse) {
+            RetryDecision retryDecision;
+            try {
+                retryDecision = shouldRetry == null ? RetryDecision.NO_RETRY
+                        : DefaultHttpClient.decideRetry(shouldRetry, attempt, System.currentTimeMillis() - start,
+                        smartsheetResponse);
+                if (smartsheetResponse.getEntity() != null) {
+                    smartsheetResponse.getEntity().getContent().reset();
+                }
+            } catch (IOException e) {
+                retryDecision = RetryDecision.NO_RETRY;
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (!retryDecision.shouldRetry() || isDone()) {
+                complete(smartsheetResponse);
+                return;
+            }
+            try {
+                getRetryTimer().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        send();
+                    }
+                }, retryDecision.getDelayMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // the client was closed
+                complete(smartsheetResponse);
+            }
+        }
+
+        private HttpRequestBase createApacheHttpRequest() {
+            HttpRequestBase request;
+            switch (smartsheetRequest.getMethod()) {
+                case GET:
+                    request = new HttpGet(smartsheetRequest.getUri());
+                    break;
+                case POST:
+                    request = new HttpPost(smartsheetRequest.getUri());
+                    break;
+                case PUT:
+                    request = new HttpPut(smartsheetRequest.getUri());
+                    break;
+                case DELETE:
+                    request = new HttpDelete(smartsheetRequest.getUri());
+                    break;
+                default:
+                    throw new UnsupportedOperationException("Request method " + smartsheetRequest.getMethod()
+                            + " is not supported!");
+            }
+            if (smartsheetRequest.getHeaders() != null) {
+                for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
+                    request.addHeader(header.getKey(), header.getValue());
+                }
+            }
+            request.setHeader(HttpHeaders.USER_AGENT, userAgent);
+            if (request instanceof HttpEntityEnclosingRequestBase && body != null) {
+                ((HttpEntityEnclosingRequestBase) request).setEntity(new ByteArrayEntity(body));
+            }
+            return request;
+        }
+
+        private HttpEntity requestEntity() {
+            if (body == null) {
+                return null;
+            }
+            HttpEntity entity = new HttpEntity();
+            entity.setContentType(smartsheetRequest.getEntity().getContentType());
+            entity.setContentLength(body.length);
+            entity.setContent(new ByteArrayInputStream(body));
+            return entity;
+        }
+    }
+
+    private static HttpResponse toSmartsheetResponse(org.apache.http.HttpResponse apacheHttpResponse)
+            throws IOException {
+        HttpResponse smartsheetResponse = new HttpResponse();
+        smartsheetResponse.setHeaders(new HashMap<String, String>());
+        for (Header header : apacheHttpResponse.getAllHeaders()) {
+            smartsheetResponse.getHeaders().put(header.getName(), header.getValue());
+        }
+        smartsheetResponse.setStatus(apacheHttpResponse.getStatusLine().getStatusCode(),
+                apacheHttpResponse.getStatusLine().toString());
+        if (apacheHttpResponse.getEntity() != null) {
+            org.apache.http.HttpEntity apacheEntity = apacheHttpResponse.getEntity();
+            byte[] content = EntityUtils.toByteArray(apacheEntity);
+            HttpEntity httpEntity = new HttpEntity();
+            if (apacheEntity.getContentType() != null) {
+                httpEntity.setContentType(apacheEntity.getContentType().getValue());
+            }
+            httpEntity.setContentLength(content.length);
+            httpEntity.setContent(new ByteArrayInputStream(content));
+            smartsheetResponse.setEntity(httpEntity);
+        }
+        return smartsheetResponse;
+    }
+}
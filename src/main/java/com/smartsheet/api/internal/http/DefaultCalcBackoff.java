@@ -34,6 +34,9 @@ public class DefaultCalcBackoff implements CalcBackoff {
     /** maximum total elapsed retry time. Will be set in the constructor */
     private long maxRetryTimeMillis;
 
+    /** source of the jitter added to backoff times; shared, as creating one per call is wasteful */
+    private static final Random RANDOM = new Random();
+
     /** logger for general errors, warnings, etc */
     private static final Logger logger = LoggerFactory.getLogger(DefaultCalcBackoff.class);
 
@@ -50,8 +53,25 @@ public class DefaultCalcBackoff implements CalcBackoff {
      * @return -1 to fall out of retry loop, positive number indicates backoff time
      */
     public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+        return calcBackoff(previousAttempts, totalElapsedTimeMillis, error, -1);
+    }
+
+    /**
+     * The backoff calculation routine, taking into account how long the server asked the client to wait (e.g. with
+     * a Retry-After header). When the server gave a time it's used instead of the exponential backoff; either way a
+     * random jitter of up to a second is added so that clients rejected at the same time don't all retry together.
+     * If the maximum elapsed time would be exceeded, this calculation returns -1 causing the caller to fall out of
+     * the retry loop.
+     * @param previousAttempts
+     * @param totalElapsedTimeMillis
+     * @param error
+     * @param retryAfterMillis the time the server asked to wait before retrying (-1 if it didn't say)
+     * @return -1 to fall out of retry loop, positive number indicates backoff time
+     */
+    public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error, long retryAfterMillis) {
 
-        long backoffMillis = (long)(Math.pow(2, previousAttempts) * 1000) + new Random().nextInt(1000);
+        long backoffMillis = (retryAfterMillis >= 0 ? retryAfterMillis : (long)(Math.pow(2, previousAttempts) * 1000))
+                + RANDOM.nextInt(1000);
 
         if(totalElapsedTimeMillis + backoffMillis > maxRetryTimeMillis) {
             logger.info("Elapsed time " + totalElapsedTimeMillis + " + backoff time " + backoffMillis +
@@ -20,9 +20,22 @@ package com.smartsheet.api.internal.http;
  * %[license]
  */
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.smartsheet.api.Trace;
+import com.smartsheet.api.internal.util.CapturingInputStream;
+import com.smartsheet.api.internal.util.StreamUtil;
 import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.metrics.RequestListener;
+import com.smartsheet.api.metrics.RequestMetrics;
+import com.smartsheet.api.retry.RetryDecision;
+import com.smartsheet.api.retry.RetryPolicy;
 import com.smartsheet.api.retry.ShouldRetry;
+import com.smartsheet.api.trace.TraceSampler;
+import com.smartsheet.api.trace.TraceSamplers;
+import com.smartsheet.api.trace.StreamTraceWriter;
+import com.smartsheet.api.trace.TraceSink;
 import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.ClientProtocolException;
@@ -35,24 +48,34 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.System.currentTimeMillis;
 
@@ -60,15 +83,16 @@ import static java.lang.System.currentTimeMillis;
  * This is the Apache HttpClient (http://hc.apache.org/httpcomponents-client-ga/index.html) based HttpClient
  * implementation.
  *
- * Thread Safety: This class is thread safe because it is immutable and the underlying Apache CloseableHttpClient is
- * thread safe.
+ * Thread Safety: This class is thread safe. All per-request state (the Apache request and response) is kept local to
+ * each call of {@link #request(HttpRequest)}, the underlying Apache CloseableHttpClient is thread safe and (by default)
+ * backed by a {@link PoolingHttpClientConnectionManager}, so a single instance can carry many concurrent calls.
  */
 public class DefaultHttpClient implements HttpClient {
     /** logger for general errors, warnings, etc */
     private static final Logger logger = LoggerFactory.getLogger(DefaultHttpClient.class);
 
     // to avoid creating new sets for each call (we use Sets for practical and perf reasons)
-    private static final Set<Trace> REQUEST_RESPONSE_SUMMARY = Collections.unmodifiableSet(new HashSet<Trace>(
+    static final Set<Trace> REQUEST_RESPONSE_SUMMARY = Collections.unmodifiableSet(new HashSet<Trace>(
             Arrays.asList(Trace.RequestHeaders, Trace.RequestBodySummary, Trace.ResponseHeaders, Trace.ResponseBodySummary)));
 
     // default values for trace-logging extracted from system-properties (can still be overwritten at the instance level)
@@ -76,12 +100,41 @@ public class DefaultHttpClient implements HttpClient {
 
     private static final Set<Trace> TRACE_DEFAULT_TRACE_SET  = Trace.parse(System.getProperty("Smartsheet.trace.parts"));    // empty by default
 
-    /** where to send trace logs */
-    private static PrintWriter TRACE_WRITER;
+    /** default maximum number of pooled connections (across all routes) */
+    public static final int DEFAULT_MAX_CONNECTIONS = 200;
+
+    /** default maximum number of pooled connections per route (all SDK calls normally share a single route) */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+
+    /** default time after which idle pooled connections are evicted */
+    public static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS = 30000;
+
+    /** default keep-alive used when the server doesn't send a Keep-Alive header */
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 60000;
+
+    /** request bodies that aren't already held in memory are only replayable (for retries) up to this size */
+    private static final int MAX_REPLAY_BYTES = 1024 * 1024;
+
+    /** buffer size used when a response body is read into memory */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /** default number of requests that can be made at once with an access token when rate limiting */
+    public static final int DEFAULT_RATE_LIMIT_BURST = 10;
+
+    /** maximum number of access tokens whose rate limiters are kept */
+    private static final int MAX_RATE_LIMITERS = 256;
+
+    /** status returned (with error 4003) when a request exceeds the rate limit */
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
+    /** parses error codes out of error responses */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /** where to send trace logs from clients that don't have their own trace sink */
+    private static volatile StreamTraceWriter defaultTraceSink = new StreamTraceWriter(System.out);
     static {
-        setTraceStream(System.out); // default trace stream
         if (TRACE_DEFAULT_TRACE_SET.size() > 0) {
-            TRACE_WRITER.println("default trace logging - pretty:" + TRACE_PRETTY_PRINT_DEFAULT + " parts:" + TRACE_DEFAULT_TRACE_SET);
+            logger.info("default trace logging - pretty:{} parts:{}", TRACE_PRETTY_PRINT_DEFAULT, TRACE_DEFAULT_TRACE_SET);
         }
     }
 
@@ -92,30 +145,60 @@ public class DefaultHttpClient implements HttpClient {
      */
     private final CloseableHttpClient httpClient;
 
-    /** The apache http request. */
-    private HttpRequestBase apacheHttpRequest;
-
-    /** The apache http response. */
-    private CloseableHttpResponse apacheHttpResponse;
+    /**
+     * The last Apache response handed out on each thread; only used to support {@link #releaseConnection()} for
+     * callers that don't release the connection through {@link HttpResponse#releaseConnection()}.
+     */
+    private final ThreadLocal<CloseableHttpResponse> lastApacheHttpResponse = new ThreadLocal<CloseableHttpResponse>();
 
     /** UserAgent string sent with each request */
     private final String userAgent;
 
-    /** the set of Trace levels to use in trace-logging */
-    private final Set<Trace> traces = new HashSet<Trace>(TRACE_DEFAULT_TRACE_SET);
+    /** the set of Trace levels to use in trace-logging; replaced (never changed) when set, as traces refer to it */
+    private volatile Set<Trace> traces = TRACE_DEFAULT_TRACE_SET;
     /** whether to log pretty or compact */
-    private boolean tracePrettyPrint = TRACE_PRETTY_PRINT_DEFAULT;
+    private volatile boolean tracePrettyPrint = TRACE_PRETTY_PRINT_DEFAULT;
+    /** where to send trace logs (null for the default trace sink) */
+    private volatile TraceSink traceSink;
+    /** which traced requests are logged */
+    private volatile TraceSampler traceSampler = TraceSamplers.always();
 
     @Deprecated // never used (within SDK)
     public static final String USER_AGENT = "Mozilla/5.0 Firefox/26.0";
 
     private ShouldRetry shouldRetry;
 
+    /** requests per minute allowed for each access token; 0 if requests aren't rate limited */
+    private volatile double rateLimitRequestsPerMinute;
+
+    /** requests that can be made at once with an access token after a quiet period */
+    private volatile int rateLimitBurst = DEFAULT_RATE_LIMIT_BURST;
+
+    /** notified of every request attempt */
+    private final List<RequestListener> requestListeners = new CopyOnWriteArrayList<RequestListener>();
+
+    /** the metrics of the successful response whose body this thread is reading, until its connection is released */
+    private final ThreadLocal<PendingMetrics> pendingMetrics = new ThreadLocal<PendingMetrics>();
+
+    /**
+     * the rate limiters, by digest of the Authorization header (i.e. by access token), least recently used first; only
+     * the most recently used are kept, so that rotated tokens don't pile up; guarded by itself
+     */
+    private final Map<String, RateLimiter> rateLimiters = new LinkedHashMap<String, RateLimiter>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RateLimiter> eldest) {
+            return size() > MAX_RATE_LIMITERS;
+        }
+    };
+
     /**
      * Constructor.
      */
     public DefaultHttpClient() {
-        this(HttpClients.createDefault(), new DefaultShouldRetry(null));
+        this(createPooledHttpClient(DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+                DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS, DEFAULT_KEEP_ALIVE_MILLIS), new DefaultShouldRetry(null));
     }
 
     /**
@@ -149,7 +232,12 @@ public class DefaultHttpClient implements HttpClient {
         int attempt = 0;
         long start = System.currentTimeMillis();
 
+        // a previous response whose connection was never released
+        reportPendingMetrics();
+
         HttpResponse smartsheetResponse = null;
+        HttpRequestBase apacheHttpRequest;
+        CloseableHttpResponse apacheHttpResponse = null;
 
         // the retry loop
         while(true) {
@@ -192,28 +280,42 @@ public class DefaultHttpClient implements HttpClient {
             apacheHttpRequest.setHeader(HttpHeaders.USER_AGENT, userAgent);
 
 
-            HttpEntity originalRequestEntity = null;
-            HttpEntity originalResponseEntity = null;
-            // Set HTTP entity
+            // Set HTTP entity; the body is streamed as-is, keeping only as much of it as logging/tracing needs
+            CapturingInputStream requestCapture = null;
             final HttpEntity entity = smartsheetRequest.getEntity();
-            if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && entity != null && entity.getContent() != null) {
-                try {
-                    // we need access to the original request stream so we can log it (in the event of errors and/or tracing)
-                    originalRequestEntity = new HttpEntity(entity);
-                } catch (IOException iox) {
-                    logger.error("failed to make copy of original request entity - {}", iox);
+            final InputStream requestContent = entity != null ? entity.getContent() : null;
+            if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && requestContent != null) {
+                if (attempt == 0 && requestContent.markSupported()) {
+                    // allows the body to be sent again if the request is retried
+                    requestContent.mark(MAX_REPLAY_BYTES);
                 }
-
-                InputStreamEntity streamEntity = new InputStreamEntity(entity.getContent(), entity.getContentLength());
+                // binary bodies (uploads) are never logged, so there's nothing to keep
+                requestCapture = new CapturingInputStream(requestContent,
+                        RequestAndResponseData.isBinaryBody(apacheHttpRequest) ? 0
+                                : RequestAndResponseData.bodyCaptureLength(traces, Trace.RequestBody));
+                InputStreamEntity streamEntity = new InputStreamEntity(requestCapture, entity.getContentLength());
                 streamEntity.setChunked(false);    // why?  not supported by library?
                 ((HttpEntityEnclosingRequestBase) apacheHttpRequest).setEntity(streamEntity);
             }
 
+            // pace the request to stay within the rate limit of its access token
+            RateLimiter rateLimiter = getRateLimiter(apacheHttpRequest);
+            if (rateLimiter != null) {
+                try {
+                    rateLimiter.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new HttpClientException("Interrupted while waiting for the rate limit.", e);
+                }
+            }
+
             // Make the HTTP request
             smartsheetResponse = new HttpResponse();
             HttpContext context = new BasicHttpContext();
+            long sendNanos = System.nanoTime();
             try {
                 apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
+                long timeToFirstByteNanos = System.nanoTime() - sendNanos;
 
                 // Set request headers to values ACTUALLY SENT (not just created by us)
                 HttpRequestWrapper actualRequest = (HttpRequestWrapper) context.getAttribute("http.request");
@@ -231,24 +333,59 @@ public class DefaultHttpClient implements HttpClient {
 
                 // Set returned entities
                 if (apacheHttpResponse.getEntity() != null) {
+                    org.apache.http.HttpEntity apacheEntity = apacheHttpResponse.getEntity();
                     HttpEntity httpEntity = new HttpEntity();
-                    httpEntity.setContentType(apacheHttpResponse.getEntity().getContentType().getValue());
-                    httpEntity.setContentLength(apacheHttpResponse.getEntity().getContentLength());
-                    httpEntity.setContent(apacheHttpResponse.getEntity().getContent());
+                    if (apacheEntity.getContentType() != null) {
+                        httpEntity.setContentType(apacheEntity.getContentType().getValue());
+                    }
+                    httpEntity.setContentLength(apacheEntity.getContentLength());
+                    httpEntity.setContent(wrapResponseContent(apacheEntity.getContent(),
+                            smartsheetResponse.getStatusCode()));
                     smartsheetResponse.setEntity(httpEntity);
-                    originalResponseEntity = new HttpEntity(httpEntity);
                 }
+                if (rateLimiter != null) {
+                    if (smartsheetResponse.getStatusCode() == STATUS_TOO_MANY_REQUESTS) {
+                        rateLimiter.onRateLimited();
+                    } else if (smartsheetResponse.getStatusCode() == 200) {
+                        rateLimiter.onSuccess();
+                    }
+                }
+
                 // HTTP-error logging
                 if (smartsheetResponse.getStatusCode() != 200) {
                     // log the summary request and response on error
-                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, originalRequestEntity, smartsheetResponse,
-                            originalResponseEntity, REQUEST_RESPONSE_SUMMARY));
+                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, capturedEntity(entity, requestCapture),
+                            smartsheetResponse, smartsheetResponse.getEntity(), REQUEST_RESPONSE_SUMMARY));
+                }
+
+                Set<Trace> requestTraces = traces;
+                if (requestTraces.size() > 0) { // trace-logging of request and response (if so configured)
+                    HttpTraceRecord traceRecord = new HttpTraceRecord(apacheHttpRequest, smartsheetResponse,
+                            timeToFirstByteNanos, requestTraces, tracePrettyPrint);
+                    if (traceSampler.isSampled(traceRecord)) {
+                        // only the bodies are copied here, the trace is formatted when the sink writes it
+                        traceRecord.captureBodies(capturedEntity(entity, requestCapture), smartsheetResponse.getEntity());
+                        TraceSink sink = traceSink;
+                        (sink != null ? sink : defaultTraceSink).write(traceRecord);
+                    }
                 }
 
-                if (traces.size() > 0) { // trace-logging of request and response (if so configured)
-                    RequestAndResponseData requestAndResponseData = RequestAndResponseData.of(apacheHttpRequest,
-                            originalRequestEntity, smartsheetResponse, originalResponseEntity, traces);
-                    TRACE_WRITER.println(requestAndResponseData.toString(tracePrettyPrint));
+                if (!requestListeners.isEmpty()) {
+                    PendingMetrics metrics = new PendingMetrics(apacheHttpRequest, attempt + 1, sendNanos,
+                            timeToFirstByteNanos, requestCapture != null ? requestCapture.getBytesRead() : 0);
+                    HttpEntity responseEntity = smartsheetResponse.getEntity();
+                    if (smartsheetResponse.getStatusCode() == 200 && responseEntity != null
+                            && responseEntity.getContent() != null) {
+                        // the body is read by the caller; its size and the total latency are known once it's released
+                        metrics.responseCounter = new CapturingInputStream(responseEntity.getContent(), 0);
+                        responseEntity.setContent(metrics.responseCounter);
+                        pendingMetrics.set(metrics);
+                    } else {
+                        InputStream content = responseEntity != null ? responseEntity.getContent() : null;
+                        long responseBytes = content != null ? content.available() : 0;
+                        notifyRequestListeners(metrics.toRequestMetrics(smartsheetResponse.getStatusCode(),
+                                readErrorCode(content), responseBytes));
+                    }
                 }
 
                 if (smartsheetResponse.getStatusCode() == 200) {
@@ -257,30 +394,283 @@ public class DefaultHttpClient implements HttpClient {
                 }
 
                 long stop = System.currentTimeMillis();
-                if (!shouldRetry.shouldRetry(++attempt, (stop-start), smartsheetResponse)) {
-                    // should not retry, or retry time exceeded, exit the retry loop
+                if (!rewind(requestCapture != null ? requestContent : null)) {
                     smartsheetResponse.getEntity().getContent().reset();
                     break;
                 }
+                RetryDecision retryDecision = decideRetry(shouldRetry, ++attempt, (stop-start), smartsheetResponse);
+                smartsheetResponse.getEntity().getContent().reset();
+                if (!retryDecision.shouldRetry()) {
+                    // should not retry, or retry time exceeded, exit the retry loop
+                    break;
+                }
+                if (!waitForRetry(retryDecision.getDelayMillis())) {
+                    break;
+                }
+                // we're going around again, so hand this attempt's connection back to the pool
+                closeQuietly(apacheHttpResponse);
+                apacheHttpResponse = null;
             } catch (ClientProtocolException e) {
+                notifyFailedRequest(apacheHttpRequest, attempt + 1, sendNanos, requestCapture);
                 try {
-                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, originalRequestEntity, smartsheetResponse,
-                            originalResponseEntity, REQUEST_RESPONSE_SUMMARY));
+                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, capturedEntity(entity, requestCapture),
+                            smartsheetResponse, smartsheetResponse.getEntity(), REQUEST_RESPONSE_SUMMARY));
                 } catch (IOException ignore) {
                 }
+                closeQuietly(apacheHttpResponse);
                 throw new HttpClientException("Error occurred.", e);
             } catch (IOException e) {
+                notifyFailedRequest(apacheHttpRequest, attempt + 1, sendNanos, requestCapture);
                 try {
-                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, originalRequestEntity, smartsheetResponse,
-                            originalResponseEntity, REQUEST_RESPONSE_SUMMARY));
+                    logger.warn("{}", RequestAndResponseData.of(apacheHttpRequest, capturedEntity(entity, requestCapture),
+                            smartsheetResponse, smartsheetResponse.getEntity(), REQUEST_RESPONSE_SUMMARY));
                 } catch (IOException ignore) {
                 }
+                closeQuietly(apacheHttpResponse);
                 throw new HttpClientException("Error occurred.", e);
             }
         }
+        smartsheetResponse.setConnection(apacheHttpResponse);
+        lastApacheHttpResponse.set(apacheHttpResponse);
         return smartsheetResponse;
     }
 
+    /**
+     * Decide whether to retry a failed request.
+     *
+     * @param shouldRetry the retry policy
+     * @param previousAttempts the number of attempts made so far
+     * @param totalElapsedTimeMillis the time since the first attempt was made
+     * @param response the failed response
+     * @return the decision; a ShouldRetry that isn't a RetryPolicy has already waited before returning
+     */
+    static RetryDecision decideRetry(ShouldRetry shouldRetry, int previousAttempts, long totalElapsedTimeMillis,
+                                     HttpResponse response) {
+        if (shouldRetry instanceof RetryPolicy) {
+            return ((RetryPolicy) shouldRetry).decideRetry(previousAttempts, totalElapsedTimeMillis, response);
+        }
+        return shouldRetry.shouldRetry(previousAttempts, totalElapsedTimeMillis, response)
+                ? RetryDecision.retryAfter(0) : RetryDecision.NO_RETRY;
+    }
+
+    /**
+     * Wait before retrying a request on the calling thread.
+     *
+     * @param delayMillis the time to wait
+     * @return false if interrupted, in which case the request isn't retried
+     */
+    private static boolean waitForRetry(long delayMillis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Gets the rate limiter shared by the requests made with the access token of a request.
+     *
+     * @param apacheHttpRequest the request
+     * @return the rate limiter, or null if requests aren't rate limited
+     */
+    private RateLimiter getRateLimiter(HttpRequestBase apacheHttpRequest) {
+        double requestsPerMinute = rateLimitRequestsPerMinute;
+        if (requestsPerMinute <= 0) {
+            return null;
+        }
+        Header authorization = apacheHttpRequest.getFirstHeader(HttpHeaders.AUTHORIZATION);
+        // the token is digested so the map doesn't keep it around
+        String key = authorization != null ? Util.digest(authorization.getValue()) : "";
+        synchronized (rateLimiters) {
+            RateLimiter rateLimiter = rateLimiters.get(key);
+            if (rateLimiter == null) {
+                rateLimiter = new RateLimiter(requestsPerMinute, rateLimitBurst);
+                rateLimiters.put(key, rateLimiter);
+            }
+            return rateLimiter;
+        }
+    }
+
+    /**
+     * Add a listener notified of every request attempt, e.g. to collect metrics.
+     *
+     * @param listener the listener
+     */
+    public void addRequestListener(RequestListener listener) {
+        requestListeners.add(Util.throwIfNull(listener));
+    }
+
+    /**
+     * Remove a listener added by {@link #addRequestListener(RequestListener)}.
+     *
+     * @param listener the listener
+     */
+    public void removeRequestListener(RequestListener listener) {
+        requestListeners.remove(listener);
+    }
+
+    private void notifyRequestListeners(RequestMetrics metrics) {
+        for (RequestListener listener : requestListeners) {
+            try {
+                listener.onRequest(metrics);
+            } catch (RuntimeException e) {
+                logger.warn("RequestListener threw an exception - {}", e);
+            }
+        }
+    }
+
+    private void notifyFailedRequest(HttpRequestBase apacheHttpRequest, int attempt, long sendNanos,
+                                     CapturingInputStream requestCapture) {
+        if (!requestListeners.isEmpty()) {
+            long elapsedNanos = System.nanoTime() - sendNanos;
+            notifyRequestListeners(new PendingMetrics(apacheHttpRequest, attempt, sendNanos, elapsedNanos,
+                    requestCapture != null ? requestCapture.getBytesRead() : 0).toRequestMetrics(0, null, 0));
+        }
+    }
+
+    /**
+     * Report the metrics of the successful response read by this thread, if any.
+     */
+    private void reportPendingMetrics() {
+        PendingMetrics metrics = pendingMetrics.get();
+        if (metrics != null) {
+            pendingMetrics.remove();
+            notifyRequestListeners(metrics.toRequestMetrics(200, null, metrics.responseCounter.getBytesRead()));
+        }
+    }
+
+    /**
+     * Read the Smartsheet error code from a (buffered) error response body, leaving the body to be read again.
+     *
+     * @param content the body
+     * @return the error code, or null if there is none
+     */
+    private static Integer readErrorCode(InputStream content) {
+        if (content == null || !content.markSupported()) {
+            return null;
+        }
+        Integer errorCode = null;
+        try {
+            content.mark(Integer.MAX_VALUE);
+            JsonParser parser = JSON_FACTORY.createParser(content);
+            try {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.getCurrentName();
+                        JsonToken value = parser.nextToken();
+                        if ("errorCode".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                            errorCode = parser.getIntValue();
+                            break;
+                        }
+                        parser.skipChildren();
+                    }
+                }
+            } finally {
+                parser.close();
+            }
+        } catch (IOException e) {
+            // not a Smartsheet error
+        } finally {
+            try {
+                content.reset();
+            } catch (IOException ignore) {
+            }
+        }
+        return errorCode;
+    }
+
+    /**
+     * The metrics of a request attempt, as far as they are known.
+     */
+    private static class PendingMetrics {
+        final String method;
+        final String endpoint;
+        final int attempt;
+        final long sendNanos;
+        final long timeToFirstByteNanos;
+        final long requestBytes;
+        CapturingInputStream responseCounter;
+
+        PendingMetrics(HttpRequestBase request, int attempt, long sendNanos, long timeToFirstByteNanos,
+                       long requestBytes) {
+            this.method = request.getMethod();
+            this.endpoint = RequestMetrics.toEndpoint(request.getURI().getPath());
+            this.attempt = attempt;
+            this.sendNanos = sendNanos;
+            this.timeToFirstByteNanos = timeToFirstByteNanos;
+            this.requestBytes = requestBytes;
+        }
+
+        RequestMetrics toRequestMetrics(int statusCode, Integer errorCode, long responseBytes) {
+            return new RequestMetrics(method, endpoint, statusCode, errorCode, attempt, timeToFirstByteNanos,
+                    System.nanoTime() - sendNanos, requestBytes, responseBytes);
+        }
+    }
+
+    /**
+     * Decide how much of a response body is held in memory. Successful responses are handed to the caller as the
+     * (unbuffered) connection stream; only error bodies, which are small and are read more than once (retry decision,
+     * logging, error handling), and bodies that are traced in full are buffered. For summary traces only a bounded
+     * prefix is buffered so it can be peeked at.
+     *
+     * @param content the response content as read from the connection
+     * @param statusCode the response status code
+     * @return the content to hand to the caller
+     * @throws IOException if the content can't be read
+     */
+    private InputStream wrapResponseContent(InputStream content, int statusCode) throws IOException {
+        if (content == null) {
+            return null;
+        }
+        int captureLength = RequestAndResponseData.bodyCaptureLength(traces, Trace.ResponseBody);
+        if (statusCode != 200 || (traces.size() > 0 && captureLength == Integer.MAX_VALUE)) {
+            return new ByteArrayInputStream(StreamUtil.readBytesFromStream(content, READ_BUFFER_SIZE));
+        }
+        if (traces.contains(Trace.ResponseBodySummary)) {
+            return new BufferedInputStream(content, captureLength);
+        }
+        return content;
+    }
+
+    /**
+     * Build an entity (for logging) around the part of the request body that was captured while it was sent.
+     */
+    private static HttpEntity capturedEntity(HttpEntity entity, CapturingInputStream requestCapture) {
+        if (requestCapture == null) {
+            return null;
+        }
+        HttpEntity capturedEntity = new HttpEntity();
+        capturedEntity.setContentType(entity.getContentType());
+        capturedEntity.setContentLength(entity.getContentLength());
+        capturedEntity.setContent(new ByteArrayInputStream(requestCapture.getCapturedBytes()));
+        return capturedEntity;
+    }
+
+    /**
+     * Rewind the request body so it can be sent again.
+     *
+     * @param requestContent the request body (null if there is none)
+     * @return true if there is no body, or it was rewound
+     */
+    private static boolean rewind(InputStream requestContent) {
+        if (requestContent == null) {
+            return true;
+        }
+        if (!requestContent.markSupported()) {
+            logger.info("request body can't be replayed, not retrying");
+            return false;
+        }
+        try {
+            requestContent.reset();
+            return true;
+        } catch (IOException e) {
+            logger.info("request body can't be replayed, not retrying - {}", e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Close the HttpClient.
      *
@@ -296,24 +686,64 @@ public class DefaultHttpClient implements HttpClient {
      */
     @Override
     public void releaseConnection() {
+        reportPendingMetrics();
+        CloseableHttpResponse apacheHttpResponse = lastApacheHttpResponse.get();
+        if (apacheHttpResponse != null) {
+            lastApacheHttpResponse.remove();
+            closeQuietly(apacheHttpResponse);
+        }
+    }
+
+    private static void closeQuietly(CloseableHttpResponse apacheHttpResponse) {
         if (apacheHttpResponse != null) {
             try {
                 apacheHttpResponse.close();
-                apacheHttpResponse = null;
             } catch (IOException e) {
                 logger.error("error closing Apache HttpResponse - {}", e);
             }
         }
     }
 
+    /**
+     * Create an Apache CloseableHttpClient backed by a {@link PoolingHttpClientConnectionManager}, suitable for being
+     * shared by many threads.
+     *
+     * @param maxConnections the maximum number of pooled connections (across all routes)
+     * @param maxConnectionsPerRoute the maximum number of pooled connections per route
+     * @param idleConnectionTimeoutMillis connections idle for longer than this are evicted from the pool (0 to disable)
+     * @param keepAliveMillis how long to keep a connection alive when the server doesn't send a Keep-Alive header
+     * @return the http client
+     */
+    public static CloseableHttpClient createPooledHttpClient(int maxConnections, int maxConnectionsPerRoute,
+                                                             long idleConnectionTimeoutMillis, final long keepAliveMillis) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(new ConnectionKeepAliveStrategy() {
+                    @Override
+                    public long getKeepAliveDuration(org.apache.http.HttpResponse response, HttpContext context) {
+                        long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                        return serverKeepAlive > 0 ? serverKeepAlive : keepAliveMillis;
+                    }
+                });
+        if (idleConnectionTimeoutMillis > 0) {
+            builder.evictExpiredConnections().evictIdleConnections(idleConnectionTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
+
     @Override
     public void setTraces(Trace... traces) {
-        this.traces.clear();
+        Set<Trace> newTraces = new HashSet<Trace>();
         for (Trace trace : traces) {
-            if (!trace.addReplacements(this.traces)) {
-                this.traces.add(trace);
+            if (!trace.addReplacements(newTraces)) {
+                newTraces.add(trace);
             }
         }
+        this.traces = newTraces;
     }
 
     @Override
@@ -321,9 +751,62 @@ public class DefaultHttpClient implements HttpClient {
         tracePrettyPrint = pretty;
     }
 
-    /** only included for testing purposes */
+    /**
+     * Pace the requests made with each access token to stay within a rate limit, rather than relying on retrying
+     * the requests the server rejects. The rate is lowered while the server keeps rejecting requests (error 4003).
+     *
+     * @param requestsPerMinute the requests per minute allowed for each access token (0 to not limit requests)
+     * @param burst the requests that can be made at once after a quiet period
+     */
+    public void setRateLimit(double requestsPerMinute, int burst) {
+        if (requestsPerMinute < 0 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerMinute can't be negative and burst must be positive");
+        }
+        this.rateLimitRequestsPerMinute = requestsPerMinute;
+        this.rateLimitBurst = burst;
+        synchronized (rateLimiters) {
+            rateLimiters.clear();
+        }
+    }
+
+    /**
+     * Set where this client sends its trace logs, e.g. an {@link com.smartsheet.api.trace.AsyncTraceWriter} to write
+     * them off the request threads. By default they are written as the requests complete to the stream set with
+     * {@link #setTraceStream(OutputStream)} (System.out unless set).
+     *
+     * @param traceSink the trace sink (null for the default)
+     */
+    public void setTraceSink(TraceSink traceSink) {
+        this.traceSink = traceSink;
+    }
+
+    /**
+     * Set which of the traced requests are logged, e.g. one in N ({@link TraceSamplers#oneIn(int)}) or only the slow
+     * or failed ones ({@link TraceSamplers#slowOrFailed(long)}); all of them by default.
+     *
+     * @param traceSampler the trace sampler
+     */
+    public void setTraceSampler(TraceSampler traceSampler) {
+        if (traceSampler == null) {
+            throw new IllegalArgumentException("traceSampler is required");
+        }
+        this.traceSampler = traceSampler;
+    }
+
+    /**
+     * Set the stream the default trace sink writes to.
+     *
+     * @param traceStream the stream
+     */
     public static void setTraceStream(OutputStream traceStream) {
-        TRACE_WRITER = new PrintWriter(traceStream, true);
+        defaultTraceSink = new StreamTraceWriter(traceStream);
+    }
+
+    /**
+     * Flush the stream of the default trace sink (which flushes every trace as it's written).
+     */
+    public static void flushTraceStream() {
+        defaultTraceSink.flush();
     }
 
     /**
@@ -21,20 +21,29 @@ package com.smartsheet.api.internal.http;
  */
 
 import com.smartsheet.api.internal.util.Util;
+import org.apache.http.client.utils.DateUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.retry.RetryDecision;
+import com.smartsheet.api.retry.RetryPolicy;
 import com.smartsheet.api.retry.ShouldRetry;
 import com.smartsheet.api.models.Error;
 import com.smartsheet.api.retry.CalcBackoff;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implements the default handler for request failures.
+ *
+ * Requests that failed with one of the transient errors (4001 - 4004) are retried after the time given by the
+ * Retry-After (or RateLimit-Reset) header of the response if there is one, otherwise after an exponential backoff.
  */
-public class DefaultShouldRetry implements ShouldRetry {
+public class DefaultShouldRetry implements ShouldRetry, RetryPolicy {
 
     private JsonSerializer jsonSerializer;
 
@@ -43,6 +52,9 @@ public class DefaultShouldRetry implements ShouldRetry {
     /** logger for general errors, warnings, etc */
     private static final Logger logger = LoggerFactory.getLogger(DefaultShouldRetry.class);
 
+    /** the status of the error 4003 (rate limit exceeded); the other transient errors have 5xx statuses */
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
     /** Constructor */
     public DefaultShouldRetry(JsonSerializer jsonSerializer) {
         this.jsonSerializer = jsonSerializer == null ? new JacksonJsonSerializer() : jsonSerializer;
@@ -53,22 +65,31 @@ public class DefaultShouldRetry implements ShouldRetry {
     }
 
     /**
-     * Called by the DefaultHttpClient when an API request fails to determine if can retry the request.
+     * Called by the DefaultHttpClient when an API request fails to determine if and when it can retry the request.
      * Calls calcBackoff to determine the time to wait in between retries.
      * @param previousAttempts
      * @param totalElapsedTimeMillis
      * @param response the failed HttpResponse
-     * @return true if this request can be retried
+     * @return the retry decision
      */
-    public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+    public RetryDecision decideRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
         Util.throwIfNull(calcBackoff);
 
+        int statusCode = response.getStatusCode();
+        if (statusCode != STATUS_TOO_MANY_REQUESTS && statusCode < 500) {
+            // not one of the transient errors, no need to parse the body
+            return RetryDecision.NO_RETRY;
+        }
+
         Error error;
         try {
             error = jsonSerializer.deserialize(Error.class, response.getEntity().getContent());
         }
         catch (IOException e) {
-            return false;
+            return RetryDecision.NO_RETRY;
+        }
+        if (error == null || error.getErrorCode() == null) {
+            return RetryDecision.NO_RETRY;
         }
         switch(error.getErrorCode()) {
             case 4001: /** Smartsheet.com is currently offline for system maintenance. Please check back again shortly. */
@@ -78,21 +99,85 @@ public class DefaultShouldRetry implements ShouldRetry {
                         * If you encounter this error repeatedly, please contact api@smartsheet.com for assistance. */
                 break;
             default:
-                return false;
+                return RetryDecision.NO_RETRY;
         }
 
-        long backoffMillis = calcBackoff.calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
+        long retryAfterMillis = getRetryAfterMillis(response);
+        long backoffMillis;
+        if (calcBackoff instanceof DefaultCalcBackoff) {
+            backoffMillis = ((DefaultCalcBackoff) calcBackoff).calcBackoff(previousAttempts, totalElapsedTimeMillis,
+                    error, retryAfterMillis);
+        } else {
+            backoffMillis = calcBackoff.calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
+            if (backoffMillis >= 0 && retryAfterMillis > backoffMillis) {
+                backoffMillis = retryAfterMillis;
+            }
+        }
         if(backoffMillis < 0)
-            return false;
+            return RetryDecision.NO_RETRY;
+
+        logger.info("HttpError StatusCode=" + statusCode + ": Retrying in " + backoffMillis + " milliseconds");
+        return RetryDecision.retryAfter(backoffMillis);
+    }
 
-        logger.info("HttpError StatusCode=" + response.getStatusCode() + ": Retrying in " + backoffMillis + " milliseconds");
+    /**
+     * Called when an API request fails to determine if can retry the request, waiting before returning if it can.
+     * The DefaultHttpClient uses {@link #decideRetry} instead.
+     * @param previousAttempts
+     * @param totalElapsedTimeMillis
+     * @param response the failed HttpResponse
+     * @return true if this request can be retried
+     */
+    public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+        RetryDecision decision = decideRetry(previousAttempts, totalElapsedTimeMillis, response);
+        if (!decision.shouldRetry()) {
+            return false;
+        }
         try {
-            Thread.sleep(backoffMillis);
+            TimeUnit.MILLISECONDS.sleep(decision.getDelayMillis());
         }
         catch (InterruptedException e) {
-            e.printStackTrace();
+            Thread.currentThread().interrupt();
             return false;
         }
         return true;
     }
+
+    /**
+     * Get how long the server asked the client to wait before retrying: the Retry-After header (in seconds, or an
+     * HTTP date), or else the RateLimit-Reset header (in seconds).
+     *
+     * @param response the response
+     * @return the time to wait, or -1 if the response doesn't say
+     */
+    static long getRetryAfterMillis(HttpResponse response) {
+        Map<String, String> headers = response.getHeaders();
+        if (headers == null) {
+            return -1;
+        }
+        String retryAfter = null;
+        String rateLimitReset = null;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(header.getKey())) {
+                retryAfter = header.getValue();
+            } else if ("RateLimit-Reset".equalsIgnoreCase(header.getKey())) {
+                rateLimitReset = header.getValue();
+            }
+        }
+        long millis = parseDelay(retryAfter);
+        return millis >= 0 ? millis : parseDelay(rateLimitReset);
+    }
+
+    private static long parseDelay(String value) {
+        if (value == null) {
+            return -1;
+        }
+        value = value.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(value)));
+        } catch (NumberFormatException notSeconds) {
+            Date date = DateUtils.parseDate(value);
+            return date == null ? -1 : Math.max(0, date.getTime() - System.currentTimeMillis());
+        }
+    }
 }
@@ -48,7 +48,7 @@ public interface HttpClient extends Closeable {
     public HttpResponse request(HttpRequest request) throws HttpClientException;
 
     /**
-     * Release connection.
+     * Release the connection of the most recent request made by the calling thread.
      */
     public void releaseConnection();
 
@@ -20,7 +20,11 @@ package com.smartsheet.api.internal.http;
  * %[license]
  */
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
 
 /**
  * This class represents an HTTP response.
@@ -28,6 +32,8 @@ package com.smartsheet.api.internal.http;
  * Thread Safety: This class is not thread safe since it's mutable.
  */
 public class HttpResponse extends HttpMessage {
+    private static final Logger logger = LoggerFactory.getLogger(HttpResponse.class);
+
     /**
      * Represents the response status code.
      *
@@ -36,6 +42,11 @@ public class HttpResponse extends HttpMessage {
     private int statusCode;
     private String statusText;
 
+    /**
+     * The connection this response is being read from (if any); released through {@link #releaseConnection()}.
+     */
+    private Closeable connection;
+
     /**
      * Gets the status code.
      *
@@ -74,4 +85,28 @@ public class HttpResponse extends HttpMessage {
         this.statusText = statusText;
     }
 
+    /**
+     * Sets the connection this response is read from.
+     *
+     * @param connection the connection handle
+     */
+    public void setConnection(Closeable connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Release the connection this response is being read from. Unlike {@link HttpClient#releaseConnection()} this
+     * only affects this response, regardless of which thread made the request or what other requests are in flight.
+     */
+    public void releaseConnection() {
+        Closeable connection = this.connection;
+        this.connection = null;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                logger.error("error releasing connection - {}", e);
+            }
+        }
+    }
 }
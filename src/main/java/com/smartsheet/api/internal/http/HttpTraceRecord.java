@@ -0,0 +1,93 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.Trace;
+import com.smartsheet.api.trace.TraceRecord;
+import org.apache.http.client.methods.HttpRequestBase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * The trace of a request made by the {@link DefaultHttpClient}. Only the bytes of the request and response bodies
+ * (as much of them as the traces need) are copied on the request thread, by {@link #captureBodies}; decoding,
+ * truncating and laying out the text is left to {@link #format()}.
+ *
+ * Thread Safety: This class is thread safe once the bodies have been captured.
+ */
+class HttpTraceRecord extends TraceRecord {
+    private final HttpRequestBase request;
+    private final HttpResponse response;
+    private final Set<Trace> traces;
+    private final boolean pretty;
+
+    private HttpEntity requestEntity;
+    private HttpEntity responseEntity;
+
+    /**
+     * Constructor.
+     *
+     * @param request the request as sent (it must not be changed afterwards)
+     * @param response the response
+     * @param latencyNanos the time from sending the request to receiving the response headers
+     * @param traces the parts of the request and response to trace (must not be changed afterwards)
+     * @param pretty whether to lay the trace out over several lines
+     */
+    HttpTraceRecord(HttpRequestBase request, HttpResponse response, long latencyNanos, Set<Trace> traces,
+                    boolean pretty) {
+        super(request.getMethod(), request.getURI().toString(), response.getStatusCode(), latencyNanos);
+        this.request = request;
+        this.response = response;
+        this.traces = traces;
+        this.pretty = pretty;
+    }
+
+    /**
+     * Copy the parts of the request and response bodies that are traced, leaving the response content readable.
+     *
+     * @param requestEntity the captured request body (null if there is none)
+     * @param responseEntity the response entity (null if there is none)
+     * @throws IOException if the response content can't be read
+     */
+    void captureBodies(HttpEntity requestEntity, HttpEntity responseEntity) throws IOException {
+        this.requestEntity = requestEntity;
+        if (responseEntity != null && (traces.contains(Trace.ResponseBody) || traces.contains(Trace.ResponseBodySummary))) {
+            HttpEntity copy = new HttpEntity();
+            copy.setContentType(responseEntity.getContentType());
+            copy.setContentLength(responseEntity.getContentLength());
+            copy.setContent(new ByteArrayInputStream(RequestAndResponseData.getContentBytes(responseEntity,
+                    RequestAndResponseData.bodyCaptureLength(traces, Trace.ResponseBody))));
+            this.responseEntity = copy;
+        }
+    }
+
+    @Override
+    protected String formatRecord() {
+        try {
+            return RequestAndResponseData.of(request, requestEntity, response, responseEntity, traces).toString(pretty);
+        } catch (IOException e) {
+            // not expected, the bodies are held in memory
+            return toString() + " - " + e.getMessage();
+        }
+    }
+}
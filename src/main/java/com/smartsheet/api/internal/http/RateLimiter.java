@@ -0,0 +1,139 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket that paces the requests made with one access token, shared by all of the threads making them.
+ *
+ * The bucket refills at the current rate up to a small burst. A request that finds the bucket empty reserves the next
+ * token anyway and waits (outside of the lock) until it is due, so waiting threads are released evenly rather than
+ * all together. The rate adapts to the server: it is halved when a request is rejected for exceeding the rate limit
+ * (error 4003) and grows back towards the configured rate as requests succeed.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class RateLimiter {
+    /** the rate never drops below this fraction of the configured rate */
+    private static final double MIN_RATE_FRACTION = 0.05;
+
+    /** fraction of the configured rate regained after each successful request */
+    private static final double RECOVERY_FRACTION = 0.01;
+
+    /** once the rate has been cut, further rejections within this time are the same burst and are ignored */
+    private static final long DECREASE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxRate;
+    private final double burst;
+
+    /** current rate, in requests per nanosecond */
+    private double rate;
+
+    /** tokens in the bucket; negative when tokens have been reserved by waiting requests */
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    private long lastDecreaseNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param requestsPerMinute the maximum rate
+     * @param burst the number of requests that can be made at once after a quiet period
+     */
+    public RateLimiter(double requestsPerMinute, int burst) {
+        if (requestsPerMinute <= 0 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerMinute and burst must be positive");
+        }
+        this.maxRate = requestsPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.burst = burst;
+        this.rate = maxRate;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastDecreaseNanos = lastRefillNanos - DECREASE_INTERVAL_NANOS;
+    }
+
+    /**
+     * Wait until a request can be made.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Called when a request was rejected for exceeding the rate limit.
+     */
+    public void onRateLimited() {
+        onRateLimited(System.nanoTime());
+    }
+
+    /**
+     * Called when a request succeeded.
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + maxRate * RECOVERY_FRACTION);
+    }
+
+    /**
+     * Gets the current rate.
+     *
+     * @return the current rate, in requests per minute
+     */
+    public synchronized double getRequestsPerMinute() {
+        return rate * TimeUnit.MINUTES.toNanos(1);
+    }
+
+    /**
+     * Take a token, reserving the next one if the bucket is empty.
+     *
+     * @param nowNanos the current time
+     * @return how long to wait for the token, in nanoseconds
+     */
+    synchronized long reserve(long nowNanos) {
+        refill(nowNanos);
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / rate);
+    }
+
+    synchronized void onRateLimited(long nowNanos) {
+        // the server has already seen too many requests; drop the burst allowance whatever happens to the rate
+        refill(nowNanos);
+        tokens = Math.min(tokens, 0);
+        if (nowNanos - lastDecreaseNanos >= DECREASE_INTERVAL_NANOS) {
+            rate = Math.max(maxRate * MIN_RATE_FRACTION, rate / 2);
+            lastDecreaseNanos = nowNanos;
+        }
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) * rate);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -30,7 +30,9 @@ import org.apache.http.client.methods.HttpRequestBase;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -259,7 +261,7 @@ public class RequestAndResponseData {
 
         if (request != null) {
             requestBuilder.withCommand(request.getMethod() + " " + request.getURI());
-            boolean binaryBody = false;
+            boolean binaryBody = isBinaryBody(request);
             if (traces.contains(Trace.RequestHeaders) && request.getAllHeaders() != null) {
                 requestBuilder.withHeaders();
                 for (Header header : request.getAllHeaders()) {
@@ -277,7 +279,8 @@ public class RequestAndResponseData {
                 if (traces.contains(Trace.RequestBody)) {
                     requestBuilder.setBody(binaryBody ? binaryBody(requestEntity) : getContentAsText(requestEntity));
                 } else if (traces.contains(Trace.RequestBodySummary)) {
-                    requestBuilder.setBody(binaryBody ? binaryBody(requestEntity) : truncateAsNeeded(getContentAsText(requestEntity), TRUNCATE_LENGTH));
+                    requestBuilder.setBody(binaryBody ? binaryBody(requestEntity) : truncateAsNeeded(
+                            getContentAsText(requestEntity, summaryByteLength()), TRUNCATE_LENGTH));
                 }
             }
         }
@@ -299,47 +302,117 @@ public class RequestAndResponseData {
                 if (traces.contains(Trace.ResponseBody)) {
                     responseBuilder.setBody(binaryBody ? binaryBody(responseEntity) : getContentAsText(responseEntity));
                 } else if (traces.contains(Trace.ResponseBodySummary)) {
-                    responseBuilder.setBody(binaryBody ? binaryBody(responseEntity) : truncateAsNeeded(getContentAsText(responseEntity), TRUNCATE_LENGTH));
+                    responseBuilder.setBody(binaryBody ? binaryBody(responseEntity) : truncateAsNeeded(
+                            getContentAsText(responseEntity, summaryByteLength()), TRUNCATE_LENGTH));
                 }
             }
         }
         return new RequestAndResponseData(requestBuilder.build(), responseBuilder.build());
     }
 
+    /**
+     * @return the number of body bytes needed to produce a summary of TRUNCATE_LENGTH characters
+     */
+    static int summaryByteLength() {
+        // a character takes up to 4 bytes in UTF-8
+        return TRUNCATE_LENGTH == -1 ? Integer.MAX_VALUE : TRUNCATE_LENGTH * 4;
+    }
+
+    /**
+     * @param traces the trace fields that will be logged
+     * @param fullBodyTrace the Trace that logs the whole body (RequestBody or ResponseBody)
+     * @return how many body bytes need to be kept for error logging and tracing with the given traces
+     */
+    static int bodyCaptureLength(Set<Trace> traces, Trace fullBodyTrace) {
+        return traces.contains(fullBodyTrace) ? Integer.MAX_VALUE : summaryByteLength();
+    }
+
+    /**
+     * @return true if the request body is (possibly) binary - an upload or a multipart body
+     */
+    static boolean isBinaryBody(HttpRequestBase request) {
+        if (request.containsHeader("Content-Disposition")) {
+            return true;
+        }
+        Header contentType = request.getFirstHeader("Content-Type");
+        return contentType != null && contentType.getValue().startsWith("multipart/");
+    }
+
     static String binaryBody(HttpEntity entity) {
         return "**possibly-binary(type:" + entity.getContentType() + ", len:" + entity.getContentLength() + ")**";
     }
 
     public static String getContentAsText(HttpEntity entity) throws IOException {
-        if (entity == null) {
-            return "";
+        return toText(getContentBytes(entity, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Read (at most) the first maxBytes of an entity's content as text, leaving the content readable from the start.
+     * Unlike {@link #getContentAsText(HttpEntity)} this never reads (or buffers) more than maxBytes.
+     */
+    public static String getContentAsText(HttpEntity entity, int maxBytes) throws IOException {
+        return toText(getContentBytes(entity, maxBytes));
+    }
+
+    /**
+     * Read (at most) the first maxBytes of an entity's content, leaving the content readable from the start.
+     *
+     * @param entity the entity (may be null)
+     * @param maxBytes the maximum number of bytes to read (Integer.MAX_VALUE to read all of them)
+     * @return the bytes read (empty if there is no content)
+     * @throws IOException if the content can't be read
+     */
+    static byte[] getContentBytes(HttpEntity entity, int maxBytes) throws IOException {
+        if (entity == null || entity.getContent() == null) {
+            return new byte[0];
         }
         InputStream inputStream = entity.getContent();
-        if (inputStream == null) {
-            return "";
-        }
         final boolean markSupported = inputStream.markSupported();
-        if (markSupported) {
-            inputStream.mark(10 * 1024 * 1024);  // 10MB read buffer; beyond that it probably won't matter
-        }
+        if (maxBytes == Integer.MAX_VALUE) {
+            if (markSupported) {
+                inputStream.mark(10 * 1024 * 1024);  // 10MB read buffer; beyond that it probably won't matter
+            }
 
-        byte[] contentBytes = StreamUtil.readBytesFromStream(inputStream);
-        String contentAsText;
-        try {
-            contentAsText = new String(contentBytes, "UTF-8");
-        } catch (UnsupportedEncodingException badEncodingOrNotText) {
-            contentAsText = new String(Hex.encodeHex(contentBytes));
+            byte[] contentBytes = StreamUtil.readBytesFromStream(inputStream);
+
+            // since we've consumed the stream we have to reset it (note, this will have real perf impact if the stream
+            // was to a large file or something else we'd rather not hold entirely in RAM if we can help it)
+            if (markSupported) {
+                inputStream.reset();
+            } else {
+                // we can't reset the stream so rebuild the stream around the bytes we read
+                entity.setContent(new ByteArrayInputStream(contentBytes));
+            }
+            return contentBytes;
         }
 
-        // since we've consumed the stream we have to reset it (note, this will have real perf impact if the stream
-        // was to a large file or something else we'd rather not hold entirely in RAM if we can help it)
+        if (markSupported) {
+            inputStream.mark(maxBytes);
+        }
+        byte[] buffer = new byte[maxBytes];
+        int length = 0;
+        while (length < maxBytes) {
+            int count = inputStream.read(buffer, length, maxBytes - length);
+            if (count < 0) {
+                break;
+            }
+            length += count;
+        }
         if (markSupported) {
             inputStream.reset();
         } else {
-            // we can't reset the stream so rebuild the stream around the bytes we read
-            entity.setContent(new ByteArrayInputStream(contentBytes));
+            // we can't reset the stream so put what we read back in front of the rest of it
+            entity.setContent(new SequenceInputStream(new ByteArrayInputStream(buffer, 0, length), inputStream));
+        }
+        return length == maxBytes ? buffer : Arrays.copyOf(buffer, length);
+    }
+
+    private static String toText(byte[] contentBytes) {
+        try {
+            return new String(contentBytes, "UTF-8");
+        } catch (UnsupportedEncodingException badEncodingOrNotText) {
+            return new String(Hex.encodeHex(contentBytes));
         }
-        return contentAsText;
     }
 
     public static String truncateAsNeeded(String string, int truncateLen) {
@@ -48,7 +48,8 @@ public class CellSerializer extends JsonSerializer<Cell> {
             throws IOException  {
 
         CellLink cell_link = cell.getLinkInFromCell();
-        if(cell_link == null) {
+        if(cell_link == null || (ChangesOnlySerializerModifier.isChangesOnly(serializers)
+                && !cell.isChanged("linkInFromCell"))) {
             defaultSerializer.serialize(cell, gen, serializers);
         }
         else {
@@ -0,0 +1,86 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.smartsheet.api.models.Cell;
+
+import java.io.IOException;
+
+/**
+ * When enabled by {@link JacksonJsonSerializer#setDeduplicateCellStrings(boolean)}, reads the string values and
+ * display values of cells through the {@link StringDeduplicator} of the response, so that the strings repeated across
+ * cells are held once.
+ */
+public class CellStringsDeserializerModifier extends BeanDeserializerModifier {
+    private static final String[] PROPERTIES = {"value", "displayValue"};
+
+    @Override
+    public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                                                 BeanDeserializerBuilder builder) {
+        if (Cell.class.isAssignableFrom(beanDesc.getBeanClass())) {
+            for (String name : PROPERTIES) {
+                SettableBeanProperty property = builder.findProperty(new PropertyName(name));
+                if (property != null) {
+                    builder.addOrReplaceProperty(property.withValueDeserializer(new DeduplicatingDeserializer(null)),
+                            true);
+                }
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Deduplicates strings, and leaves any other value to the deserializer of the type of the property.
+     */
+    static class DeduplicatingDeserializer extends JsonDeserializer<Object> implements ContextualDeserializer {
+        private final JsonDeserializer<Object> delegate;
+
+        DeduplicatingDeserializer(JsonDeserializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+                throws JsonMappingException {
+            return new DeduplicatingDeserializer(ctxt.findContextualValueDeserializer(property.getType(), property));
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.getCurrentToken() == JsonToken.VALUE_STRING && JacksonJsonSerializer.isDeduplicateCellStrings()) {
+                return StringDeduplicator.of(ctxt).deduplicate(p.getText());
+            }
+            return delegate.deserialize(p, ctxt);
+        }
+    }
+}
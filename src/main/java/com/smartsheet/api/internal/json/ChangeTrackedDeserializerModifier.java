@@ -0,0 +1,77 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.smartsheet.api.models.ChangeTracked;
+
+import java.io.IOException;
+
+/**
+ * Clears the changes of the {@link ChangeTracked} objects once they're deserialized, so that an object read from the
+ * API only counts the properties set by the caller afterwards as changed.
+ */
+public class ChangeTrackedDeserializerModifier extends BeanDeserializerModifier {
+    @Override
+    public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                  JsonDeserializer<?> deserializer) {
+        if (ChangeTracked.class.isAssignableFrom(beanDesc.getBeanClass())) {
+            return new ChangeTrackedDeserializer(deserializer);
+        }
+        return deserializer;
+    }
+
+    static class ChangeTrackedDeserializer extends DelegatingDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        ChangeTrackedDeserializer(JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new ChangeTrackedDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return cleared(super.deserialize(p, ctxt));
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws IOException {
+            return cleared(super.deserialize(p, ctxt, intoValue));
+        }
+
+        private static Object cleared(Object value) {
+            if (value instanceof ChangeTracked) {
+                ((ChangeTracked) value).clearChanges();
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.smartsheet.api.models.AbstractRow;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.ChangeTracked;
+import com.smartsheet.api.models.Column;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * When serializing with the {@link #CHANGES_ONLY} attribute set, only writes the properties of {@link ChangeTracked}
+ * objects that have changed, plus the property identifying the object to the API (the id of a row, the column id of a
+ * cell, the index of a column). The cells of a row are written if any of them changed, and then only the changed
+ * ones.
+ */
+public class ChangesOnlySerializerModifier extends BeanSerializerModifier {
+    /** the serialization attribute that, set to Boolean.TRUE, enables writing the changes only */
+    static final String CHANGES_ONLY = ChangesOnlySerializerModifier.class.getName() + ".changesOnly";
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        Class<?> beanClass = beanDesc.getBeanClass();
+        if (!ChangeTracked.class.isAssignableFrom(beanClass)) {
+            return beanProperties;
+        }
+        String keyProperty = null;
+        if (AbstractRow.class.isAssignableFrom(beanClass)) {
+            keyProperty = "id";
+        } else if (Cell.class.isAssignableFrom(beanClass)) {
+            keyProperty = "columnId";
+        } else if (Column.class.isAssignableFrom(beanClass)) {
+            keyProperty = "index";
+        }
+        boolean row = AbstractRow.class.isAssignableFrom(beanClass);
+
+        List<BeanPropertyWriter> writers = new ArrayList<BeanPropertyWriter>(beanProperties.size());
+        for (BeanPropertyWriter writer : beanProperties) {
+            if (writer.getName().equals(keyProperty)) {
+                writers.add(writer);
+            } else if (row && writer.getName().equals("cells")) {
+                writers.add(new ChangedCellsWriter(writer));
+            } else {
+                writers.add(new ChangedPropertyWriter(writer));
+            }
+        }
+        return writers;
+    }
+
+    /**
+     * @param provider the provider of the serialization
+     * @return true if only the changes are written
+     */
+    static boolean isChangesOnly(SerializerProvider provider) {
+        return Boolean.TRUE.equals(provider.getAttribute(CHANGES_ONLY));
+    }
+
+    /**
+     * Writes the property only if it changed.
+     */
+    static class ChangedPropertyWriter extends BeanPropertyWriter {
+        private static final long serialVersionUID = 1L;
+
+        ChangedPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (isChangesOnly(prov) && !((ChangeTracked) bean).isChanged(getName())) {
+                return;
+            }
+            super.serializeAsField(bean, gen, prov);
+        }
+    }
+
+    /**
+     * Writes the cells of a row that changed, unless the cells themselves were replaced.
+     */
+    static class ChangedCellsWriter extends BeanPropertyWriter {
+        private static final long serialVersionUID = 1L;
+
+        ChangedCellsWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (!isChangesOnly(prov) || ((ChangeTracked) bean).isChanged(getName())) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            List<?> cells = ((AbstractRow<?, ?>) bean).getCells();
+            if (cells == null) {
+                return;
+            }
+            List<Object> changedCells = new ArrayList<Object>();
+            for (Object cell : cells) {
+                if (cell instanceof ChangeTracked && ((ChangeTracked) cell).hasChanges()) {
+                    changedCells.add(cell);
+                }
+            }
+            if (!changedCells.isEmpty()) {
+                prov.defaultSerializeField(getName(), changedCells, gen);
+            }
+        }
+    }
+}
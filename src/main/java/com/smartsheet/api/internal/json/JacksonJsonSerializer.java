@@ -23,13 +23,25 @@ package com.smartsheet.api.internal.json;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.smartsheet.api.SheetRowHandler;
+import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.format.Format;
@@ -38,6 +50,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This is the Jackson based JsonSerializer implementation.
@@ -98,10 +112,79 @@ public class JacksonJsonSerializer implements JsonSerializer{
         module.setSerializerModifier(new CellSerializerModifier());
         OBJECT_MAPPER.registerModule(module);
 
+        module = new SimpleModule("CellStringsDeserializerModule", Version.unknownVersion());
+        module.setDeserializerModifier(new CellStringsDeserializerModifier());
+        OBJECT_MAPPER.registerModule(module);
+
+        module = new SimpleModule("ChangeTrackingModule", Version.unknownVersion());
+        module.setDeserializerModifier(new ChangeTrackedDeserializerModifier());
+        module.setSerializerModifier(new ChangesOnlySerializerModifier());
+        OBJECT_MAPPER.registerModule(module);
+
         // Ignore getId() for the IdentifiableModel class
         //OBJECT_MAPPER.addMixIn(IdentifiableModel.class, IdentifiableModelMixin.class);
     }
 
+    /**
+     * The readers of the types read, by the class of the object read (or of the objects in the list or result read).
+     *
+     * An ObjectReader holds the resolved type and its root deserializer, so reading through a cached reader saves
+     * building the type and looking its deserializer up on every call, which is most of the overhead of reading small
+     * responses such as a single row or column. The caches are cleared whenever OBJECT_MAPPER is re-configured.
+     */
+    private static final ReaderCache VALUE_READERS = new ReaderCache() {
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            return typeFactory.constructType(objectClass);
+        }
+    };
+    private static final ReaderCache LIST_READERS = new ReaderCache() {
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            return typeFactory.constructCollectionType(List.class, objectClass);
+        }
+    };
+    private static final ReaderCache PAGED_RESULT_READERS = new ReaderCache() {
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            return typeFactory.constructParametrizedType(PagedResult.class, PagedResult.class, objectClass);
+        }
+    };
+    private static final ReaderCache RESULT_READERS = new ReaderCache() {
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            return typeFactory.constructParametrizedType(Result.class, Result.class, objectClass);
+        }
+    };
+    private static final ReaderCache LIST_RESULT_READERS = new ReaderCache() {
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            return typeFactory.constructParametrizedType(Result.class, Result.class,
+                    typeFactory.constructParametrizedType(List.class, List.class, objectClass));
+        }
+    };
+    private static final ReaderCache MAP_READERS = new ReaderCache() {
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            return typeFactory.constructMapType(Map.class, String.class, objectClass);
+        }
+    };
+    private static final ReaderCache[] READER_CACHES = {VALUE_READERS, LIST_READERS, PAGED_RESULT_READERS,
+            RESULT_READERS, LIST_RESULT_READERS, MAP_READERS};
+
+    /**
+     * The writers of the objects written, by their class (so they write the objects as their actual class, as
+     * OBJECT_MAPPER.writeValue does).
+     */
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<Class<?>, ObjectWriter>();
+
+    /**
+     * The model classes whose readers {@link #warmUp()} creates.
+     */
+    private static final Class<?>[] WARM_UP_CLASSES = {Sheet.class, Row.class, Column.class, Cell.class, Report.class,
+            Folder.class, Workspace.class, Home.class, User.class, UserProfile.class, Attachment.class,
+            Discussion.class, Comment.class, Share.class, Group.class, Contact.class, Favorite.class, Template.class,
+            Webhook.class, Sight.class, ServerInfo.class};
+
+    /**
+     * Whether the strings repeated across the cells of a response are deduplicated.
+     */
+    private static volatile boolean deduplicateCellStrings;
+
     /**
      * Sets if the OBJECT MAPPER should ignore unknown properties or fail when de-serializing the JSON data.
      *
@@ -110,6 +193,80 @@ public class JacksonJsonSerializer implements JsonSerializer{
      */
     public static void setFailOnUnknownProperties(boolean value) {
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, value);
+        clearReadersAndWriters();
+    }
+
+    /**
+     * Registers a Jackson module with the OBJECT MAPPER, e.g. the Afterburner module (com.fasterxml.jackson.module:
+     * jackson-module-afterburner, which isn't a dependency of this SDK) to access the properties of the models through
+     * generated bytecode rather than reflection. Modules should be registered before any object is serialized or
+     * de-serialized.
+     *
+     * @param module the module
+     */
+    public static void registerModule(Module module) {
+        Util.throwIfNull(module);
+        OBJECT_MAPPER.registerModule(module);
+        clearReadersAndWriters();
+    }
+
+    /**
+     * Creates the readers of the model classes read most often, so that the first calls reading them don't pay for
+     * resolving their types and deserializers.
+     */
+    public static void warmUp() {
+        for (Class<?> modelClass : WARM_UP_CLASSES) {
+            VALUE_READERS.get(modelClass);
+            RESULT_READERS.get(modelClass);
+            LIST_RESULT_READERS.get(modelClass);
+            PAGED_RESULT_READERS.get(modelClass);
+        }
+    }
+
+    private static void clearReadersAndWriters() {
+        for (ReaderCache readers : READER_CACHES) {
+            readers.clear();
+        }
+        WRITERS.clear();
+    }
+
+    /**
+     * @param objectClass the class of the object written
+     * @return the writer of the class
+     */
+    private static ObjectWriter writerFor(Class<?> objectClass) {
+        ObjectWriter writer = WRITERS.get(objectClass);
+        if (writer == null) {
+            writer = OBJECT_MAPPER.writerFor(objectClass);
+            WRITERS.putIfAbsent(objectClass, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * @return the ObjectMapper (only for the benchmarks to compare against)
+     */
+    static ObjectMapper getObjectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Sets whether the string values and display values of the cells read from a response are deduplicated, so that
+     * the strings repeated across cells (picklist values, contact emails, ...) are held once rather than once per
+     * cell. This reduces the memory held by large sheets, at the cost of a hash lookup per string read.
+     *
+     * @param value
+     *            true to deduplicate the strings
+     */
+    public static void setDeduplicateCellStrings(boolean value) {
+        deduplicateCellStrings = value;
+    }
+
+    /**
+     * @return true if the strings of the cells read from a response are deduplicated
+     */
+    public static boolean isDeduplicateCellStrings() {
+        return deduplicateCellStrings;
     }
 
 
@@ -149,7 +306,30 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Util.throwIfNull(object, outputStream);
 
         try {
-            OBJECT_MAPPER.writeValue(outputStream, object);
+            writerFor(object.getClass()).writeValue(outputStream, object);
+        } catch (JsonGenerationException e) {
+            throw new JSONSerializerException(e);
+        } catch (JsonMappingException e) {
+            throw new JSONSerializerException(e);
+        } catch (IOException e) {
+            throw new JSONSerializerException(e);
+        }
+    }
+
+    /**
+     * Serialize an object to JSON, writing only the changed properties of the {@link ChangeTracked} objects in it
+     * (see {@link ChangesOnlySerializerModifier}).
+     *
+     * @param object the object to serialize
+     * @param outputStream the output stream to which the JSON will be written
+     * @throws JSONSerializerException if there is any other error occurred during the operation
+     */
+    public <T> void serializeChanges(T object, java.io.OutputStream outputStream) throws JSONSerializerException {
+        Util.throwIfNull(object, outputStream);
+
+        try {
+            writerFor(object.getClass()).withAttribute(ChangesOnlySerializerModifier.CHANGES_ONLY, Boolean.TRUE)
+                    .writeValue(outputStream, object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -182,7 +362,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         String value;
 
         try {
-            value= OBJECT_MAPPER.writeValueAsString(object);
+            value= writerFor(object.getClass()).writeValueAsString(object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -214,7 +394,44 @@ public class JacksonJsonSerializer implements JsonSerializer{
             JsonMappingException, IOException {
         Util.throwIfNull(objectClass, inputStream);
 
-        return OBJECT_MAPPER.readValue(inputStream, objectClass);
+        return VALUE_READERS.get(objectClass).readValue(inputStream);
+    }
+
+    /**
+     * De-serialize an object from JSON, skipping the properties left out by a projection as the JSON is parsed.
+     *
+     * @param objectClass the class of the object to de-serialize
+     * @param inputStream the input stream from which the JSON will be read
+     * @param projection the properties to leave out (null to read them all)
+     * @return the de-serialized object
+     * @throws IOException if the JSON can't be read or de-serialized
+     */
+    public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream, FieldProjection projection)
+            throws IOException {
+        Util.throwIfNull(objectClass, inputStream);
+
+        JsonParser parser = createParser(inputStream, objectClass, projection);
+        try {
+            return VALUE_READERS.get(objectClass).readValue(parser);
+        } finally {
+            parser.close();
+        }
+    }
+
+    /**
+     * Create a parser that skips the properties left out by a projection.
+     *
+     * @param inputStream the input stream from which the JSON will be read
+     * @param objectClass the class of the object read
+     * @param projection the projection (may be null)
+     * @return the parser
+     * @throws IOException if the parser can't be created
+     */
+    private static JsonParser createParser(InputStream inputStream, Class<?> objectClass, FieldProjection projection)
+            throws IOException {
+        JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream);
+        TokenFilter filter = projection == null ? null : ProjectionFilter.forClass(objectClass, projection);
+        return filter == null ? parser : new FilteringParserDelegate(parser, filter, true, true);
     }
 
     /**
@@ -240,8 +457,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            list = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, objectClass));
+            list = LIST_READERS.get(objectClass).readValue(inputStream);
             // list = OBJECT_MAPPER.readValue(inputStream, new TypeReference<List<T>>() {});
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
@@ -270,8 +486,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(PagedResult.class, PagedResult.class, objectClass));
+            rw = PAGED_RESULT_READERS.get(objectClass).readValue(inputStream);
             // list = OBJECT_MAPPER.readValue(inputStream, new TypeReference<List<T>>() {});
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
@@ -298,8 +513,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Map<String, Object> map = null;
 
         try {
-            map = OBJECT_MAPPER.readValue(inputStream, new TypeReference<Map<String, Object>>() {
-            });
+            map = MAP_READERS.get(Object.class).readValue(inputStream);
             // map = OBJECT_MAPPER.readValue(inputStream, OBJECT_MAPPER.getTypeFactory().constructParametricType(
             // Map.class, OBJECT_MAPPER.getTypeFactory().constructParametricType(String.class, Object.class)));
         } catch (JsonParseException e) {
@@ -333,8 +547,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Result<T> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class, objectClass));
+            result = RESULT_READERS.get(objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -370,10 +583,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
         Result<List<T>> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(
-                    inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class,
-                            OBJECT_MAPPER.getTypeFactory().constructParametrizedType(List.class, List.class, objectClass)));
+            result = LIST_RESULT_READERS.get(objectClass).readValue(inputStream);
 
 
             // result = OBJECT_MAPPER.readValue(inputStream, new TypeReference<Result<List<T>>>() {});
@@ -391,9 +601,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
     public PartialRowUpdateResult deserializePartialRowUpdateResult(InputStream inputStream) throws JSONSerializerException {
         PartialRowUpdateResult result = null;
         try {
-            result = OBJECT_MAPPER.readValue(
-                    inputStream,
-                    PartialRowUpdateResult.class);
+            result = VALUE_READERS.get(PartialRowUpdateResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -418,7 +626,7 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, CopyOrMoveRowResult.class);
+            rw = VALUE_READERS.get(CopyOrMoveRowResult.class).readValue(inputStream);
             // list = OBJECT_MAPPER.readValue(inputStream, new TypeReference<List<T>>() {});
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
@@ -430,4 +638,98 @@ public class JacksonJsonSerializer implements JsonSerializer{
 
         return rw;
     }
+
+    /**
+     * De-serialize a Sheet object from JSON, handing its rows to rowHandler one at a time as they are read.
+     *
+     * Only one row (and the sheet attributes other than rows) is held in memory at any time.
+     *
+     * @param inputStream the input stream from which the JSON will be read
+     * @param rowHandler receives the sheet (without rows) and then each of its rows
+     * @return the sheet, with all of its attributes other than rows
+     * @throws SmartsheetException
+     */
+    @Override
+    public Sheet deserializeSheetRows(InputStream inputStream, SheetRowHandler rowHandler) throws SmartsheetException {
+        return deserializeSheetRows(inputStream, rowHandler, null);
+    }
+
+    /**
+     * De-serialize a Sheet object from JSON, handing its rows to rowHandler one at a time as they are read, and
+     * skipping the properties left out by a projection as the JSON is parsed.
+     *
+     * @param inputStream the input stream from which the JSON will be read
+     * @param rowHandler receives the sheet (without rows) and then each of its rows
+     * @param projection the properties to leave out (null to read them all)
+     * @return the sheet, with all of its attributes other than rows
+     * @throws SmartsheetException
+     */
+    @Override
+    public Sheet deserializeSheetRows(InputStream inputStream, SheetRowHandler rowHandler, FieldProjection projection)
+            throws SmartsheetException {
+        Util.throwIfNull(inputStream, rowHandler);
+
+        try {
+            JsonParser parser = createParser(inputStream, Sheet.class, projection);
+            try {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new JsonMappingException("expected a sheet object", parser.getCurrentLocation());
+                }
+                // everything but the rows is collected as a tree and converted to a Sheet once the rows are reached
+                ObjectNode attributes = OBJECT_MAPPER.createObjectNode();
+                boolean sheetHandled = false;
+                // the rows are read one by one, but share the strings deduplicated across the response
+                ObjectReader rowReader = VALUE_READERS.get(Row.class)
+                        .withAttribute(StringDeduplicator.ATTRIBUTE, new StringDeduplicator());
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    JsonToken token = parser.nextToken();
+                    if ("rows".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                        rowHandler.onSheet(OBJECT_MAPPER.treeToValue(attributes, Sheet.class));
+                        sheetHandled = true;
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            rowHandler.onRow(rowReader.<Row>readValue(parser));
+                        }
+                    } else {
+                        attributes.set(fieldName, OBJECT_MAPPER.<JsonNode>readTree(parser));
+                    }
+                }
+                Sheet sheet = OBJECT_MAPPER.treeToValue(attributes, Sheet.class);
+                if (!sheetHandled) {
+                    rowHandler.onSheet(sheet);
+                }
+                return sheet;
+            } finally {
+                parser.close();
+            }
+        } catch (JsonParseException e) {
+            throw new JSONSerializerException(e);
+        } catch (JsonMappingException e) {
+            throw new JSONSerializerException(e);
+        } catch (IOException e) {
+            throw new JSONSerializerException(e);
+        }
+    }
+
+    /**
+     * The readers of one kind of type, by the class the type is made of.
+     */
+    private abstract static class ReaderCache {
+        private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<Class<?>, ObjectReader>();
+
+        ObjectReader get(Class<?> objectClass) {
+            ObjectReader reader = readers.get(objectClass);
+            if (reader == null) {
+                reader = OBJECT_MAPPER.readerFor(type(OBJECT_MAPPER.getTypeFactory(), objectClass));
+                readers.putIfAbsent(objectClass, reader);
+            }
+            return reader;
+        }
+
+        void clear() {
+            readers.clear();
+        }
+
+        abstract JavaType type(TypeFactory typeFactory, Class<?> objectClass);
+    }
 }
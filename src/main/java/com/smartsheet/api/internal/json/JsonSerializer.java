@@ -23,10 +23,14 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.smartsheet.api.SheetRowHandler;
+import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.models.CopyOrMoveRowResult;
+import com.smartsheet.api.models.FieldProjection;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PartialRowUpdateResult;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Sheet;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -58,6 +62,20 @@ public interface JsonSerializer {
      */
     public <T> void serialize(T object, java.io.OutputStream outputStream) throws JSONSerializerException;
 
+    /**
+     * Serialize an object to JSON, writing only the properties of the
+     * {@link com.smartsheet.api.models.ChangeTracked} objects in it that have changed (and those identifying them).
+     *
+     * Exceptions: - IllegalArgumentException : if any argument is null - JSONSerializerException : if there is any
+     * other error occurred during the operation
+     *
+     * @param <T> the generic type
+     * @param object the object
+     * @param outputStream the output stream
+     * @throws JSONSerializerException the JSON serializer exception
+     */
+    public <T> void serializeChanges(T object, java.io.OutputStream outputStream) throws JSONSerializerException;
+
     /**
      * Serialize an object to JSON.
      *
@@ -107,6 +125,22 @@ public interface JsonSerializer {
     public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream) throws JsonParseException,
             JsonMappingException, IOException;
 
+    /**
+     * De-serialize an object from JSON, skipping the properties left out by a projection as the JSON is parsed
+     * (without turning them into objects).
+     *
+     * Exceptions: - IllegalArgumentException : if objectClass or inputStream is null
+     *
+     * @param <T> the generic type
+     * @param objectClass the object class
+     * @param inputStream the input stream
+     * @param projection the properties to leave out (null to read them all)
+     * @return the de-serialized object
+     * @throws IOException if the JSON can't be read or de-serialized
+     */
+    public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream, FieldProjection projection)
+            throws IOException;
+
     /**
      * De-serialize an object list from JSON.
      *
@@ -212,4 +246,35 @@ public interface JsonSerializer {
     public CopyOrMoveRowResult deserializeCopyOrMoveRow(java.io.InputStream inputStream)
             throws JSONSerializerException;
 
+    /**
+     * De-serialize a Sheet object from JSON, handing its rows to rowHandler one at a time as they are read rather than
+     * collecting them in the Sheet.
+     *
+     * Exceptions: - IllegalArgumentException : if any argument is null - JSONSerializerException : if there is any
+     * other error occurred during the operation - SmartsheetException : if rowHandler throws it
+     *
+     * @param inputStream the input stream
+     * @param rowHandler receives the sheet (without rows) and then each of its rows
+     * @return the sheet, with all of its attributes other than rows
+     * @throws SmartsheetException the JSON serializer exception, or the exception thrown by rowHandler
+     */
+    public Sheet deserializeSheetRows(java.io.InputStream inputStream, SheetRowHandler rowHandler)
+            throws SmartsheetException;
+
+    /**
+     * De-serialize a Sheet object from JSON, handing its rows to rowHandler one at a time as they are read, and
+     * skipping the properties left out by a projection as the JSON is parsed.
+     *
+     * Exceptions: - IllegalArgumentException : if inputStream or rowHandler is null - JSONSerializerException : if
+     * there is any other error occurred during the operation - SmartsheetException : if rowHandler throws it
+     *
+     * @param inputStream the input stream
+     * @param rowHandler receives the sheet (without rows) and then each of its rows
+     * @param projection the properties to leave out (null to read them all)
+     * @return the sheet, with all of its attributes other than rows
+     * @throws SmartsheetException the JSON serializer exception, or the exception thrown by rowHandler
+     */
+    public Sheet deserializeSheetRows(java.io.InputStream inputStream, SheetRowHandler rowHandler,
+                                      FieldProjection projection) throws SmartsheetException;
+
 }
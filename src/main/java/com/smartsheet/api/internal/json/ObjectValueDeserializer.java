@@ -23,15 +23,19 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartsheet.api.models.*;
 import com.smartsheet.api.models.enums.ObjectValueType;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Deserializes the objectValue of a cell. Object values (contacts, durations, predecessor lists, dates) are decoded
+ * straight from the tokens of the parser as they are read; nothing is created per cell beyond the value itself, and
+ * the result doesn't depend on how the ObjectMapper is configured.
+ */
 public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
 
     @Override
@@ -41,54 +45,7 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
         final ObjectValue objectValue;
 
         if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-            ObjectValueAttributeSuperset superset = mapper.readValue(jp, ObjectValueAttributeSuperset.class);
-
-            ObjectValueType parsedObjectType;
-            try {
-                parsedObjectType = ObjectValueType.valueOf(superset.objectType);
-            } catch (IllegalArgumentException e) {
-                // If a new object type is introduced to the Smartsheet API that this version of the SDK doesn't support, return null instead of throwing an exception.
-                return null;
-            }
-
-            switch (parsedObjectType) {
-                case DURATION:
-                    objectValue = new Duration(
-                            superset.negative,
-                            superset.elapsed,
-                            superset.weeks,
-                            superset.days,
-                            superset.hours,
-                            superset.minutes,
-                            superset.seconds,
-                            superset.milliseconds);
-                    break;
-
-                case PREDECESSOR_LIST:
-                    objectValue = new PredecessorList(superset.predecessors);
-                    break;
-
-                case CONTACT:
-                    ContactObjectValue contactObjectValue = new ContactObjectValue();
-                    contactObjectValue.setName(superset.name);
-                    contactObjectValue.setEmail(superset.email);
-                    contactObjectValue.setId(superset.id);
-                    objectValue = contactObjectValue;
-                    break;
-
-
-                case DATE:                // Intentional fallthrough
-                case DATETIME:            // Intentional fallthrough
-                case ABSTRACT_DATETIME:
-                    objectValue = new DateObjectValue(parsedObjectType, superset.value);
-                    break;
-
-                default:
-                    objectValue = null;
-            }
+            objectValue = deserializeObject(jp);
         } else {
             JsonToken token = jp.getCurrentToken();
             if (token.isBoolean()) {
@@ -102,28 +59,179 @@ public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
         return objectValue;
     }
 
-    private static class ObjectValueAttributeSuperset {
-        public String objectType; // This needs to be represented as a string so that any new object types added won't completely break the API
+    /**
+     * Read an object value; the attributes can come in any order (objectType isn't necessarily first) so those of all
+     * the types are collected and the value is built once the object has been read.
+     */
+    private ObjectValue deserializeObject(JsonParser jp) throws IOException {
+        // This needs to be represented as a string so that any new object types added won't completely break the API
+        String objectType = null;
 
         // PREDECESSOR_LIST specific attributes
-        public List<Predecessor> predecessors;
+        List<Predecessor> predecessors = null;
 
         // DURATION specific attributes
-        public Boolean negative;
-        public Boolean elapsed;
-        public Double weeks;
-        public Double days;
-        public Double hours;
-        public Double minutes;
-        public Double seconds;
-        public Double milliseconds;
+        Boolean negative = null;
+        Boolean elapsed = null;
+        Double weeks = null;
+        Double days = null;
+        Double hours = null;
+        Double minutes = null;
+        Double seconds = null;
+        Double milliseconds = null;
 
         // CONTACT specific attributes
-        public String id;
-        public String name;
-        public String email;
+        String id = null;
+        String name = null;
+        String email = null;
 
         // Various other types
-        public String value;
+        String value = null;
+
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            JsonToken token = jp.nextToken();
+            if ("objectType".equals(fieldName)) {
+                objectType = readString(jp, token);
+            } else if ("predecessors".equals(fieldName)) {
+                predecessors = readPredecessors(jp, token);
+            } else if ("negative".equals(fieldName)) {
+                negative = readBoolean(jp, token);
+            } else if ("elapsed".equals(fieldName)) {
+                elapsed = readBoolean(jp, token);
+            } else if ("weeks".equals(fieldName)) {
+                weeks = readDouble(jp, token);
+            } else if ("days".equals(fieldName)) {
+                days = readDouble(jp, token);
+            } else if ("hours".equals(fieldName)) {
+                hours = readDouble(jp, token);
+            } else if ("minutes".equals(fieldName)) {
+                minutes = readDouble(jp, token);
+            } else if ("seconds".equals(fieldName)) {
+                seconds = readDouble(jp, token);
+            } else if ("milliseconds".equals(fieldName)) {
+                milliseconds = readDouble(jp, token);
+            } else if ("id".equals(fieldName)) {
+                id = readString(jp, token);
+            } else if ("name".equals(fieldName)) {
+                name = readString(jp, token);
+            } else if ("email".equals(fieldName)) {
+                email = readString(jp, token);
+            } else if ("value".equals(fieldName)) {
+                value = readString(jp, token);
+            } else {
+                // unknown attribute (e.g. added in a later version of the API)
+                jp.skipChildren();
+            }
+        }
+
+        ObjectValueType parsedObjectType;
+        try {
+            parsedObjectType = ObjectValueType.valueOf(objectType);
+        } catch (RuntimeException e) {
+            // If a new object type is introduced to the Smartsheet API that this version of the SDK doesn't support, return null instead of throwing an exception.
+            return null;
+        }
+
+        switch (parsedObjectType) {
+            case DURATION:
+                return new Duration(negative, elapsed, weeks, days, hours, minutes, seconds, milliseconds);
+
+            case PREDECESSOR_LIST:
+                return new PredecessorList(predecessors);
+
+            case CONTACT:
+                ContactObjectValue contactObjectValue = new ContactObjectValue();
+                contactObjectValue.setName(name);
+                contactObjectValue.setEmail(email);
+                contactObjectValue.setId(id);
+                return contactObjectValue;
+
+            case DATE:                // Intentional fallthrough
+            case DATETIME:            // Intentional fallthrough
+            case ABSTRACT_DATETIME:
+                return new DateObjectValue(parsedObjectType, value);
+
+            default:
+                return null;
+        }
+    }
+
+    private List<Predecessor> readPredecessors(JsonParser jp, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            jp.skipChildren();
+            return null;
+        }
+        List<Predecessor> predecessors = new ArrayList<Predecessor>();
+        while ((token = jp.nextToken()) != JsonToken.END_ARRAY) {
+            predecessors.add(readPredecessor(jp, token));
+        }
+        return predecessors;
+    }
+
+    private Predecessor readPredecessor(JsonParser jp, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            jp.skipChildren();
+            return null;
+        }
+        Predecessor predecessor = new Predecessor();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = jp.getCurrentName();
+            token = jp.nextToken();
+            if ("rowId".equals(fieldName)) {
+                predecessor.setRowId(readLong(jp, token));
+            } else if ("rowNumber".equals(fieldName)) {
+                Long rowNumber = readLong(jp, token);
+                predecessor.setRowNumber(rowNumber == null ? null : rowNumber.intValue());
+            } else if ("type".equals(fieldName)) {
+                predecessor.setType(readString(jp, token));
+            } else if ("lag".equals(fieldName)) {
+                if (token == JsonToken.START_OBJECT) {
+                    ObjectValue lag = deserializeObject(jp);
+                    predecessor.setLag(lag instanceof Duration ? (Duration) lag : null);
+                } else {
+                    jp.skipChildren();
+                }
+            } else if ("invalid".equals(fieldName)) {
+                predecessor.setInvalid(readBoolean(jp, token));
+            } else if ("inCriticalPath".equals(fieldName)) {
+                predecessor.setInCriticalPath(readBoolean(jp, token));
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return predecessor;
+    }
+
+    private static String readString(JsonParser jp, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            jp.skipChildren();
+            return null;
+        }
+        return jp.getValueAsString();
+    }
+
+    private static Boolean readBoolean(JsonParser jp, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            jp.skipChildren();
+            return null;
+        }
+        return token == JsonToken.VALUE_NULL ? null : jp.getValueAsBoolean();
+    }
+
+    private static Double readDouble(JsonParser jp, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            jp.skipChildren();
+            return null;
+        }
+        return token == JsonToken.VALUE_NULL ? null : jp.getValueAsDouble();
+    }
+
+    private static Long readLong(JsonParser jp, JsonToken token) throws IOException {
+        if (!token.isScalarValue()) {
+            jp.skipChildren();
+            return null;
+        }
+        return token == JsonToken.VALUE_NULL ? null : jp.getValueAsLong();
     }
 }
@@ -0,0 +1,100 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.FieldProjection;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skips the properties left out by a {@link FieldProjection} while parsing, one filter per kind of object: the
+ * filter of a sheet hands its rows and columns to the filters of rows and columns, the filter of a row hands its cells
+ * to the filter of cells. Anything else is included as a whole, without being filtered further.
+ */
+class ProjectionFilter extends TokenFilter {
+    private final Set<String> excludedFields;
+    private final Map<String, TokenFilter> children = new HashMap<String, TokenFilter>();
+
+    private ProjectionFilter(Set<String> excludedFields) {
+        this.excludedFields = excludedFields;
+    }
+
+    /**
+     * @param objectClass the class of the object read
+     * @param projection the projection
+     * @return the filter of the object, null if the projection doesn't apply to it
+     */
+    static TokenFilter forClass(Class<?> objectClass, FieldProjection projection) {
+        ProjectionFilter cell = new ProjectionFilter(projection.getExcludedCellFields());
+        if (Cell.class.isAssignableFrom(objectClass)) {
+            return cell;
+        }
+        ProjectionFilter column = new ProjectionFilter(projection.getExcludedColumnFields());
+        if (Column.class.isAssignableFrom(objectClass)) {
+            return column;
+        }
+        ProjectionFilter row = new ProjectionFilter(projection.getExcludedRowFields());
+        row.children.put("cells", new ElementFilter(cell));
+        row.children.put("columns", new ElementFilter(column));
+        if (Row.class.isAssignableFrom(objectClass)) {
+            return row;
+        }
+        ProjectionFilter sheet = new ProjectionFilter(projection.getExcludedSheetFields());
+        sheet.children.put("rows", new ElementFilter(row));
+        sheet.children.put("columns", new ElementFilter(column));
+        if (Sheet.class.isAssignableFrom(objectClass)) {
+            return sheet;
+        }
+        return null;
+    }
+
+    @Override
+    public TokenFilter includeProperty(String name) {
+        if (excludedFields.contains(name)) {
+            return null;
+        }
+        TokenFilter child = children.get(name);
+        return child == null ? TokenFilter.INCLUDE_ALL : child;
+    }
+
+    /**
+     * Filters the elements of an array with the filter of their kind.
+     */
+    static class ElementFilter extends TokenFilter {
+        private final TokenFilter elementFilter;
+
+        ElementFilter(TokenFilter elementFilter) {
+            this.elementFilter = elementFilter;
+        }
+
+        @Override
+        public TokenFilter includeElement(int index) {
+            return elementFilter;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Returns the same String object for equal strings read from one response, so that the values repeated across the
+ * cells of a sheet (picklist values, contact emails, ...) are held once rather than once per cell.
+ *
+ * Only short strings are deduplicated, and only up to a number of distinct strings, which bounds the memory held by
+ * the deduplicator itself.
+ *
+ * Thread Safety: This class is not thread safe; it is used by the thread reading a response.
+ */
+class StringDeduplicator {
+    /** the attribute of the deserialization holding the deduplicator of the response */
+    static final String ATTRIBUTE = StringDeduplicator.class.getName();
+
+    static final int MAX_LENGTH = 64;
+    static final int MAX_STRINGS = 16384;
+
+    private final Map<String, String> strings = new HashMap<String, String>();
+
+    /**
+     * Get the deduplicator of the response being read, creating it if needed.
+     *
+     * @param context the deserialization context
+     * @return the deduplicator
+     */
+    static StringDeduplicator of(DeserializationContext context) {
+        StringDeduplicator deduplicator = (StringDeduplicator) context.getAttribute(ATTRIBUTE);
+        if (deduplicator == null) {
+            deduplicator = new StringDeduplicator();
+            context.setAttribute(ATTRIBUTE, deduplicator);
+        }
+        return deduplicator;
+    }
+
+    /**
+     * @param string the string
+     * @return an equal string, the one first passed to this method if possible
+     */
+    String deduplicate(String string) {
+        if (string.length() > MAX_LENGTH) {
+            return string;
+        }
+        String existing = strings.get(string);
+        if (existing != null) {
+            return existing;
+        }
+        if (strings.size() < MAX_STRINGS) {
+            strings.put(string, string);
+        }
+        return string;
+    }
+}
@@ -0,0 +1,74 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A future that is completed through {@link #complete(Object)} or {@link #fail(Throwable)} (rather than by running a
+ * task), and that notifies an (optional) {@link AsyncCallback} once it completes.
+ *
+ * Thread Safety: This class is thread safe; only the first completion (or cancellation) counts.
+ */
+public class CallbackFuture<T> extends CallbackFutureTask<T> {
+
+    /**
+     * Constructor.
+     *
+     * @param callback notified when the future completes (may be null)
+     */
+    public CallbackFuture(AsyncCallback<T> callback) {
+        super(new NotRun<T>(), callback);
+    }
+
+    /**
+     * Does nothing; the future is completed through {@link #complete(Object)} or {@link #fail(Throwable)}.
+     */
+    @Override
+    public void run() {
+    }
+
+    /**
+     * Complete the future with a result, unless it's already done.
+     *
+     * @param result the result
+     */
+    public void complete(T result) {
+        set(result);
+    }
+
+    /**
+     * Complete the future with an error, unless it's already done.
+     *
+     * @param error the error
+     */
+    public void fail(Throwable error) {
+        setException(error);
+    }
+
+    private static class NotRun<T> implements Callable<T> {
+        public T call() {
+            throw new IllegalStateException("the future is completed through complete() or fail()");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A FutureTask that notifies an (optional) {@link AsyncCallback} once the task completes.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class CallbackFutureTask<T> extends FutureTask<T> {
+    private static final Logger logger = LoggerFactory.getLogger(CallbackFutureTask.class);
+
+    private final AsyncCallback<T> callback;
+
+    /**
+     * Constructor.
+     *
+     * @param callable the task to run
+     * @param callback notified when the task completes (may be null)
+     */
+    public CallbackFutureTask(Callable<T> callable, AsyncCallback<T> callback) {
+        super(callable);
+        this.callback = callback;
+    }
+
+    @Override
+    protected void done() {
+        if (callback == null) {
+            return;
+        }
+        T result;
+        try {
+            result = get();
+        } catch (CancellationException e) {
+            notifyFailure(e);
+            return;
+        } catch (ExecutionException e) {
+            notifyFailure(e.getCause());
+            return;
+        } catch (InterruptedException e) {
+            // can't happen, the task is already done
+            Thread.currentThread().interrupt();
+            notifyFailure(e);
+            return;
+        }
+        try {
+            callback.onSuccess(result);
+        } catch (RuntimeException e) {
+            logger.warn("AsyncCallback.onSuccess threw an exception - {}", e);
+        }
+    }
+
+    private void notifyFailure(Throwable error) {
+        try {
+            callback.onFailure(error);
+        } catch (RuntimeException e) {
+            logger.warn("AsyncCallback.onFailure threw an exception - {}", e);
+        }
+    }
+}
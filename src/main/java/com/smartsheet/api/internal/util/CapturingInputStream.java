@@ -0,0 +1,177 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An InputStream that passes its source through unchanged while keeping a copy of (at most) the first
+ * {@code maxCapture} bytes read, so a bounded prefix of a streamed body is available for logging without the body
+ * ever being buffered as a whole. Optionally the most recently read bytes are kept in a fixed-size window too, so the
+ * bytes around the point where a consumer (e.g. a JSON parser) failed can be reported.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class CapturingInputStream extends FilterInputStream {
+    private final int maxCapture;
+    private final ByteArrayOutputStream captured;
+    private final byte[] window;
+    private long bytesRead;
+
+    /**
+     * Constructor.
+     *
+     * @param source the stream to read from
+     * @param maxCapture the maximum number of bytes to keep (Integer.MAX_VALUE to keep everything)
+     */
+    public CapturingInputStream(InputStream source, int maxCapture) {
+        this(source, maxCapture, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source the stream to read from
+     * @param maxCapture the maximum number of bytes to keep (Integer.MAX_VALUE to keep everything)
+     * @param windowSize the number of most recently read bytes to keep (0 for none)
+     */
+    public CapturingInputStream(InputStream source, int maxCapture, int windowSize) {
+        super(Util.throwIfNull(source));
+        this.maxCapture = Math.max(0, maxCapture);
+        this.captured = new ByteArrayOutputStream(Math.min(this.maxCapture, 4096));
+        this.window = new byte[Math.max(0, windowSize)];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            if (captured.size() < maxCapture) {
+                captured.write(b);
+            }
+            if (window.length > 0) {
+                window[(int) (bytesRead % window.length)] = (byte) b;
+            }
+            bytesRead++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            int toCapture = Math.min(count, maxCapture - captured.size());
+            if (toCapture > 0) {
+                captured.write(buffer, offset, toCapture);
+            }
+            addToWindow(buffer, offset, count);
+            bytesRead += count;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // read (rather than skip) so the captured prefix stays contiguous
+        byte[] scratch = new byte[(int) Math.min(Math.max(n, 0), 4096)];
+        long skipped = 0;
+        while (skipped < n) {
+            int count = read(scratch, 0, (int) Math.min(scratch.length, n - skipped));
+            if (count < 0) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * copy count bytes, starting at stream position bytesRead, into the (circular) window
+     */
+    private void addToWindow(byte[] buffer, int offset, int count) {
+        if (window.length == 0) {
+            return;
+        }
+        // only the last window.length bytes can survive
+        int skip = Math.max(0, count - window.length);
+        for (int i = skip; i < count; i++) {
+            window[(int) ((bytesRead + i) % window.length)] = buffer[offset + i];
+        }
+    }
+
+    /**
+     * @return the bytes captured so far (at most maxCapture)
+     */
+    public byte[] getCapturedBytes() {
+        return captured.toByteArray();
+    }
+
+    /**
+     * Get the bytes around a position in the stream, as far as they are still available (already read, and either in
+     * the captured prefix or in the window of most recently read bytes).
+     *
+     * @param position the position (offset from the start of the stream) of interest
+     * @param radius the number of bytes wanted either side of position
+     * @return the available bytes from position - radius to position + radius (possibly empty)
+     */
+    public byte[] getBytesAround(long position, int radius) {
+        long from = Math.max(0, position - radius);
+        long to = Math.min(bytesRead, position + radius);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] prefix = captured.toByteArray();
+        long windowStart = bytesRead - Math.min(bytesRead, window.length);
+        for (long i = from; i < to; i++) {
+            if (i < prefix.length) {
+                result.write(prefix[(int) i]);
+            } else if (i >= windowStart) {
+                result.write(window[(int) (i % window.length)]);
+            } else if (result.size() > 0) {
+                break;  // keep the result contiguous
+            }
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * @return the total number of bytes read through this stream so far
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+}
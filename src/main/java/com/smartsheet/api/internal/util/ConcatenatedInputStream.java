@@ -0,0 +1,128 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An InputStream that reads a series of streams one after the other (like {@link java.io.SequenceInputStream}), but
+ * which supports mark/reset when all of those streams do, so a body assembled from several parts (e.g. a multipart
+ * upload) can be sent again when a request is retried.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class ConcatenatedInputStream extends InputStream {
+    private final List<InputStream> parts;
+    private int current;
+    private int marked = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param parts the streams to read, in order
+     */
+    public ConcatenatedInputStream(InputStream... parts) {
+        Util.throwIfNull((Object[]) parts);
+        this.parts = Arrays.asList(parts);
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (current < parts.size()) {
+            int b = parts.get(current).read();
+            if (b >= 0) {
+                return b;
+            }
+            current++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (current < parts.size()) {
+            int count = parts.get(current).read(buffer, offset, length);
+            if (count > 0) {
+                return count;
+            }
+            if (count < 0) {
+                current++;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current < parts.size() ? parts.get(current).available() : 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        for (InputStream part : parts) {
+            if (!part.markSupported()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        // the parts not yet started are marked at their beginning
+        for (int i = current; i < parts.size(); i++) {
+            parts.get(i).mark(readLimit);
+        }
+        marked = current;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        if (marked < 0) {
+            throw new IOException("stream not marked");
+        }
+        for (int i = marked; i <= current && i < parts.size(); i++) {
+            parts.get(i).reset();
+        }
+        current = marked;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (InputStream part : parts) {
+            try {
+                part.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+
+/**
+ * A buffer that a request body is serialized into and then sent from, without copying it: the InputStream of the
+ * body reads the bytes of the buffer in place (rather than a copy made by toByteArray()), and supports mark/reset so
+ * the body can be sent again if the request is retried.
+ *
+ * Buffers are pooled, so that the bodies of repeated requests (e.g. bulk row writes) reuse the memory of the previous
+ * ones; a buffer is returned to the pool by {@link #release()} once its request is done, and must not be used
+ * afterwards. Buffers that grew very large are not pooled.
+ *
+ * Thread Safety: The pool is thread safe; a buffer is used by one thread at a time.
+ */
+public class RequestBodyBuffer extends ByteArrayOutputStream {
+    static final int INITIAL_SIZE = 8 * 1024;
+    static final int MAX_POOLED_SIZE = 4 * 1024 * 1024;
+    static final int MAX_POOLED_BUFFERS = 8;
+
+    private static final ArrayDeque<RequestBodyBuffer> POOL = new ArrayDeque<RequestBodyBuffer>();
+
+    private RequestBodyBuffer() {
+        super(INITIAL_SIZE);
+    }
+
+    /**
+     * @return an empty buffer, from the pool if possible
+     */
+    public static RequestBodyBuffer acquire() {
+        RequestBodyBuffer buffer;
+        synchronized (POOL) {
+            buffer = POOL.poll();
+        }
+        return buffer != null ? buffer : new RequestBodyBuffer();
+    }
+
+    /**
+     * @return a stream reading the bytes written so far, in place
+     */
+    public synchronized InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    /**
+     * Return the buffer to the pool. Streams returned by {@link #toInputStream()} must not be read afterwards.
+     */
+    public void release() {
+        reset();
+        if (buf.length > MAX_POOLED_SIZE) {
+            return;
+        }
+        synchronized (POOL) {
+            if (POOL.size() < MAX_POOLED_BUFFERS && !POOL.contains(this)) {
+                POOL.push(this);
+            }
+        }
+    }
+}
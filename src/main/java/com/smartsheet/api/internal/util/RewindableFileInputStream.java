@@ -0,0 +1,74 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+/**
+ * A FileInputStream that supports mark/reset (by repositioning the underlying file channel), so an upload streamed
+ * from a file can be sent again when the request is retried, without the file ever being held in memory.
+ *
+ * Thread Safety: This class is not thread safe.
+ */
+public class RewindableFileInputStream extends FileInputStream {
+    private final long length;
+    private long markedPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param file the file to read
+     * @throws FileNotFoundException if the file can't be opened
+     */
+    public RewindableFileInputStream(File file) throws FileNotFoundException {
+        super(file);
+        this.length = file.length();
+    }
+
+    /**
+     * @return the length of the file (when it was opened)
+     */
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        try {
+            markedPosition = getChannel().position();
+        } catch (IOException e) {
+            // reset() will go back to the last mark that could be taken (initially the start of the file)
+        }
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        getChannel().position(markedPosition);
+    }
+}
@@ -0,0 +1,88 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Makes concurrent identical calls only once: a call made while an identical one (with the same key) is in progress
+ * waits for, and shares, the result of the one in progress. Calls made after it completes are made again, so results
+ * are never cached.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class SingleFlight<V> {
+    private final ConcurrentMap<String, FutureTask<V>> calls = new ConcurrentHashMap<String, FutureTask<V>>();
+
+    /**
+     * Make a call, or wait for the result of an identical call in progress.
+     *
+     * @param key identifies identical calls
+     * @param call the call
+     * @return the result of the call
+     * @throws SmartsheetException if the call fails
+     */
+    public V execute(String key, Callable<V> call) throws SmartsheetException {
+        Util.throwIfNull(key, call);
+        FutureTask<V> task = new FutureTask<V>(call);
+        FutureTask<V> inProgress = calls.putIfAbsent(key, task);
+        if (inProgress == null) {
+            try {
+                task.run();
+            } finally {
+                calls.remove(key, task);
+            }
+            inProgress = task;
+        }
+
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return inProgress.get();
+                } catch (InterruptedException e) {
+                    // the call is being made by another thread, which isn't interrupted; keep waiting for it
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SmartsheetException) {
+                throw (SmartsheetException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SmartsheetException("call failed", cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -110,15 +110,27 @@ public class StreamUtil {
      * @return
      */
     public static String toUtf8StringOrHex(ByteArrayOutputStream byteStream, int maxLen) {
+        return toUtf8StringOrHex(byteStream.toByteArray(), maxLen);
+    }
+
+    /**
+     * generate a String of UTF-8 characters (or hex-digits if bytes aren't UTF-8 chars) from bytes,
+     * truncating to maxLen (with "..." added if the result is truncated)
+     *
+     * @param bytes
+     * @param maxLen
+     * @return
+     */
+    public static String toUtf8StringOrHex(byte[] bytes, int maxLen) {
         if (maxLen == -1) {
             maxLen = Integer.MAX_VALUE;
         }
 
         String result;
         try {
-            result = byteStream.toString("UTF-8");
+            result = new String(bytes, "UTF-8");
         } catch (Exception notUtf8) {
-            result = Hex.encodeHexString(byteStream.toByteArray());
+            result = Hex.encodeHexString(bytes);
         }
 
         final int resultLen = result != null ? result.length() : 0;
@@ -20,6 +20,10 @@ package com.smartsheet.api.internal.util;
  * %[license]
  */
 
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 public class Util {
 
     public Util() {}
@@ -65,4 +69,29 @@ public class Util {
             throwIfEmpty(string);
         }
     }
+
+    /**
+     * Digest a secret (such as an access token) into a key that identifies it without holding on to it.
+     *
+     * @param secret the secret (may be null)
+     * @return the hex SHA-256 digest of the secret, null if it's null
+     */
+    public static String digest(String secret) {
+        if (secret == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes("UTF-8"));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
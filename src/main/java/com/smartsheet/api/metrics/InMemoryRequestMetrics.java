@@ -0,0 +1,209 @@
+package com.smartsheet.api.metrics;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A RequestListener that keeps, in memory, the counts and a latency histogram of the requests to each endpoint, e.g.
+ * for tests or to be exported periodically.
+ *
+ * The histogram has a bucket for each power of 2 of microseconds, so percentiles are accurate to within a factor of 2.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class InMemoryRequestMetrics implements RequestListener {
+    private final ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<String, EndpointStats>();
+
+    public void onRequest(RequestMetrics metrics) {
+        String key = metrics.getMethod() + " " + metrics.getEndpoint();
+        EndpointStats endpointStats = stats.get(key);
+        if (endpointStats == null) {
+            EndpointStats newStats = new EndpointStats(metrics.getMethod(), metrics.getEndpoint());
+            endpointStats = stats.putIfAbsent(key, newStats);
+            if (endpointStats == null) {
+                endpointStats = newStats;
+            }
+        }
+        endpointStats.add(metrics);
+    }
+
+    /**
+     * Gets the statistics of every endpoint requested so far.
+     *
+     * @return the statistics
+     */
+    public List<EndpointStats> getStats() {
+        return new ArrayList<EndpointStats>(stats.values());
+    }
+
+    /**
+     * Gets the statistics of an endpoint.
+     *
+     * @param method the HTTP method
+     * @param endpoint the endpoint template
+     * @return the statistics, or null if the endpoint hasn't been requested
+     */
+    public EndpointStats getStats(String method, String endpoint) {
+        return stats.get(method + " " + endpoint);
+    }
+
+    /**
+     * Forget all of the statistics.
+     */
+    public void clear() {
+        stats.clear();
+    }
+
+    /**
+     * The statistics of the requests to an endpoint.
+     */
+    public static class EndpointStats {
+        private static final int BUCKETS = 40;
+
+        private final String method;
+        private final String endpoint;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicLong retryCount = new AtomicLong();
+        private final AtomicLong requestBytes = new AtomicLong();
+        private final AtomicLong responseBytes = new AtomicLong();
+        private final ConcurrentMap<Integer, AtomicLong> errorCodes = new ConcurrentHashMap<Integer, AtomicLong>();
+        private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS);
+
+        EndpointStats(String method, String endpoint) {
+            this.method = method;
+            this.endpoint = endpoint;
+        }
+
+        void add(RequestMetrics metrics) {
+            count.incrementAndGet();
+            if (metrics.getStatusCode() != 200) {
+                errorCount.incrementAndGet();
+            }
+            if (metrics.getAttempt() > 1) {
+                retryCount.incrementAndGet();
+            }
+            requestBytes.addAndGet(metrics.getRequestBytes());
+            responseBytes.addAndGet(metrics.getResponseBytes());
+            if (metrics.getErrorCode() != null) {
+                AtomicLong errorCodeCount = errorCodes.get(metrics.getErrorCode());
+                if (errorCodeCount == null) {
+                    errorCodes.putIfAbsent(metrics.getErrorCode(), new AtomicLong());
+                    errorCodeCount = errorCodes.get(metrics.getErrorCode());
+                }
+                errorCodeCount.incrementAndGet();
+            }
+            latencyBuckets.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(metrics.getLatencyNanos())));
+        }
+
+        private static int bucket(long micros) {
+            int bucket = 64 - Long.numberOfLeadingZeros(Math.max(1, micros));
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        /**
+         * @return the number of requests (each retry counts as a request)
+         */
+        public long getCount() {
+            return count.get();
+        }
+
+        /**
+         * @return the number of requests with a response other than 200 OK
+         */
+        public long getErrorCount() {
+            return errorCount.get();
+        }
+
+        /**
+         * @return the number of requests that were retries
+         */
+        public long getRetryCount() {
+            return retryCount.get();
+        }
+
+        public long getRequestBytes() {
+            return requestBytes.get();
+        }
+
+        public long getResponseBytes() {
+            return responseBytes.get();
+        }
+
+        /**
+         * @param errorCode a Smartsheet error code
+         * @return the number of responses with the error code
+         */
+        public long getErrorCodeCount(int errorCode) {
+            AtomicLong errorCodeCount = errorCodes.get(errorCode);
+            return errorCodeCount == null ? 0 : errorCodeCount.get();
+        }
+
+        /**
+         * Get a latency percentile, as the upper bound of the histogram bucket it falls in.
+         *
+         * @param percentile the percentile, e.g. 99
+         * @return the latency in milliseconds (0 if there are no requests)
+         */
+        public double getLatencyPercentileMillis(double percentile) {
+            long total = 0;
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = latencyBuckets.get(i);
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return (1L << i) / 1000.0;
+                }
+            }
+            return (1L << (BUCKETS - 1)) / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + endpoint + " count=" + getCount() + " errors=" + getErrorCount()
+                    + " retries=" + getRetryCount() + " p50Ms=" + getLatencyPercentileMillis(50)
+                    + " p99Ms=" + getLatencyPercentileMillis(99);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.smartsheet.api.metrics;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * Interface for user provided listeners notified of every HTTP request made by the DefaultHttpClient, e.g. to
+ * collect metrics.
+ */
+public interface RequestListener {
+    /**
+     * Called once for every attempt of a request, when it has completed: for a successful response once its body has
+     * been read (i.e. when the connection is released), otherwise as soon as the response is received.
+     *
+     * Listeners are called on the thread that made the request, so they should be quick; exceptions they throw are
+     * logged and otherwise ignored.
+     *
+     * @param metrics the measurements of the attempt
+     */
+    void onRequest(RequestMetrics metrics);
+}
@@ -0,0 +1,123 @@
+package com.smartsheet.api.metrics;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.regex.Pattern;
+
+/**
+ * The measurements of one attempt of an HTTP request.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public class RequestMetrics {
+    /** path segments that are ids */
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final String method;
+    private final String endpoint;
+    private final int statusCode;
+    private final Integer errorCode;
+    private final int attempt;
+    private final long timeToFirstByteNanos;
+    private final long latencyNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param method the HTTP method
+     * @param endpoint the endpoint template, e.g. "/2.0/sheets/{id}/rows"
+     * @param statusCode the HTTP status code, or 0 if no response was received
+     * @param errorCode the Smartsheet error code of an error response (null if there is none)
+     * @param attempt the attempt number, starting at 1 (higher numbers are retries)
+     * @param timeToFirstByteNanos the time from sending the request to receiving the response headers
+     * @param latencyNanos the time from sending the request to having read the response
+     * @param requestBytes the number of bytes of request body sent
+     * @param responseBytes the number of bytes of response body read
+     */
+    public RequestMetrics(String method, String endpoint, int statusCode, Integer errorCode, int attempt,
+                          long timeToFirstByteNanos, long latencyNanos, long requestBytes, long responseBytes) {
+        this.method = method;
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+        this.attempt = attempt;
+        this.timeToFirstByteNanos = timeToFirstByteNanos;
+        this.latencyNanos = latencyNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * Get the endpoint template of a request path, i.e. the path with its ids replaced by "{id}".
+     *
+     * @param path the request path
+     * @return the endpoint template
+     */
+    public static String toEndpoint(String path) {
+        return path == null ? null : ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Integer getErrorCode() {
+        return errorCode;
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public long getTimeToFirstByteNanos() {
+        return timeToFirstByteNanos;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + endpoint + " status=" + statusCode + (errorCode != null ? " errorCode=" + errorCode : "")
+                + " attempt=" + attempt + " ttfbMs=" + timeToFirstByteNanos / 1000000
+                + " latencyMs=" + latencyNanos / 1000000 + " requestBytes=" + requestBytes
+                + " responseBytes=" + responseBytes;
+    }
+}
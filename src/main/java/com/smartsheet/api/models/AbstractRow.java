@@ -26,8 +26,24 @@ import com.smartsheet.api.models.format.Format;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
-public class AbstractRow<TColumn extends Column, TCell extends Cell> extends IdentifiableModel<Long>{
+public class AbstractRow<TColumn extends Column, TCell extends Cell> extends IdentifiableModel<Long>
+        implements ChangeTracked {
+
+    /** The tracked properties of the row, named as the JSON properties but in UPPER_SNAKE_CASE. */
+    private enum Property {
+        ID, ACCESS_LEVEL, VERSION, EXPANDED, SHEET_ID, ROW_NUMBER,
+        PARENT_ROW_NUMBER, CELLS, DISCUSSIONS, ATTACHMENTS, COLUMNS, CREATED_AT,
+        MODIFIED_AT, LOCKED, LOCKED_FOR_USER, FORMAT, PARENT_ID, SIBLING_ID,
+        PERMALINK, FILTERED_OUT, IN_CRITICAL_PATH, CONDITIONAL_FORMAT, TO_TOP, TO_BOTTOM,
+        ABOVE, INDENT, OUTDENT
+    }
+
+    private static final Map<String, Property> PROPERTIES = ChangeTracking.byJsonName(Property.class);
+
+    /** The properties set since the row was created or deserialized, a bit per {@link Property}. */
+    private long changedProperties;
 
     @Override
     @JsonIgnore(false)
@@ -39,6 +55,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
     @JsonIgnore(false)
     public IdentifiableModel<Long> setId(Long id) {
         super.setId(id);
+        changed(Property.ID);
         return this;
     }
 
@@ -126,6 +143,30 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
     /** User object containing name and email of the last person to modify this row */
     private User modifiedBy;
 
+    /*
+     * Indexes behind the lookup methods; built on first use and rebuilt when the lists change.
+     */
+    private final ListIndex<Integer, TColumn> columnsByIndex = new ListIndex<Integer, TColumn>() {
+        @Override
+        protected Integer keyOf(TColumn column) {
+            return column.getIndex();
+        }
+    };
+
+    private final ListIndex<Long, TColumn> columnsById = new ListIndex<Long, TColumn>() {
+        @Override
+        protected Long keyOf(TColumn column) {
+            return column.getId();
+        }
+    };
+
+    private final ListIndex<Long, TCell> cellsByColumnId = new ListIndex<Long, TCell>() {
+        @Override
+        protected Long keyOf(TCell cell) {
+            return cell.getColumnId();
+        }
+    };
+
     /**
      * Gets the user's permissions on the sheet.
      *
@@ -142,6 +183,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setAccessLevel(AccessLevel accessLevel) {
         this.accessLevel = accessLevel;
+        changed(Property.ACCESS_LEVEL);
         return this;
     }
 
@@ -161,6 +203,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setVersion(Integer version) {
         this.version = version;
+        changed(Property.VERSION);
         return this;
     }
 
@@ -180,6 +223,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setExpanded(Boolean expanded) {
         this.expanded = expanded;
+        changed(Property.EXPANDED);
         return this;
     }
 
@@ -190,19 +234,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      * @return the column by index
      */
     public TColumn getColumnByIndex(int index) {
-        if (columns == null) {
-            return null;
-        }
-
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getIndex() == index) {
-                result = column;
-                break;
-            }
-        }
-
-        return result;
+        return columnsByIndex.get(columns, index);
     }
 
     /**
@@ -212,19 +244,17 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      * @return the column by id
      */
     public TColumn getColumnById(long columnId) {
-        if (columns == null) {
-            return null;
-        }
-
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getId() == columnId) {
-                result = column;
-                break;
-            }
-        }
+        return columnsById.get(columns, columnId);
+    }
 
-        return result;
+    /**
+     * Get a cell by the ID of its column.
+     *
+     * @param columnId the column id
+     * @return the cell, null if the row has no cell for the column
+     */
+    public TCell getCellByColumnId(long columnId) {
+        return cellsByColumnId.get(cells, columnId);
     }
 
     /**
@@ -243,6 +273,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setSheetId(Long sheetId) {
         this.sheetId = sheetId;
+        changed(Property.SHEET_ID);
         return this;
     }
 
@@ -262,6 +293,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setRowNumber(Integer rowNumber) {
         this.rowNumber = rowNumber;
+        changed(Property.ROW_NUMBER);
         return this;
     }
 
@@ -281,6 +313,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setParentRowNumber(Integer parentRowNumber) {
         this.parentRowNumber = parentRowNumber;
+        changed(Property.PARENT_ROW_NUMBER);
         return this;
     }
 
@@ -300,6 +333,8 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setCells(List<TCell> cells) {
         this.cells = cells;
+        cellsByColumnId.invalidate();
+        changed(Property.CELLS);
         return this;
     }
 
@@ -319,6 +354,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setDiscussions(List<Discussion> discussions) {
         this.discussions = discussions;
+        changed(Property.DISCUSSIONS);
         return this;
     }
 
@@ -338,6 +374,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setAttachments(List<Attachment> attachments) {
         this.attachments = attachments;
+        changed(Property.ATTACHMENTS);
         return this;
     }
 
@@ -357,6 +394,9 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setColumns(List<TColumn> columns) {
         this.columns = columns;
+        columnsByIndex.invalidate();
+        columnsById.invalidate();
+        changed(Property.COLUMNS);
         return this;
     }
 
@@ -376,6 +416,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setCreatedAt(Date createdAt) {
         this.createdAt = createdAt;
+        changed(Property.CREATED_AT);
         return this;
     }
 
@@ -395,6 +436,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setModifiedAt(Date modifiedAt) {
         this.modifiedAt = modifiedAt;
+        changed(Property.MODIFIED_AT);
         return this;
     }
 
@@ -412,6 +454,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setLocked(Boolean locked) {
         this.locked = locked;
+        changed(Property.LOCKED);
         return this;
     }
 
@@ -425,6 +468,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
 
     public AbstractRow<TColumn, TCell> setLockedForUser(Boolean lockedForUser) {
         this.lockedForUser = lockedForUser;
+        changed(Property.LOCKED_FOR_USER);
         return this;
     }
 
@@ -440,6 +484,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setFormat(Format format) {
         this.format = format;
+        changed(Property.FORMAT);
         return this;
     }
 
@@ -459,6 +504,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setParentId(Long parentId) {
         this.parentId = parentId;
+        changed(Property.PARENT_ID);
         return this;
     }
 
@@ -478,6 +524,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setSiblingId(Long siblingId) {
         this.siblingId = siblingId;
+        changed(Property.SIBLING_ID);
         return this;
     }
 
@@ -497,6 +544,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setPermalink(String permalink) {
         this.permalink = permalink;
+        changed(Property.PERMALINK);
         return this;
     }
 
@@ -516,6 +564,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setFilteredOut(Boolean filteredOut) {
         this.filteredOut = filteredOut;
+        changed(Property.FILTERED_OUT);
         return this;
     }
 
@@ -535,6 +584,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setInCriticalPath(Boolean inCriticalPath) {
         this.inCriticalPath = inCriticalPath;
+        changed(Property.IN_CRITICAL_PATH);
         return this;
     }
 
@@ -552,6 +602,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setConditionalFormat(Format conditionalFormat) {
         this.conditionalFormat = conditionalFormat;
+        changed(Property.CONDITIONAL_FORMAT);
         return this;
     }
 
@@ -571,6 +622,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setToTop(Boolean toTop) {
         this.toTop = toTop;
+        changed(Property.TO_TOP);
         return this;
     }
 
@@ -590,6 +642,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setToBottom(Boolean toBottom) {
         this.toBottom = toBottom;
+        changed(Property.TO_BOTTOM);
         return this;
     }
 
@@ -609,6 +662,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setAbove(Boolean above) {
         this.above = above;
+        changed(Property.ABOVE);
         return this;
     }
 
@@ -626,6 +680,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setIndent(Integer indent) {
         this.indent = indent;
+        changed(Property.INDENT);
         return this;
     }
 
@@ -643,6 +698,7 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
      */
     public AbstractRow<TColumn, TCell> setOutdent(Integer outdent) {
         this.outdent = outdent;
+        changed(Property.OUTDENT);
         return this;
     }
 
@@ -663,4 +719,21 @@ public class AbstractRow<TColumn extends Column, TCell extends Cell> extends Ide
     public User getModifiedBy() {
         return modifiedBy;
     }
+
+    public boolean hasChanges() {
+        return changedProperties != 0;
+    }
+
+    public boolean isChanged(String property) {
+        return ChangeTracking.isChanged(changedProperties, PROPERTIES.get(property));
+    }
+
+    public void clearChanges() {
+        changedProperties = 0;
+    }
+
+    private void changed(Property property) {
+        changedProperties |= ChangeTracking.bit(property);
+    }
+
 }
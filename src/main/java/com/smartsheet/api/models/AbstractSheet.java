@@ -147,6 +147,44 @@ public class AbstractSheet<TRow extends AbstractRow<TColumn , TCell>, TColumn ex
      */
     private ProjectSettings projectSettings;
 
+    /*
+     * Indexes behind the lookup methods; built on first use and rebuilt when the lists change.
+     */
+    private final ListIndex<Integer, TColumn> columnsByIndex = new ListIndex<Integer, TColumn>() {
+        @Override
+        protected Integer keyOf(TColumn column) {
+            return column.getIndex();
+        }
+    };
+
+    private final ListIndex<Long, TColumn> columnsById = new ListIndex<Long, TColumn>() {
+        @Override
+        protected Long keyOf(TColumn column) {
+            return column.getId();
+        }
+    };
+
+    private final ListIndex<String, TColumn> columnsByTitle = new ListIndex<String, TColumn>() {
+        @Override
+        protected String keyOf(TColumn column) {
+            return column.getTitle();
+        }
+    };
+
+    private final ListIndex<Integer, TRow> rowsByRowNumber = new ListIndex<Integer, TRow>() {
+        @Override
+        protected Integer keyOf(TRow row) {
+            return row.getRowNumber();
+        }
+    };
+
+    private final ListIndex<Long, TRow> rowsById = new ListIndex<Long, TRow>() {
+        @Override
+        protected Long keyOf(TRow row) {
+            return row.getId();
+        }
+    };
+
     /**
      * Gets the owner email.
      *
@@ -211,18 +249,7 @@ public class AbstractSheet<TRow extends AbstractRow<TColumn , TCell>, TColumn ex
      * @return the column by index
      */
     public TColumn getColumnByIndex(int index) {
-        if (columns == null) {
-            return null;
-        }
-
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getIndex() == index) {
-                result = column;
-                break;
-            }
-        }
-        return result;
+        return columnsByIndex.get(columns, index);
     }
 
     /**
@@ -232,18 +259,17 @@ public class AbstractSheet<TRow extends AbstractRow<TColumn , TCell>, TColumn ex
      * @return the column by id
      */
     public TColumn getColumnById(long columnId) {
-        if (columns == null) {
-            return null;
-        }
+        return columnsById.get(columns, columnId);
+    }
 
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getId() == columnId) {
-                result = column;
-                break;
-            }
-        }
-        return result;
+    /**
+     * Get a {@link Column} by title.
+     *
+     * @param title the column title
+     * @return the (first) column with the title
+     */
+    public TColumn getColumnByTitle(String title) {
+        return columnsByTitle.get(columns, title);
     }
 
     /**
@@ -253,18 +279,29 @@ public class AbstractSheet<TRow extends AbstractRow<TColumn , TCell>, TColumn ex
      * @return the row by row number
      */
     public TRow getRowByRowNumber(int rowNumber) {
-        if (rows == null) {
-            return null;
-        }
+        return rowsByRowNumber.get(rows, rowNumber);
+    }
 
-        TRow result = null;
-        for (TRow row : rows) {
-            if (row.getRowNumber() == rowNumber) {
-                result = row;
-                break;
-            }
-        }
-        return result;
+    /**
+     * Get a {@link Row} by ID.
+     *
+     * @param rowId the row id
+     * @return the row by id
+     */
+    public TRow getRowById(long rowId) {
+        return rowsById.get(rows, rowId);
+    }
+
+    /**
+     * Get a {@link Cell} by the IDs of its row and column.
+     *
+     * @param rowId the row id
+     * @param columnId the column id
+     * @return the cell, null if there is no such row or the row has no cell for the column
+     */
+    public TCell getCell(long rowId, long columnId) {
+        TRow row = getRowById(rowId);
+        return row == null ? null : row.getCellByColumnId(columnId);
     }
 
     /**
@@ -283,6 +320,9 @@ public class AbstractSheet<TRow extends AbstractRow<TColumn , TCell>, TColumn ex
      */
     public AbstractSheet<TRow, TColumn, TCell> setColumns(List<TColumn> columns) {
         this.columns = columns;
+        columnsByIndex.invalidate();
+        columnsById.invalidate();
+        columnsByTitle.invalidate();
         return this;
     }
 
@@ -302,6 +342,8 @@ public class AbstractSheet<TRow extends AbstractRow<TColumn , TCell>, TColumn ex
      */
     public AbstractSheet<TRow, TColumn, TCell> setRows(List<TRow> rows) {
         this.rows = rows;
+        rowsByRowNumber.invalidate();
+        rowsById.invalidate();
         return this;
     }
 
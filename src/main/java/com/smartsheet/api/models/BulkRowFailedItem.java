@@ -24,15 +24,18 @@ package com.smartsheet.api.models;
  * Created by kskeem on 3/1/16.
  */
 public class BulkRowFailedItem {
-    private int index;
+    private Integer index;
     private Error error;
     private Long rowId;
 
-    public int getIndex() {
+    /**
+     * @return the index of the failed row in the request, null if the response didn't include it
+     */
+    public Integer getIndex() {
         return index;
     }
 
-    public BulkRowFailedItem setIndex(int index) {
+    public BulkRowFailedItem setIndex(Integer index) {
         this.index = index;
         return this;
     }
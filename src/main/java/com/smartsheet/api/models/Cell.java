@@ -25,11 +25,24 @@ import com.smartsheet.api.models.format.Format;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the Cell object that holds data in a sheet.
  */
-public class Cell {
+public class Cell implements ChangeTracked {
+
+    /** The tracked properties of the cell, named as the JSON properties but in UPPER_SNAKE_CASE. */
+    private enum Property {
+        TYPE, COLUMN_TYPE, VALUE, OBJECT_VALUE, DISPLAY_VALUE, COLUMN_ID,
+        ROW_ID, FORMULA, STRICT, FORMAT, HYPERLINK, LINK_IN_FROM_CELL,
+        LINKS_OUT_TO_CELLS, CONDITIONAL_FORMAT, IMAGE, OVERRIDE_VALIDATION
+    }
+
+    private static final Map<String, Property> PROPERTIES = ChangeTracking.byJsonName(Property.class);
+
+    /** The properties set since the cell was created or deserialized, a bit per {@link Property}. */
+    private long changedProperties;
 
     /**
      * Represents the column columnType.
@@ -129,6 +142,8 @@ public class Cell {
      */
     public Cell setColumnType(ColumnType columnType) {
         this.type = columnType;
+        changed(Property.TYPE);
+        changed(Property.COLUMN_TYPE);
         return this;
     }
 
@@ -148,6 +163,8 @@ public class Cell {
      */
     public Cell setType(ColumnType type) {
         this.type = type;
+        changed(Property.TYPE);
+        changed(Property.COLUMN_TYPE);
         return this;
     }
 
@@ -167,6 +184,7 @@ public class Cell {
      */
     public Cell setValue(Object value) {
         this.value = value;
+        changed(Property.VALUE);
         return this;
     }
 
@@ -186,6 +204,7 @@ public class Cell {
      */
     public Cell setObjectValue(ObjectValue objectValue) {
         this.objectValue = objectValue;
+        changed(Property.OBJECT_VALUE);
         return this;
     }
 
@@ -205,6 +224,7 @@ public class Cell {
      */
     public Cell setDisplayValue(String displayValue) {
         this.displayValue = displayValue;
+        changed(Property.DISPLAY_VALUE);
         return this;
     }
 
@@ -224,6 +244,7 @@ public class Cell {
      */
     public Cell setColumnId(Long columnId) {
         this.columnId = columnId;
+        changed(Property.COLUMN_ID);
         return this;
     }
 
@@ -243,6 +264,7 @@ public class Cell {
      */
     public Cell setRowId(Long rowId) {
         this.rowId = rowId;
+        changed(Property.ROW_ID);
         return this;
     }
 
@@ -263,6 +285,7 @@ public class Cell {
      */
     public Cell setFormula(String formula) {
         this.formula = formula;
+        changed(Property.FORMULA);
         return this;
     }
 
@@ -284,6 +307,7 @@ public class Cell {
      */
     public Cell setStrict(Boolean strict) {
         this.strict = strict;
+        changed(Property.STRICT);
         return this;
     }
 
@@ -299,6 +323,7 @@ public class Cell {
      */
     public Cell setFormat(Format format) {
         this.format = format;
+        changed(Property.FORMAT);
         return this;
     }
 
@@ -314,6 +339,7 @@ public class Cell {
      */
     public Cell setHyperlink(Hyperlink hyperlink) {
         this.hyperlink = hyperlink;
+        changed(Property.HYPERLINK);
         return this;
     }
 
@@ -329,6 +355,7 @@ public class Cell {
      */
     public Cell setLinkInFromCell(CellLink linkInFromCell) {
         this.linkInFromCell = linkInFromCell;
+        changed(Property.LINK_IN_FROM_CELL);
         return this;
     }
 
@@ -344,6 +371,7 @@ public class Cell {
      */
     public Cell setLinksOutToCells(List<CellLink> linksOutToCells) {
         this.linksOutToCells = linksOutToCells;
+        changed(Property.LINKS_OUT_TO_CELLS);
         return this;
     }
 
@@ -359,6 +387,7 @@ public class Cell {
      */
     public Cell setConditionalFormat(String conditionalFormat) {
         this.conditionalFormat = conditionalFormat;
+        changed(Property.CONDITIONAL_FORMAT);
         return this;
     }
 
@@ -378,6 +407,7 @@ public class Cell {
      */
     public Cell setImage(Image image) {
         this.image = image;
+        changed(Property.IMAGE);
         return this;
     }
 
@@ -396,6 +426,7 @@ public class Cell {
      */
     public Cell setOverrideValidation(Boolean overrideValidation) {
         this.overrideValidation = overrideValidation;
+        changed(Property.OVERRIDE_VALIDATION);
         return this;
     }
 
@@ -554,4 +585,21 @@ public class Cell {
             return cells;
         }
     }
+
+    public boolean hasChanges() {
+        return changedProperties != 0;
+    }
+
+    public boolean isChanged(String property) {
+        return ChangeTracking.isChanged(changedProperties, PROPERTIES.get(property));
+    }
+
+    public void clearChanges() {
+        changedProperties = 0;
+    }
+
+    private void changed(Property property) {
+        changedProperties |= ChangeTracking.bit(property);
+    }
+
 }
\ No newline at end of file
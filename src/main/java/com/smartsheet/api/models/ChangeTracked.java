@@ -0,0 +1,45 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * Implemented by the models that record which of their properties have been set since they were created or
+ * deserialized, so that updates only need to send what changed (see {@link com.smartsheet.api.SheetRowResources#updateRows}).
+ *
+ * Objects read from the API start out unchanged; objects created by the caller count every property set as changed.
+ */
+public interface ChangeTracked {
+    /**
+     * @return true if any property has been set since the object was created or deserialized
+     */
+    boolean hasChanges();
+
+    /**
+     * @param property the name of the (JSON) property, e.g. "value"
+     * @return true if the property has been set since the object was created or deserialized
+     */
+    boolean isChanged(String property);
+
+    /**
+     * Forget the changes, e.g. once the object has been deserialized or the changes have been saved.
+     */
+    void clearChanges();
+}
@@ -0,0 +1,79 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helpers for the {@link ChangeTracked} models. The changed properties of a model are kept as a bit mask, one bit per
+ * constant of an enum of its properties, so that setting a property costs no more than setting a bit.
+ */
+class ChangeTracking {
+    private ChangeTracking() {
+    }
+
+    /**
+     * Map the JSON names of properties to the constants of the enum naming them in UPPER_SNAKE_CASE.
+     *
+     * @param properties the enum of properties (of at most 64 constants)
+     * @param <E> the type of the enum
+     * @return the constants by JSON name
+     */
+    static <E extends Enum<E>> Map<String, E> byJsonName(Class<E> properties) {
+        E[] constants = properties.getEnumConstants();
+        if (constants.length > Long.SIZE) {
+            throw new IllegalArgumentException("too many properties in " + properties);
+        }
+        Map<String, E> byName = new HashMap<String, E>();
+        for (E constant : constants) {
+            StringBuilder name = new StringBuilder();
+            boolean upper = false;
+            for (char c : constant.name().toCharArray()) {
+                if (c == '_') {
+                    upper = true;
+                } else {
+                    name.append(upper ? c : Character.toLowerCase(c));
+                    upper = false;
+                }
+            }
+            byName.put(name.toString(), constant);
+        }
+        return byName;
+    }
+
+    /**
+     * @param property the property
+     * @return the bit of the property
+     */
+    static long bit(Enum<?> property) {
+        return 1L << property.ordinal();
+    }
+
+    /**
+     * @param changedProperties the bit mask of changed properties
+     * @param property the property (null if it isn't tracked)
+     * @return true if the property is changed
+     */
+    static boolean isChanged(long changedProperties, Enum<?> property) {
+        return property != null && (changedProperties & bit(property)) != 0;
+    }
+}
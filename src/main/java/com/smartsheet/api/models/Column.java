@@ -27,11 +27,25 @@ import com.smartsheet.api.models.enums.SystemColumnType;
 import com.smartsheet.api.models.format.Format;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the Column object.
  */
-public class Column extends IdentifiableModel<Long> {
+public class Column extends IdentifiableModel<Long> implements ChangeTracked {
+
+    /** The tracked properties of the column, named as the JSON properties but in UPPER_SNAKE_CASE. */
+    private enum Property {
+        INDEX, TITLE, PRIMARY, TYPE, OPTIONS, HIDDEN,
+        SYMBOL, SYSTEM_COLUMN_TYPE, AUTO_NUMBER_FORMAT, CONTACT_OPTIONS, TAGS, LOCKED,
+        LOCKED_FOR_USER, WIDTH, FORMAT, FILTER, VALIDATION
+    }
+
+    private static final Map<String, Property> PROPERTIES = ChangeTracking.byJsonName(Property.class);
+
+    /** The properties set since the column was created or deserialized, a bit per {@link Property}. */
+    private long changedProperties;
+
     /**
      * Represents the position.
      */
@@ -133,6 +147,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setIndex(Integer index) {
         this.index = index;
+        changed(Property.INDEX);
         return this;
     }
 
@@ -152,6 +167,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setTitle(String title) {
         this.title = title;
+        changed(Property.TITLE);
         return this;
     }
 
@@ -171,6 +187,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setPrimary(Boolean primary) {
         this.primary = primary;
+        changed(Property.PRIMARY);
         return this;
     }
 
@@ -190,6 +207,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setType(ColumnType type) {
         this.type = type;
+        changed(Property.TYPE);
         return this;
     }
 
@@ -209,6 +227,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setOptions(List<String> options) {
         this.options = options;
+        changed(Property.OPTIONS);
         return this;
     }
 
@@ -228,6 +247,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setHidden(Boolean hidden) {
         this.hidden = hidden;
+        changed(Property.HIDDEN);
         return this;
     }
 
@@ -247,6 +267,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setSymbol(Symbol symbol) {
         this.symbol = symbol;
+        changed(Property.SYMBOL);
         return this;
     }
 
@@ -266,6 +287,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setSystemColumnType(SystemColumnType systemColumnType) {
         this.systemColumnType = systemColumnType;
+        changed(Property.SYSTEM_COLUMN_TYPE);
         return this;
     }
 
@@ -285,6 +307,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setAutoNumberFormat(AutoNumberFormat autoNumberFormat) {
         this.autoNumberFormat = autoNumberFormat;
+        changed(Property.AUTO_NUMBER_FORMAT);
         return this;
     }
 
@@ -303,6 +326,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setContactOptions(List<Contact> contactOptions) {
         this.contactOptions = contactOptions;
+        changed(Property.CONTACT_OPTIONS);
         return this;
     }
 
@@ -322,6 +346,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setTags(List<ColumnTag> tags) {
         this.tags = tags;
+        changed(Property.TAGS);
         return this;
     }
 
@@ -339,6 +364,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setLocked(Boolean locked) {
         this.locked = locked;
+        changed(Property.LOCKED);
         return this;
     }
 
@@ -356,6 +382,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setLockedForUser(Boolean lockedForUser) {
         this.lockedForUser = lockedForUser;
+        changed(Property.LOCKED_FOR_USER);
         return this;
     }
 
@@ -373,6 +400,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setWidth(Integer width) {
         this.width = width;
+        changed(Property.WIDTH);
         return this;
     }
 
@@ -388,6 +416,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setFormat(Format format) {
         this.format = format;
+        changed(Property.FORMAT);
         return this;
     }
 
@@ -405,6 +434,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setFilter(Filter filter) {
         this.filter = filter;
+        changed(Property.FILTER);
         return this;
     }
 
@@ -421,6 +451,7 @@ public class Column extends IdentifiableModel<Long> {
      */
     public Column setValidation(Boolean validation) {
         this.validation = validation;
+        changed(Property.VALIDATION);
         return this;
     }
 
@@ -994,4 +1025,21 @@ public class Column extends IdentifiableModel<Long> {
             return column;
         }
     }
+
+    public boolean hasChanges() {
+        return changedProperties != 0;
+    }
+
+    public boolean isChanged(String property) {
+        return ChangeTracking.isChanged(changedProperties, PROPERTIES.get(property));
+    }
+
+    public void clearChanges() {
+        changedProperties = 0;
+    }
+
+    private void changed(Property property) {
+        changedProperties |= ChangeTracking.bit(property);
+    }
+
 }
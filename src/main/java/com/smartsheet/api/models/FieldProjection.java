@@ -0,0 +1,105 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>The properties to leave out when reading a sheet, on top of what {@link com.smartsheet.api.models.enums.ObjectExclusion}
+ * asks the API to leave out. The properties left out are skipped as the response is parsed, without being turned into
+ * objects, which saves parsing time and memory when they aren't needed; they are null in the objects read.</p>
+ *
+ * <p>Properties are named as in the JSON (e.g. "format"), separately for the sheet, its rows, their cells and the
+ * columns.</p>
+ *
+ * <p>Thread Safety: This class is not thread safe while being configured.</p>
+ */
+public class FieldProjection {
+    private final Set<String> sheetFields = new HashSet<String>();
+    private final Set<String> rowFields = new HashSet<String>();
+    private final Set<String> cellFields = new HashSet<String>();
+    private final Set<String> columnFields = new HashSet<String>();
+
+    /**
+     * @return a projection leaving out the formatting, links, images and authors of the rows and cells, keeping
+     * their values
+     */
+    public static FieldProjection values() {
+        return new FieldProjection()
+                .excludeRowFields("format", "conditionalFormat", "permalink", "createdBy", "modifiedBy")
+                .excludeCellFields("format", "conditionalFormat", "linksOutToCells", "image", "hyperlink");
+    }
+
+    /**
+     * @param fields the sheet properties to leave out
+     * @return this projection
+     */
+    public FieldProjection excludeSheetFields(String... fields) {
+        sheetFields.addAll(Arrays.asList(fields));
+        return this;
+    }
+
+    /**
+     * @param fields the row properties to leave out
+     * @return this projection
+     */
+    public FieldProjection excludeRowFields(String... fields) {
+        rowFields.addAll(Arrays.asList(fields));
+        return this;
+    }
+
+    /**
+     * @param fields the cell properties to leave out
+     * @return this projection
+     */
+    public FieldProjection excludeCellFields(String... fields) {
+        cellFields.addAll(Arrays.asList(fields));
+        return this;
+    }
+
+    /**
+     * @param fields the column properties to leave out
+     * @return this projection
+     */
+    public FieldProjection excludeColumnFields(String... fields) {
+        columnFields.addAll(Arrays.asList(fields));
+        return this;
+    }
+
+    public Set<String> getExcludedSheetFields() {
+        return Collections.unmodifiableSet(sheetFields);
+    }
+
+    public Set<String> getExcludedRowFields() {
+        return Collections.unmodifiableSet(rowFields);
+    }
+
+    public Set<String> getExcludedCellFields() {
+        return Collections.unmodifiableSet(cellFields);
+    }
+
+    public Set<String> getExcludedColumnFields() {
+        return Collections.unmodifiableSet(columnFields);
+    }
+}
@@ -0,0 +1,117 @@
+package com.smartsheet.api.models;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A lazily built index (key to position) over a list of model objects, used to give the lookup methods of sheets and
+ * rows O(1) cost instead of a scan.
+ *
+ * The index is built on first use and dropped when the indexed list changes: when it's replaced (the owning model
+ * also calls {@link #invalidate()} from its setter) or when its size changes, which catches elements added or removed
+ * in place. A key that isn't in the index is a miss, answered without touching the list. Every hit is checked against
+ * the list, and an element whose key no longer matches drops the index too. Elements replaced in place or whose keys
+ * change, leaving the size of the list as it was, are found under their new keys only once the index is dropped. As
+ * with a scan, the first element with a given key wins.
+ *
+ * Thread Safety: Lookups are thread safe as long as the list isn't modified concurrently; each index is an immutable
+ * snapshot published through a volatile field, so concurrent readers see either no index or a complete one.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the list elements
+ */
+abstract class ListIndex<K, V> {
+    private volatile Snapshot<K, V> snapshot;
+
+    /**
+     * @param value a list element
+     * @return the key of the element (null if it has none)
+     */
+    protected abstract K keyOf(V value);
+
+    /**
+     * Drop the index, to be rebuilt on the next lookup.
+     */
+    void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Find the first element of list with the given key.
+     *
+     * @param list the list (null if there is none)
+     * @param key the key
+     * @return the element, null if there is none with the key
+     */
+    V get(List<V> list, K key) {
+        if (list == null || key == null) {
+            return null;
+        }
+        Snapshot<K, V> snapshot = this.snapshot;
+        if (snapshot == null || snapshot.list != list || snapshot.size != list.size()) {
+            snapshot = build(list);
+        }
+        Integer position = snapshot.positions.get(key);
+        if (position == null) {
+            return null;
+        }
+        V value = list.get(position);
+        if (value != null && key.equals(keyOf(value))) {
+            return value;
+        }
+        // the element at that position was replaced or its key changed
+        position = build(list).positions.get(key);
+        return position == null ? null : list.get(position);
+    }
+
+    private Snapshot<K, V> build(List<V> list) {
+        Map<K, Integer> positions = new HashMap<K, Integer>(Math.max(16, list.size() * 4 / 3 + 1));
+        int position = 0;
+        for (V value : list) {
+            K key = value == null ? null : keyOf(value);
+            if (key != null && !positions.containsKey(key)) {
+                positions.put(key, position);
+            }
+            position++;
+        }
+        Snapshot<K, V> snapshot = new Snapshot<K, V>(list, position, positions);
+        this.snapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * An index as built over a list.
+     */
+    private static class Snapshot<K, V> {
+        final List<V> list;
+        final int size;
+        final Map<K, Integer> positions;
+
+        Snapshot(List<V> list, int size, Map<K, Integer> positions) {
+            this.list = list;
+            this.size = size;
+            this.positions = positions;
+        }
+    }
+}
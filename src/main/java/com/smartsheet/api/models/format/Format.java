@@ -28,6 +28,8 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 
@@ -43,6 +45,9 @@ public class Format {
     //The default format.
     private static final int[] DEFAULT_FORMAT = new int[]{0,2,0,0,0,0,0,0,0,0,0,0,0,0,0,0};
     static final int UNSET = Integer.MIN_VALUE;
+    //The most formats kept by valueOf; a sheet usually uses a few dozen.
+    static final int MAX_CANONICAL_FORMATS = 4096;
+    private static final ConcurrentMap<String, Format> CANONICAL_FORMATS = new ConcurrentHashMap<String, Format>();
     int[] formatArray;
 
     /**
@@ -65,6 +70,30 @@ public class Format {
         }
     }
 
+    /**
+     * Gets the {@link Format} object for a format string provided by the Smartsheet API. Format objects are
+     * immutable, so the same object is returned for the same string rather than parsing it again (up to
+     * {@value #MAX_CANONICAL_FORMATS} different strings are remembered).
+     *
+     * @param original the original
+     * @return the format
+     */
+    public static Format valueOf(String original) {
+        Format format = CANONICAL_FORMATS.get(original);
+        if (format == null) {
+            format = new Format(original);
+            if (CANONICAL_FORMATS.size() >= MAX_CANONICAL_FORMATS) {
+                // start over rather than keeping the formats of the first sheets read forever
+                CANONICAL_FORMATS.clear();
+            }
+            Format existing = CANONICAL_FORMATS.putIfAbsent(original, format);
+            if (existing != null) {
+                format = existing;
+            }
+        }
+        return format;
+    }
+
     /**
      * Creates a {@link Format} object with default values.
      */
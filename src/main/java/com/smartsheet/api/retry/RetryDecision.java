@@ -0,0 +1,69 @@
+package com.smartsheet.api.retry;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * Whether, and after how long, a failed request should be retried.
+ *
+ * Thread Safety: This class is immutable and thread safe.
+ */
+public final class RetryDecision {
+    /** don't retry the request */
+    public static final RetryDecision NO_RETRY = new RetryDecision(false, -1);
+
+    private final boolean retry;
+    private final long delayMillis;
+
+    private RetryDecision(boolean retry, long delayMillis) {
+        this.retry = retry;
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * @param delayMillis the time to wait before retrying the request
+     * @return a decision to retry the request after a delay
+     */
+    public static RetryDecision retryAfter(long delayMillis) {
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("delayMillis can't be negative");
+        }
+        return new RetryDecision(true, delayMillis);
+    }
+
+    /**
+     * @return true if the request should be retried
+     */
+    public boolean shouldRetry() {
+        return retry;
+    }
+
+    /**
+     * @return the time to wait before retrying the request (-1 if it shouldn't be retried)
+     */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return retry ? "retry after " + delayMillis + "ms" : "no retry";
+    }
+}
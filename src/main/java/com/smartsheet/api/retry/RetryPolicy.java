@@ -0,0 +1,43 @@
+package com.smartsheet.api.retry;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.internal.http.HttpResponse;
+
+/**
+ * Decides whether a failed request is retried, and when. Unlike {@link ShouldRetry}, which waits before returning,
+ * a RetryPolicy only returns the delay, leaving the waiting to the caller; asynchronous calls are then retried from a
+ * timer rather than by a blocked worker thread.
+ *
+ * A {@link ShouldRetry} given to the DefaultHttpClient that also implements this interface is used through this
+ * interface.
+ */
+public interface RetryPolicy {
+    /**
+     * Decide whether a failed request is retried. This must not block.
+     *
+     * @param previousAttempts the number of attempts made so far
+     * @param totalElapsedTimeMillis the time since the first attempt was started
+     * @param response the failed response (its content can be read, it's reset afterwards)
+     * @return the decision
+     */
+    RetryDecision decideRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response);
+}
@@ -0,0 +1,230 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * A {@link TraceSink} that formats and writes traces on a background (daemon) thread, so that tracing doesn't slow
+ * down or serialize the requests being traced.
+ *
+ * Traces are queued in a bounded ring buffer; when traces are produced faster than they can be written the oldest
+ * queued traces are dropped (and the number dropped is written in their place). The writer thread is started with the
+ * first trace and flushes the underlying writer whenever it runs out of traces to write. Traces still queued when
+ * the JVM exits are lost, call {@link #flush()} (or {@link #close()}) to wait for them to be written. Unlike the
+ * default {@link StreamTraceWriter}, it has to be set explicitly, e.g. with
+ * {@link com.smartsheet.api.SmartsheetBuilder#setTraceSink(TraceSink)}.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public class AsyncTraceWriter implements TraceSink, Flushable, Closeable {
+    /** logger for general errors, warnings, etc */
+    private static final Logger logger = LoggerFactory.getLogger(AsyncTraceWriter.class);
+
+    /** default number of traces that can be queued */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    /** where the traces are written; only used by the writer thread */
+    private final Writer writer;
+
+    /** guards the fields below */
+    private final Object lock = new Object();
+
+    /** the queued traces, oldest first starting at head */
+    private final TraceRecord[] ring;
+    private int head;
+    private int size;
+
+    /** traces dropped since the writer thread last took a trace */
+    private long dropped;
+    private long droppedTotal;
+
+    /** true while the writer thread has no trace in hand (and the underlying writer has been flushed) */
+    private boolean idle = true;
+    private boolean closed;
+    private Thread thread;
+
+    /**
+     * Constructor, writing UTF-8 text to a stream with the default capacity.
+     *
+     * @param out the stream to write to (it's not closed by {@link #close()})
+     */
+    public AsyncTraceWriter(OutputStream out) {
+        this(new OutputStreamWriter(out, Charset.forName("UTF-8")), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param writer the writer to write to (it's not closed by {@link #close()})
+     * @param capacity the number of traces that can be queued
+     */
+    public AsyncTraceWriter(Writer writer, int capacity) {
+        if (writer == null || capacity < 1) {
+            throw new IllegalArgumentException("writer is required and capacity must be positive");
+        }
+        this.writer = writer;
+        this.ring = new TraceRecord[capacity];
+    }
+
+    /**
+     * Queue a trace to be written, dropping the oldest queued trace if the queue is full. Traces written after
+     * {@link #close()} are ignored.
+     *
+     * @param record the trace
+     */
+    @Override
+    public void write(TraceRecord record) {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            if (size == ring.length) {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                dropped++;
+                droppedTotal++;
+            }
+            ring[(head + size) % ring.length] = record;
+            size++;
+            if (thread == null) {
+                thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        writeTraces();
+                    }
+                }, "smartsheet-trace-writer");
+                thread.setDaemon(true);
+                thread.start();
+            } else if (size == 1) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return the number of traces dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        synchronized (lock) {
+            return droppedTotal;
+        }
+    }
+
+    /**
+     * Wait for the queued traces to be written (and flushed).
+     */
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            while ((size > 0 || !idle) && thread != null && thread.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the queued traces and stop the writer thread. The underlying writer isn't closed.
+     */
+    @Override
+    public void close() {
+        Thread writerThread;
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+            writerThread = thread;
+        }
+        if (writerThread != null) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The loop of the writer thread.
+     */
+    private void writeTraces() {
+        while (true) {
+            TraceRecord record;
+            long droppedRecords;
+            synchronized (lock) {
+                while (size == 0) {
+                    idle = true;
+                    lock.notifyAll();
+                    if (closed) {
+                        return;
+                    }
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                idle = false;
+                record = ring[head];
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                droppedRecords = dropped;
+                dropped = 0;
+            }
+
+            boolean empty;
+            try {
+                if (droppedRecords > 0) {
+                    writer.write("[" + droppedRecords + " traces dropped]" + LINE_SEPARATOR);
+                }
+                writer.write(record.format());
+                writer.write(LINE_SEPARATOR);
+                synchronized (lock) {
+                    empty = size == 0;
+                }
+                if (empty) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                logger.warn("error writing trace for {} - {}", record, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warn("error formatting trace for {}", record, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Flushable;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * A {@link TraceSink} that formats and writes each trace on the request thread, flushing it right away, so traces are
+ * visible as soon as their requests complete. This is the default trace sink; use an {@link AsyncTraceWriter} to keep
+ * tracing off the request threads.
+ *
+ * Thread Safety: This class is thread safe; traces are written one at a time.
+ */
+public class StreamTraceWriter implements TraceSink, Flushable {
+    /** logger for general errors, warnings, etc */
+    private static final Logger logger = LoggerFactory.getLogger(StreamTraceWriter.class);
+
+    private final PrintWriter writer;
+
+    /**
+     * Constructor, writing UTF-8 text to a stream.
+     *
+     * @param out the stream to write to
+     */
+    public StreamTraceWriter(OutputStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("out is required");
+        }
+        this.writer = new PrintWriter(new OutputStreamWriter(out, Charset.forName("UTF-8")), true);
+    }
+
+    /**
+     * Format and write a trace.
+     *
+     * @param record the trace
+     */
+    @Override
+    public void write(TraceRecord record) {
+        String text;
+        try {
+            text = record.format();
+        } catch (RuntimeException e) {
+            logger.warn("error formatting trace for {}", record, e);
+            return;
+        }
+        synchronized (writer) {
+            writer.println(text);
+        }
+    }
+
+    /**
+     * Flush the stream (traces are flushed as they are written, so this is only needed after writing to the stream
+     * directly).
+     */
+    @Override
+    public void flush() {
+        writer.flush();
+    }
+}
@@ -0,0 +1,102 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * The trace of one HTTP request and its response. The summary fields are available right away; the text of the
+ * trace (headers and bodies, possibly pretty printed) is only built when {@link #format()} is first called, which a
+ * {@link TraceSink} may do off the request thread.
+ *
+ * Thread Safety: This class is thread safe.
+ */
+public abstract class TraceRecord {
+    private final String method;
+    private final String uri;
+    private final int statusCode;
+    private final long latencyNanos;
+
+    /** the formatted trace, once built */
+    private volatile String formatted;
+
+    /**
+     * Constructor.
+     *
+     * @param method the HTTP method
+     * @param uri the request URI
+     * @param statusCode the HTTP status code
+     * @param latencyNanos the time from sending the request to receiving the response headers
+     */
+    protected TraceRecord(String method, String uri, int statusCode, long latencyNanos) {
+        this.method = method;
+        this.uri = uri;
+        this.statusCode = statusCode;
+        this.latencyNanos = latencyNanos;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return true if the request didn't succeed
+     */
+    public boolean isFailed() {
+        return statusCode != 200;
+    }
+
+    /**
+     * Get the text of the trace, building it on the first call.
+     *
+     * @return the text of the trace
+     */
+    public String format() {
+        String text = formatted;
+        if (text == null) {
+            text = formatRecord();
+            formatted = text;
+        }
+        return text;
+    }
+
+    /**
+     * Build the text of the trace.
+     *
+     * @return the text of the trace
+     */
+    protected abstract String formatRecord();
+
+    @Override
+    public String toString() {
+        return method + " " + uri + " - " + statusCode;
+    }
+}
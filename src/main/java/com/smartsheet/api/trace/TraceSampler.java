@@ -0,0 +1,36 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * Interface for deciding which traced requests are written to the {@link TraceSink}; see {@link TraceSamplers} for
+ * the common policies.
+ */
+public interface TraceSampler {
+    /**
+     * Called on the request thread for every traced request, before the request and response bodies are captured.
+     * Only the summary fields of the record can be used; it can't be formatted yet.
+     *
+     * @param record the trace of the request
+     * @return true to write the trace
+     */
+    boolean isSampled(TraceRecord record);
+}
@@ -0,0 +1,77 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Factory methods for the common {@link TraceSampler}s.
+ */
+public class TraceSamplers {
+    private static final TraceSampler ALWAYS = new TraceSampler() {
+        @Override
+        public boolean isSampled(TraceRecord record) {
+            return true;
+        }
+    };
+
+    private TraceSamplers() {
+    }
+
+    /**
+     * @return a sampler that writes the trace of every request
+     */
+    public static TraceSampler always() {
+        return ALWAYS;
+    }
+
+    /**
+     * @param n the sampling interval
+     * @return a sampler that writes the trace of one request in n
+     */
+    public static TraceSampler oneIn(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        final AtomicLong count = new AtomicLong();
+        return new TraceSampler() {
+            @Override
+            public boolean isSampled(TraceRecord record) {
+                return count.getAndIncrement() % n == 0;
+            }
+        };
+    }
+
+    /**
+     * @param thresholdMillis the latency (to the response headers) from which requests are considered slow
+     * @return a sampler that only writes the trace of requests that are slow or failed
+     */
+    public static TraceSampler slowOrFailed(long thresholdMillis) {
+        final long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        return new TraceSampler() {
+            @Override
+            public boolean isSampled(TraceRecord record) {
+                return record.isFailed() || record.getLatencyNanos() >= thresholdNanos;
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+/**
+ * Interface for the destinations of trace-logging (see {@link com.smartsheet.api.Trace}).
+ */
+public interface TraceSink {
+    /**
+     * Called on the request thread for every traced request that was sampled. Implementations should be quick; the
+     * record can be formatted (see {@link TraceRecord#format()}) and written later, on another thread, as
+     * {@link AsyncTraceWriter} does.
+     *
+     * @param record the trace of the request
+     */
+    void write(TraceRecord record);
+}
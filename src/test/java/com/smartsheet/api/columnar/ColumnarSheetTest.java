@@ -0,0 +1,116 @@
+package com.smartsheet.api.columnar;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ColumnarSheetTest {
+
+    @Test
+    public void testOf() {
+        Sheet sheet = new Sheet();
+        List<Column> columns = new ArrayList<Column>();
+        for (long id = 1; id <= 4; id++) {
+            Column column = new Column();
+            column.setId(id);
+            columns.add(column);
+        }
+        sheet.setColumns(columns);
+        List<Row> rows = new ArrayList<Row>();
+        for (int i = 0; i < 100; i++) {
+            Row row = new Row();
+            row.setId(1000L + i);
+            row.setCells(Arrays.asList(
+                    new Cell().setColumnId(1L).setValue(i % 10 == 0 ? null : i),
+                    new Cell().setColumnId(2L).setValue(i % 2 == 0 ? "even" : "odd"),
+                    new Cell().setColumnId(3L).setValue(i % 3 == 0),
+                    // a string after numbers switches the column to objects
+                    new Cell().setColumnId(4L).setValue(i == 50 ? (Object) "fifty" : (Object) (i + .5))));
+            rows.add(row);
+        }
+        sheet.setRows(rows);
+
+        ColumnarSheet columnar = ColumnarSheet.of(sheet);
+        assertEquals(100, columnar.getRowCount());
+        assertEquals(4, columnar.getColumnCount());
+        assertEquals(1, columnar.getColumnIndex(2));
+        assertEquals(-1, columnar.getColumnIndex(5));
+
+        assertEquals(1007L, columnar.getRowId(7));
+        assertEquals(7.0, columnar.getValue(7, 0));
+        assertNull(columnar.getValue(10, 0));
+        assertTrue(Double.isNaN(columnar.getNumber(10, 0)));
+        assertEquals("odd", columnar.getValue(7, 1));
+        assertEquals(Boolean.FALSE, columnar.getValue(7, 2));
+        assertEquals(Boolean.TRUE, columnar.getValue(9, 2));
+        assertEquals(49.5, columnar.getNumber(49, 3), 0);
+        assertEquals("fifty", columnar.getValue(50, 3));
+        assertEquals(51.5, columnar.getValue(51, 3));
+
+        ColumnarRow row = columnar.getRow(7);
+        assertEquals(1007L, row.getId());
+        assertEquals("odd", row.getString(1));
+        ColumnarCell cell = row.getCell(1);
+        assertEquals(Long.valueOf(2), cell.getColumnId());
+        assertEquals("odd", cell.getValue());
+
+        Row copy = columnar.getRow(10).toRow();
+        assertEquals(Long.valueOf(1010), copy.getId());
+        assertEquals(3, copy.getCells().size());
+        assertEquals(Long.valueOf(2), copy.getCells().get(0).getColumnId());
+
+        try {
+            columnar.getRow(100);
+            fail("Exception should have been thrown");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFromJson() throws SmartsheetException {
+        String json = "{\"id\":1,\"name\":\"sheet\",\"version\":3," +
+                "\"columns\":[{\"id\":10,\"title\":\"a\"},{\"id\":11,\"title\":\"b\"}]," +
+                "\"rows\":[{\"id\":100,\"cells\":[{\"columnId\":10,\"value\":\"x\"},{\"columnId\":11,\"value\":2}]}," +
+                "{\"id\":101,\"cells\":[{\"columnId\":10,\"value\":\"x\"},{\"columnId\":11}]}]}";
+
+        ColumnarSheet columnar = ColumnarSheet.fromJson(new ByteArrayInputStream(json.getBytes()));
+        assertEquals(Long.valueOf(1), columnar.getId());
+        assertEquals("sheet", columnar.getName());
+        assertEquals(Integer.valueOf(3), columnar.getVersion());
+        assertEquals(2, columnar.getRowCount());
+        assertEquals("x", columnar.getValue(1, 0));
+        assertEquals(2.0, columnar.getNumber(0, 1), 0);
+        assertNull(columnar.getValue(1, 1));
+    }
+}
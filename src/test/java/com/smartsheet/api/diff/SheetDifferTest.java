@@ -0,0 +1,144 @@
+package com.smartsheet.api.diff;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SheetDifferTest {
+    private static final long KEY = 1;
+    private static final long VALUE = 2;
+
+    @Test
+    public void testDiff() {
+        Sheet sheet = sheet(
+                row(100, "a", 1),
+                row(101, "b", 2),
+                row(102, "c", 3),
+                row(103, "c", 4),
+                row(104, null, 5));
+
+        SheetDiff diff = new SheetDiffer().diff(sheet, Arrays.asList(
+                desired("a", 1.0),
+                desired("b", 20),
+                desired("c", null),
+                desired("d", 4)));
+
+        assertEquals(1, diff.getRowsToAdd().size());
+        Row added = diff.getRowsToAdd().get(0);
+        assertEquals(Boolean.TRUE, added.getToBottom());
+        assertEquals(2, added.getCells().size());
+        assertEquals("d", added.getCells().get(0).getValue());
+
+        assertEquals(2, diff.getRowsToUpdate().size());
+        Row updated = diff.getRowsToUpdate().get(0);
+        assertEquals(Long.valueOf(101), updated.getId());
+        assertEquals(1, updated.getCells().size());
+        assertEquals(Long.valueOf(VALUE), updated.getCells().get(0).getColumnId());
+        assertEquals(20, updated.getCells().get(0).getValue());
+        // clearing a cell sends an empty string
+        assertEquals("", diff.getRowsToUpdate().get(1).getCells().get(0).getValue());
+
+        // the duplicate of "c" is deleted, the row without a key is left alone
+        assertEquals(Collections.singleton(103L), diff.getRowIdsToDelete());
+    }
+
+    @Test
+    public void testDeleteMissingRows() {
+        Sheet sheet = sheet(row(100, "a", 1), row(101, "b", 2));
+        List<Row> desired = Arrays.asList(desired("a", 1));
+
+        assertEquals(Collections.singleton(101L), new SheetDiffer(KEY).diff(sheet, desired).getRowIdsToDelete());
+        SheetDiff diff = new SheetDiffer(KEY).setDeleteMissingRows(false).diff(sheet, desired);
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void testInvalidDesiredRows() {
+        Sheet sheet = sheet(row(100, "a", 1));
+        try {
+            new SheetDiffer().diff(sheet, Arrays.asList(desired("a", 1), desired("a", 2)));
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new SheetDiffer().diff(sheet, Arrays.asList(desired(null, 1)));
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLargeSheet() {
+        List<Row> rows = new ArrayList<Row>();
+        List<Row> desired = new ArrayList<Row>();
+        for (int i = 0; i < 100000; i++) {
+            rows.add(row(i, "key" + i, i));
+            desired.add(desired("key" + i, i % 1000 == 0 ? -i : i));
+        }
+        Sheet sheet = sheet(rows.toArray(new Row[rows.size()]));
+
+        SheetDiff diff = new SheetDiffer().diff(sheet, desired);
+        assertEquals(99, diff.getRowsToUpdate().size());
+        assertTrue(diff.getRowsToAdd().isEmpty());
+        assertTrue(diff.getRowIdsToDelete().isEmpty());
+    }
+
+    private static Sheet sheet(Row... rows) {
+        Sheet sheet = new Sheet();
+        Column key = new Column().setPrimary(true);
+        key.setId(KEY);
+        Column value = new Column();
+        value.setId(VALUE);
+        sheet.setColumns(Arrays.asList(key, value));
+        sheet.setRows(Arrays.asList(rows));
+        return sheet;
+    }
+
+    private static Row row(long id, String key, Object value) {
+        Row row = new Row();
+        row.setId(id);
+        row.setCells(cells(key, value));
+        return row;
+    }
+
+    private static Row desired(String key, Object value) {
+        Row row = new Row();
+        row.setCells(cells(key, value));
+        return row;
+    }
+
+    private static List<Cell> cells(String key, Object value) {
+        return Arrays.asList(new Cell().setColumnId(KEY).setValue(key), new Cell().setColumnId(VALUE).setValue(value));
+    }
+}
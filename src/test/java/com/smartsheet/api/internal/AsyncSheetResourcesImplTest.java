@@ -0,0 +1,172 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.ServiceUnavailableException;
+import com.smartsheet.api.internal.http.AsyncHttpClient;
+import com.smartsheet.api.internal.http.DefaultAsyncHttpClient;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.http.DefaultShouldRetry;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.retry.CalcBackoff;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class AsyncSheetResourcesImplTest extends ResourcesImplBase {
+
+    private AsyncSheetResourcesImpl asyncSheetResources;
+
+    @Before
+    public void setUp() throws Exception {
+        asyncSheetResources = new AsyncSheetResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/",
+                "accessToken", new DefaultHttpClient(), serializer));
+    }
+
+    @Test
+    public void testGetSheet() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+
+        final AtomicReference<Sheet> callbackResult = new AtomicReference<Sheet>();
+        final CountDownLatch done = new CountDownLatch(1);
+        Future<Sheet> future = asyncSheetResources.getSheet(123123L, null, null, null, null, null, null, null,
+                new AsyncCallback<Sheet>() {
+                    public void onSuccess(Sheet result) {
+                        callbackResult.set(result);
+                        done.countDown();
+                    }
+
+                    public void onFailure(Throwable error) {
+                        done.countDown();
+                    }
+                });
+
+        Sheet sheet = future.get(10, TimeUnit.SECONDS);
+        assertEquals(9, sheet.getColumns().size());
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertSame(sheet, callbackResult.get());
+    }
+
+    @Test
+    public void testAddRowsFailure() throws Exception {
+        server.setStatus(400);
+        server.setResponseBody(new File("src/test/resources/createDiscussion_1032.json"));
+
+        final AtomicReference<Throwable> callbackError = new AtomicReference<Throwable>();
+        final CountDownLatch done = new CountDownLatch(1);
+        Future<List<Row>> future = asyncSheetResources.rowResources().addRows(1234L, new ArrayList<Row>(),
+                new AsyncCallback<List<Row>>() {
+                    public void onSuccess(List<Row> result) {
+                        done.countDown();
+                    }
+
+                    public void onFailure(Throwable error) {
+                        callbackError.set(error);
+                        done.countDown();
+                    }
+                });
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Exception should have been thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof InvalidRequestException);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(callbackError.get() instanceof InvalidRequestException);
+    }
+
+    @Test
+    public void testListColumns() throws Exception {
+        server.setResponseBody(new File("src/test/resources/listColumns.json"));
+
+        PagedResult<Column> columns = asyncSheetResources.columnResources().listColumns(1234L, null, null, null)
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(3, columns.getData().size());
+    }
+
+    @Test
+    public void testRetryFromTimer() throws Exception {
+        server.setStatus(503);
+        server.setResponseBody("{\"errorCode\":4001,\"message\":\"Offline for maintenance\"}");
+
+        final List<Integer> attempts = new CopyOnWriteArrayList<Integer>();
+        DefaultShouldRetry shouldRetry = new DefaultShouldRetry(serializer);
+        shouldRetry.setCalcBackoff(new CalcBackoff() {
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                attempts.add(previousAttempts);
+                return previousAttempts < 3 ? 500 : -1;
+            }
+        });
+        SmartsheetImpl smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer);
+        AsyncHttpClient asyncHttpClient = new DefaultAsyncHttpClient(shouldRetry);
+        smartsheet.setAsyncHttpClient(asyncHttpClient);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        smartsheet.setExecutorService(executor);
+        try {
+            Future<Sheet> future = smartsheet.asyncSheetResources().getSheet(123123L, null, null, null, null, null,
+                    null, null, null);
+
+            // the only worker thread isn't held up while the request is in flight or waits to be retried
+            Thread.sleep(100);
+            Future<String> other = smartsheet.submit(new Callable<String>() {
+                public String call() {
+                    return "done";
+                }
+            }, null);
+            assertEquals("done", other.get(300, TimeUnit.MILLISECONDS));
+            assertFalse(future.isDone());
+
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("Exception should have been thrown");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ServiceUnavailableException);
+            }
+            assertEquals(Arrays.asList(1, 2, 3), attempts);
+        } finally {
+            executor.shutdown();
+            asyncHttpClient.close();
+        }
+    }
+}
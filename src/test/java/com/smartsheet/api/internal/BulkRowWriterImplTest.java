@@ -0,0 +1,149 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.models.BulkRowFailedItem;
+import com.smartsheet.api.models.PartialRowUpdateResult;
+import com.smartsheet.api.models.Row;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BulkRowWriterImplTest extends ResourcesImplBase {
+
+    private SheetRowResourcesImpl sheetRowResource;
+
+    @Before
+    public void setUp() throws Exception {
+        sheetRowResource = new SheetRowResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer));
+    }
+
+    @Test
+    public void testExecute() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/insertRows.json"));
+
+        // two chunks for the first call and one for the second, each answered with the two rows of insertRows.json
+        List<PartialRowUpdateResult> results = sheetRowResource.bulkWriter().setChunkSize(2)
+                .addRows(1234L, newRows(3)).updateRows(5678L, newRows(1)).execute();
+
+        assertEquals(2, results.size());
+        assertEquals(4, results.get(0).getResult().size());
+        assertEquals(2, results.get(1).getResult().size());
+        assertEquals(14, results.get(0).getVersion().intValue());
+        assertEquals("SUCCESS", results.get(0).getMessage());
+        assertTrue(results.get(0).getFailedItems().isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void testExecuteOnExecutor() throws Exception {
+        server.setResponseBody(new File("src/test/resources/insertRows.json"));
+        SmartsheetImpl smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer);
+        // a single thread, taken by the call itself, leaves no other thread to write the chunks
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        smartsheet.setExecutorService(executor);
+        final SheetRowResourcesImpl rowResources = new SheetRowResourcesImpl(smartsheet);
+        try {
+            List<PartialRowUpdateResult> results = executor.submit(new Callable<List<PartialRowUpdateResult>>() {
+                public List<PartialRowUpdateResult> call() throws SmartsheetException {
+                    return rowResources.bulkWriter().setChunkSize(1).setOrdered(false)
+                            .addRows(1234L, newRows(3)).execute();
+                }
+            }).get();
+            assertEquals(6, results.get(0).getResult().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testExecuteFailedChunks() throws SmartsheetException, IOException {
+        server.setStatus(400);
+        server.setResponseBody("{\"errorCode\":1006,\"message\":\"Not Found\",\"refId\":\"abc\"}");
+
+        List<PartialRowUpdateResult> results = sheetRowResource.bulkWriter().setChunkSize(2).setOrdered(false)
+                .addRows(1234L, newRows(3)).execute();
+
+        PartialRowUpdateResult result = results.get(0);
+        assertEquals(3, result.getResultCode().intValue());
+        assertEquals(0, result.getResult().size());
+        assertEquals(3, result.getFailedItems().size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.valueOf(i), result.getFailedItems().get(i).getIndex());
+            assertEquals(Long.valueOf(i), result.getFailedItems().get(i).getRowId());
+            assertEquals(1006, result.getFailedItems().get(i).getError().getErrorCode().intValue());
+        }
+    }
+
+    @Test
+    public void testExecuteUnexpectedFailures() throws SmartsheetException {
+        SmartsheetImpl smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer);
+        SheetRowResourcesImpl rowResources = new SheetRowResourcesImpl(smartsheet) {
+            @Override
+            public PartialRowUpdateResult addRowsAllowPartialSuccess(long sheetId, List<Row> rows) {
+                if (rows.get(0).getId() == 0L) {
+                    throw new StackOverflowError("unexpected");
+                }
+                // a failed item without an index
+                PartialRowUpdateResult result = new PartialRowUpdateResult();
+                result.setResult(new ArrayList<Row>());
+                result.setFailedItems(Arrays.asList(new BulkRowFailedItem().setRowId(rows.get(0).getId())));
+                return result;
+            }
+        };
+
+        List<PartialRowUpdateResult> results = new BulkRowWriterImpl(smartsheet, rowResources).setChunkSize(2)
+                .addRows(1234L, newRows(3)).execute();
+
+        List<BulkRowFailedItem> failedItems = results.get(0).getFailedItems();
+        assertEquals(3, failedItems.size());
+        assertEquals("unexpected", failedItems.get(0).getError().getMessage());
+        assertEquals(Integer.valueOf(1), failedItems.get(1).getIndex());
+        assertNull(failedItems.get(2).getIndex());
+        assertEquals(Long.valueOf(2), failedItems.get(2).getRowId());
+    }
+
+    private static List<Row> newRows(int count) {
+        List<Row> rows = new ArrayList<Row>();
+        for (int i = 0; i < count; i++) {
+            Row row = new Row();
+            row.setId((long) i);
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,134 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.PageLoader;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetRuntimeException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PagedIterableTest {
+
+    private SmartsheetImpl smartsheet;
+
+    @Before
+    public void setUp() throws Exception {
+        smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken", new DefaultHttpClient(), null);
+    }
+
+    @Test
+    public void testIterate() {
+        CountingLoader loader = new CountingLoader(7, null);
+        List<Integer> values = new ArrayList<Integer>();
+        for (Integer value : smartsheet.iterate(loader, 3)) {
+            values.add(value);
+        }
+        assertEquals(7, values.size());
+        for (int i = 0; i < 7; i++) {
+            assertEquals(i, values.get(i).intValue());
+        }
+        assertEquals(3, loader.pagesLoaded.get());
+    }
+
+    @Test
+    public void testStopEarly() throws Exception {
+        CountingLoader loader = new CountingLoader(100, null);
+        Iterator<Integer> iterator = smartsheet.iterate(loader, 10).iterator();
+        assertEquals(0, iterator.next().intValue());
+        Thread.sleep(100);
+        // the first page and the prefetched second page
+        assertEquals(2, loader.pagesLoaded.get());
+    }
+
+    @Test
+    public void testWithoutTotalPages() {
+        CountingLoader loader = new CountingLoader(6, null);
+        loader.includeTotalPages = false;
+        int count = 0;
+        for (Integer ignored : smartsheet.iterate(loader, 3)) {
+            count++;
+        }
+        assertEquals(6, count);
+        // the third (empty) page shows the end of the list
+        assertEquals(3, loader.pagesLoaded.get());
+    }
+
+    @Test
+    public void testFailure() {
+        Iterator<Integer> iterator = smartsheet.iterate(new CountingLoader(10, 2), 3).iterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.next();
+        }
+        try {
+            iterator.hasNext();
+            fail("SmartsheetRuntimeException expected");
+        } catch (SmartsheetRuntimeException e) {
+            assertTrue(e.getCause() instanceof SmartsheetException);
+        }
+    }
+
+    private static class CountingLoader implements PageLoader<Integer> {
+        final AtomicInteger pagesLoaded = new AtomicInteger();
+        final int total;
+        final Integer failingPage;
+        volatile boolean includeTotalPages = true;
+
+        CountingLoader(int total, Integer failingPage) {
+            this.total = total;
+            this.failingPage = failingPage;
+        }
+
+        public PagedResult<Integer> loadPage(PaginationParameters parameters) throws SmartsheetException {
+            pagesLoaded.incrementAndGet();
+            int page = parameters.getPage();
+            if (failingPage != null && page == failingPage) {
+                throw new SmartsheetException("failed");
+            }
+            int pageSize = parameters.getPageSize();
+            List<Integer> data = new ArrayList<Integer>();
+            for (int i = (page - 1) * pageSize; i < Math.min(total, page * pageSize); i++) {
+                data.add(i);
+            }
+            PagedResult<Integer> result = new PagedResult<Integer>();
+            result.setData(data);
+            result.setPageNumber(page);
+            result.setPageSize(pageSize);
+            result.setTotalCount(total);
+            if (includeTotalPages) {
+                result.setTotalPages((total + pageSize - 1) / pageSize);
+            }
+            return result;
+        }
+    }
+}
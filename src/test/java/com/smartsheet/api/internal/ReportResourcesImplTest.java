@@ -59,6 +59,15 @@ public class ReportResourcesImplTest extends ResourcesImplBase {
         assertTrue(report.getColumns().get(0).getVirtualId() == 4583173393803140L);
     }
 
+    @Test
+    public void testGetReportInParallel() throws SmartsheetException, IOException {
+        // every page is answered with the same row, and a total row count of 4
+        server.setResponseBody(new File("src/test/resources/getReport.json"));
+        Report report = reportResources.getReportInParallel(4583173393803140L, null, 1, 3);
+        assertEquals(4, report.getRows().size());
+        assertEquals(report.getPermalink(), "https://app.smartsheet.com/b/home?lx=pWNSDH9itjBXxBzFmyf-5w");
+    }
+
     @Test
     public void testSendSheet() throws Exception {
         server.setResponseBody(new File("src/test/resources/sendEmails.json"));
@@ -0,0 +1,148 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RowLoaderImplTest extends ResourcesImplBase {
+
+    private static final long[] ROW_IDS = {2361756178769796L, 6865355806140292L, 1235856271927172L};
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private SheetResourcesImpl sheetResources;
+
+    @Before
+    public void setUp() throws Exception {
+        sheetResources = new SheetResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer)) {
+            @Override
+            public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                                  Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                                  Integer page) throws SmartsheetException {
+                requests.incrementAndGet();
+                return super.getSheet(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page);
+            }
+        };
+        server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        final RowLoaderImpl loader = new RowLoaderImpl(sheetResources, null, null, 200);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Row>> rows = new ArrayList<Future<Row>>();
+            for (int i = 0; i < 6; i++) {
+                final long rowId = ROW_IDS[i % ROW_IDS.length];
+                rows.add(executor.submit(new Callable<Row>() {
+                    public Row call() throws SmartsheetException {
+                        return loader.getRow(123L, rowId);
+                    }
+                }));
+            }
+            for (int i = 0; i < 6; i++) {
+                assertEquals(ROW_IDS[i % ROW_IDS.length], rows.get(i).get().getId().longValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testFullBatch() throws SmartsheetException {
+        // a batch of one row is sent without waiting for the window
+        RowLoaderImpl loader = new RowLoaderImpl(sheetResources, null, null, 60000, 1);
+        assertEquals(ROW_IDS[1], loader.getRow(123L, ROW_IDS[1]).getId().longValue());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testRowNotFound() throws SmartsheetException {
+        RowLoaderImpl loader = new RowLoaderImpl(sheetResources, null, null, 0);
+        try {
+            loader.getRow(123L, 42L);
+            fail("ResourceNotFoundException expected");
+        } catch (ResourceNotFoundException e) {
+            assertEquals(1006, e.getErrorCode());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testError() throws Exception {
+        final SheetResourcesImpl failingResources = new SheetResourcesImpl(sheetResources.getSmartsheet()) {
+            @Override
+            public Sheet getSheet(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                                  Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                                  Integer page) {
+                throw new OutOfMemoryError("test");
+            }
+        };
+        final RowLoaderImpl loader = new RowLoaderImpl(failingResources, null, null, 200);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Row>> rows = new ArrayList<Future<Row>>();
+            for (int i = 0; i < 3; i++) {
+                final long rowId = ROW_IDS[i];
+                rows.add(executor.submit(new Callable<Row>() {
+                    public Row call() throws SmartsheetException {
+                        return loader.getRow(123L, rowId);
+                    }
+                }));
+            }
+            // every thread of the batch gets the error, rather than only the one that sent the batch
+            for (Future<Row> row : rows) {
+                try {
+                    row.get();
+                    fail("OutOfMemoryError expected");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof OutOfMemoryError);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
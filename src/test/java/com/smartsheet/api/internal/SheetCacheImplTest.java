@@ -0,0 +1,172 @@
+package com.smartsheet.api.internal;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class SheetCacheImplTest extends ResourcesImplBase {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int version = 7;
+    private SheetResourcesImpl sheetResources;
+
+    @Before
+    public void setUp() throws Exception {
+        sheetResources = new SheetResourcesImpl(new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer)) {
+            @Override
+            byte[] getSheetContent(long id, EnumSet<SheetInclusion> includes, EnumSet<ObjectExclusion> excludes,
+                                   Set<Long> rowIds, Set<Integer> rowNumbers, Set<Long> columnIds, Integer pageSize,
+                                   Integer page) throws SmartsheetException {
+                requests.incrementAndGet();
+                return super.getSheetContent(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page);
+            }
+
+            @Override
+            public int getSheetVersion(long id) {
+                return version;
+            }
+        };
+        server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+    }
+
+    @Test
+    public void testValidation() throws SmartsheetException {
+        SheetCacheImpl cache = new SheetCacheImpl(sheetResources, new JacksonJsonSerializer(), 1024 * 1024, 0);
+
+        Sheet first = cache.getSheet(123L, null, null, null, null, null, null, null);
+        Sheet second = cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(1, requests.get());
+        assertNotSame(first, second);
+        assertEquals(first.getRows().size(), second.getRows().size());
+        assertEquals(first.getColumns().get(0).getTitle(), second.getColumns().get(0).getTitle());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getValidationCount());
+
+        // other query parameters are cached separately
+        cache.getSheet(123L, EnumSet.of(SheetInclusion.DISCUSSIONS), null, null, null, null, null, null);
+        assertEquals(2, requests.get());
+
+        // a changed sheet is got again
+        version = 8;
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(3, requests.get());
+        assertEquals(1, cache.getStaleCount());
+    }
+
+    @Test
+    public void testIds() throws SmartsheetException {
+        SheetCacheImpl cache = new SheetCacheImpl(sheetResources, new JacksonJsonSerializer(), 1024 * 1024, 0);
+
+        Sheet first = cache.getSheet(123L, null, null, null, null, null, null, null);
+        Sheet second = cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(4583173393803140L, second.getId().longValue());
+        assertEquals(first.getId(), second.getId());
+        assertEquals(first.getColumns().size(), second.getColumns().size());
+        for (int i = 0; i < first.getColumns().size(); i++) {
+            assertNotNull(second.getColumns().get(i).getId());
+            assertEquals(first.getColumns().get(i).getId(), second.getColumns().get(i).getId());
+        }
+        for (int i = 0; i < first.getRows().size(); i++) {
+            assertNotNull(second.getRows().get(i).getId());
+            assertEquals(first.getRows().get(i).getId(), second.getRows().get(i).getId());
+        }
+    }
+
+    @Test
+    public void testCallers() throws SmartsheetException {
+        SheetCacheImpl cache = new SheetCacheImpl(sheetResources, new JacksonJsonSerializer(), 1024 * 1024, 60000);
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(1, requests.get());
+
+        // other users get the sheet themselves
+        sheetResources.getSmartsheet().setAssumedUser("other@example.com");
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(2, requests.get());
+        sheetResources.getSmartsheet().setAssumedUser(null);
+        sheetResources.getSmartsheet().setAccessToken("otherAccessToken");
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(3, requests.get());
+
+        sheetResources.getSmartsheet().setAccessToken("accessToken");
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testTtl() throws SmartsheetException {
+        SheetCacheImpl cache = new SheetCacheImpl(sheetResources, new JacksonJsonSerializer(), 1024 * 1024, 60000);
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        version = 8;
+        // within the time to live, the version isn't checked
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(1, requests.get());
+        assertEquals(0, cache.getValidationCount());
+
+        cache.invalidate(123L);
+        assertEquals(0, cache.getSizeBytes());
+        cache.getSheet(123L, null, null, null, null, null, null, null);
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void testEviction() throws SmartsheetException {
+        SheetCacheImpl cache = new SheetCacheImpl(sheetResources, new JacksonJsonSerializer(), 1024 * 1024, 0);
+        cache.getSheet(1L, null, null, null, null, null, null, null);
+        long entryBytes = cache.getSizeBytes();
+        assertTrue(entryBytes > 0);
+
+        // room for two sheets
+        cache = new SheetCacheImpl(sheetResources, new JacksonJsonSerializer(), 2 * entryBytes, 0);
+        cache.getSheet(1L, null, null, null, null, null, null, null);
+        cache.getSheet(2L, null, null, null, null, null, null, null);
+        cache.getSheet(1L, null, null, null, null, null, null, null);
+        cache.getSheet(3L, null, null, null, null, null, null, null);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2 * entryBytes, cache.getSizeBytes());
+
+        // sheet 2 was the least recently used
+        requests.set(0);
+        cache.getSheet(1L, null, null, null, null, null, null, null);
+        assertEquals(0, requests.get());
+        cache.getSheet(2L, null, null, null, null, null, null, null);
+        assertEquals(1, requests.get());
+    }
+}
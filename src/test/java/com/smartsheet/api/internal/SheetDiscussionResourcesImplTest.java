@@ -131,6 +131,14 @@ public class SheetDiscussionResourcesImplTest extends ResourcesImplBase {
         }catch(InvalidRequestException ex){
             // expected
         }
+
+        // uploads go through the same error handling as any other request
+        try{
+            sheetDiscussionResources.createDiscussionWithAttachment(1234L, discussion, file, "application/pdf");
+            fail("An exception should have been thrown");
+        }catch(InvalidRequestException ex){
+            // expected
+        }
     }
 
     @Test
@@ -20,6 +20,8 @@ package com.smartsheet.api.internal;
  * %[license]
  */
 
+import com.smartsheet.api.SheetRowHandler;
+import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.models.*;
@@ -34,6 +36,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.*;
 
@@ -94,6 +99,104 @@ public class SheetResourcesImplTest extends ResourcesImplBase {
         assertEquals(0,sheet.getRows().size());
     }
 
+    @Test
+    public void testGetSheetSingleFlight() throws SmartsheetException, IOException {
+        SmartsheetImpl smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), serializer);
+        smartsheet.setSingleFlightGets(true);
+        SheetResourcesImpl resources = new SheetResourcesImpl(smartsheet);
+
+        server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+        assertEquals(3, resources.getSheet(123123L, null, null, null, null, null, null, null).getRows().size());
+
+        server.setStatus(404);
+        server.setResponseBody("{\"errorCode\":1006,\"message\":\"Not Found\"}");
+        try {
+            resources.getSheet(123123L, null, null, null, null, null, null, null);
+            fail("ResourceNotFoundException expected");
+        } catch (ResourceNotFoundException e) {
+            assertEquals(1006, e.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testGetSheetInParallel() throws SmartsheetException, IOException {
+        // every page is answered with the same 3 rows, and a total row count of 3
+        server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+
+        Sheet sheet = sheetResource.getSheetInParallel(123123L, null, null, null, 1, 2);
+        assertEquals(9, sheet.getRows().size());
+        assertEquals(sheet.getRows().get(0).getId(), sheet.getRows().get(3).getId());
+
+        sheet = sheetResource.getSheetInParallel(123123L, null, null, null, 3, 2);
+        assertEquals(3, sheet.getRows().size());
+    }
+
+    @Test(timeout = 10000)
+    public void testGetSheetInParallelOnExecutor() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+        // a single thread, taken by the call itself, leaves no other thread to read the pages
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        sheetResource.getSmartsheet().setExecutorService(executor);
+        try {
+            Sheet sheet = executor.submit(new Callable<Sheet>() {
+                public Sheet call() throws SmartsheetException {
+                    return sheetResource.getSheetInParallel(123123L, null, null, null, 1, 3);
+                }
+            }).get();
+            assertEquals(9, sheet.getRows().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetSheetWithRowHandler() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+
+        final List<Sheet> sheets = new ArrayList<Sheet>();
+        final List<Row> rows = new ArrayList<Row>();
+        Sheet sheet = sheetResource.getSheet(123123L, null, null, null, null, null, null, null, new SheetRowHandler() {
+            public void onSheet(Sheet sheet) {
+                // the columns arrive before any row
+                assertTrue(rows.isEmpty());
+                sheets.add(sheet);
+            }
+
+            public void onRow(Row row) {
+                rows.add(row);
+            }
+        });
+
+        assertEquals(1, sheets.size());
+        assertEquals(2, sheets.get(0).getColumns().size());
+        assertNull(sheets.get(0).getRows());
+        assertEquals(3, rows.size());
+        assertEquals(6865355806140292L, rows.get(1).getId().longValue());
+        assertEquals("Build", rows.get(1).getCells().get(0).getValue());
+        assertEquals(2, rows.get(2).getCells().size());
+
+        // the returned sheet also has the attributes that follow the rows
+        assertEquals("Rows Sheet", sheet.getName());
+        assertEquals(3, sheet.getTotalRowCount().intValue());
+        assertNull(sheet.getRows());
+
+        // the handler can stop the read
+        try {
+            sheetResource.getSheet(123123L, null, null, null, null, null, null, null, new SheetRowHandler() {
+                public void onSheet(Sheet sheet) {
+                }
+
+                public void onRow(Row row) throws SmartsheetException {
+                    throw new SmartsheetException("enough");
+                }
+            });
+            fail("the handler's exception should have been thrown");
+        } catch (SmartsheetException expected) {
+            assertEquals("enough", expected.getMessage());
+        }
+    }
+
     @Test
     public void testGetSheetWithFormat() throws SmartsheetException, IOException {
 
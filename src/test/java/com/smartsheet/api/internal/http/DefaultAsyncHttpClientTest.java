@@ -0,0 +1,193 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.AsyncCallback;
+import com.smartsheet.api.HttpTestServer;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.retry.CalcBackoff;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class DefaultAsyncHttpClientTest {
+    private HttpTestServer server;
+    private final List<Integer> attempts = new CopyOnWriteArrayList<Integer>();
+    private AsyncHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new HttpTestServer("{\"id\":1}");
+        server.start();
+
+        // retries failed requests twice, recording the attempts made
+        DefaultShouldRetry shouldRetry = new DefaultShouldRetry(new JacksonJsonSerializer());
+        shouldRetry.setCalcBackoff(new CalcBackoff() {
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                attempts.add(previousAttempts);
+                return previousAttempts < 3 ? 300 : -1;
+            }
+        });
+        client = new DefaultAsyncHttpClient(shouldRetry);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        // Null Argument
+        try {
+            client.request(null, null);
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        // No URL in request
+        try {
+            client.request(new HttpRequest(), null);
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("http://localhost:9090/"));
+        request.setMethod(HttpMethod.POST);
+        HttpEntity entity = new HttpEntity();
+        entity.setContent(new ByteArrayInputStream("Hello World!".getBytes("UTF-8")));
+        entity.setContentLength(12);
+        request.setEntity(entity);
+
+        HttpResponse response = client.request(request, null).get(10, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatusCode());
+        assertEquals("{\"id\":1}", new String(StreamUtil.readBytesFromStream(response.getEntity().getContent()),
+                "UTF-8"));
+        assertEquals("Hello World!", server.getRequestBody());
+    }
+
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        AsyncHttpClient pooledClient = new DefaultAsyncHttpClient(
+                DefaultAsyncHttpClient.createPooledHttpAsyncClient(8, 8, 1000), null);
+        try {
+            // far more requests in flight than there are connections (or I/O threads)
+            final CountDownLatch done = new CountDownLatch(200);
+            List<Future<HttpResponse>> results = new ArrayList<Future<HttpResponse>>();
+            for (int i = 0; i < 200; i++) {
+                HttpRequest request = new HttpRequest();
+                request.setUri(new URI("http://localhost:9090/"));
+                request.setMethod(HttpMethod.GET);
+                results.add(pooledClient.request(request, new AsyncCallback<HttpResponse>() {
+                    public void onSuccess(HttpResponse result) {
+                        done.countDown();
+                    }
+
+                    public void onFailure(Throwable error) {
+                    }
+                }));
+            }
+            for (Future<HttpResponse> result : results) {
+                assertEquals(200, result.get(10, TimeUnit.SECONDS).getStatusCode());
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            pooledClient.close();
+        }
+    }
+
+    @Test
+    public void testRetry() throws Exception {
+        server.setStatus(503);
+        server.setResponseBody("{\"errorCode\":4001,\"message\":\"Offline for maintenance\"}");
+
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("http://localhost:9090/"));
+        request.setMethod(HttpMethod.GET);
+        HttpResponse response = client.request(request, null).get(10, TimeUnit.SECONDS);
+
+        // the last failed response is handed over once the request isn't retried any more
+        assertEquals(503, response.getStatusCode());
+        assertEquals(Arrays.asList(1, 2, 3), attempts);
+    }
+
+    @Test
+    public void testCancelWhileWaitingToRetry() throws Exception {
+        server.setStatus(503);
+        server.setResponseBody("{\"errorCode\":4001,\"message\":\"Offline for maintenance\"}");
+
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("http://localhost:9090/"));
+        request.setMethod(HttpMethod.GET);
+        final AtomicReference<Throwable> callbackError = new AtomicReference<Throwable>();
+        Future<HttpResponse> future = client.request(request, new AsyncCallback<HttpResponse>() {
+            public void onSuccess(HttpResponse result) {
+            }
+
+            public void onFailure(Throwable error) {
+                callbackError.set(error);
+            }
+        });
+        Thread.sleep(100);
+        assertTrue(future.cancel(true));
+        assertTrue(callbackError.get() instanceof CancellationException);
+
+        // the request isn't sent again
+        Thread.sleep(600);
+        assertEquals(Arrays.asList(1), attempts);
+    }
+
+    @Test
+    public void testClosed() throws Exception {
+        client.close();
+
+        HttpRequest request = new HttpRequest();
+        request.setUri(new URI("http://localhost:9090/"));
+        request.setMethod(HttpMethod.GET);
+        try {
+            client.request(request, null).get(10, TimeUnit.SECONDS);
+            fail("Exception should have been thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof HttpClientException);
+        }
+    }
+}
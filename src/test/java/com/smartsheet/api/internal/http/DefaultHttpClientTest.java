@@ -20,14 +20,23 @@ package com.smartsheet.api.internal.http;
  * %[license]
  */
 
+import com.smartsheet.api.HttpTestServer;
+import com.smartsheet.api.internal.util.StreamUtil;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 public class DefaultHttpClientTest {
@@ -132,4 +141,39 @@ public class DefaultHttpClientTest {
 
     }
 
+    @Test
+    public void testConcurrentRequests() throws Exception {
+        HttpTestServer server = new HttpTestServer("{\"id\":1}");
+        server.start();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            final HttpClient sharedClient = new DefaultHttpClient(DefaultHttpClient.createPooledHttpClient(8, 8, 0, 1000),
+                    new DefaultShouldRetry(null));
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        HttpRequest request = new HttpRequest();
+                        request.setUri(new URI("http://localhost:9090/"));
+                        request.setMethod(HttpMethod.GET);
+                        HttpResponse response = sharedClient.request(request);
+                        try {
+                            return new String(StreamUtil.readBytesFromStream(response.getEntity().getContent()), "UTF-8");
+                        } finally {
+                            response.releaseConnection();
+                        }
+                    }
+                }));
+            }
+            // every request must complete (a leaked connection would exhaust the 8 connection pool and hang)
+            for (Future<String> result : results) {
+                assertEquals("{\"id\":1}", result.get());
+            }
+            sharedClient.close();
+        } finally {
+            executor.shutdownNow();
+            server.stop();
+        }
+    }
 }
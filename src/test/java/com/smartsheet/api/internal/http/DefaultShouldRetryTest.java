@@ -0,0 +1,93 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Error;
+import com.smartsheet.api.retry.CalcBackoff;
+import com.smartsheet.api.retry.RetryDecision;
+import org.apache.http.client.utils.DateUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultShouldRetryTest {
+
+    @Test
+    public void testDecideRetry() {
+        DefaultShouldRetry shouldRetry = new DefaultShouldRetry(null);
+
+        RetryDecision decision = shouldRetry.decideRetry(1, 0, response(429, 4003, null));
+        assertTrue(decision.shouldRetry());
+        // exponential backoff (2s for the first retry) plus up to a second of jitter
+        assertTrue(decision.getDelayMillis() >= 2000 && decision.getDelayMillis() < 3000);
+
+        assertFalse(shouldRetry.decideRetry(1, 0, response(404, 1006, null)).shouldRetry());
+        assertFalse(shouldRetry.decideRetry(1, 0, response(500, 1000, null)).shouldRetry());
+        // retrying would exceed the maximum retry time
+        assertFalse(shouldRetry.decideRetry(3, 10000, response(503, 4001, null)).shouldRetry());
+    }
+
+    @Test
+    public void testRetryAfter() {
+        DefaultShouldRetry shouldRetry = new DefaultShouldRetry(null);
+
+        RetryDecision decision = shouldRetry.decideRetry(1, 0, response(429, 4003, "7"));
+        assertTrue(decision.getDelayMillis() >= 7000 && decision.getDelayMillis() < 8000);
+
+        // a Retry-After beyond the maximum retry time isn't waited for
+        assertFalse(shouldRetry.decideRetry(1, 0, response(429, 4003, "60")).shouldRetry());
+
+        String date = DateUtils.formatDate(new Date(System.currentTimeMillis() + 5000));
+        long delay = DefaultShouldRetry.getRetryAfterMillis(response(429, 4003, date));
+        assertTrue(delay > 3000 && delay <= 5000);
+
+        // a user supplied backoff is only ever lengthened
+        shouldRetry.setCalcBackoff(new CalcBackoff() {
+            public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+                return 100;
+            }
+        });
+        assertEquals(100, shouldRetry.decideRetry(1, 0, response(429, 4003, null)).getDelayMillis());
+        assertEquals(3000, shouldRetry.decideRetry(1, 0, response(429, 4003, "3")).getDelayMillis());
+    }
+
+    private static HttpResponse response(int status, int errorCode, String retryAfter) {
+        HttpResponse response = new HttpResponse();
+        response.setStatus(status, "HTTP/1.1 " + status);
+        Map<String, String> headers = new HashMap<String, String>();
+        if (retryAfter != null) {
+            headers.put("Retry-After", retryAfter);
+        }
+        response.setHeaders(headers);
+        HttpEntity entity = new HttpEntity();
+        entity.setContent(new ByteArrayInputStream(
+                ("{\"errorCode\":" + errorCode + ",\"message\":\"error\"}").getBytes()));
+        response.setEntity(entity);
+        return response;
+    }
+}
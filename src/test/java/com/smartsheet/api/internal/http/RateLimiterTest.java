@@ -0,0 +1,75 @@
+package com.smartsheet.api.internal.http;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testReserve() {
+        // one request per second, two at once
+        RateLimiter rateLimiter = new RateLimiter(60, 2);
+        long now = System.nanoTime();
+
+        assertEquals(0, rateLimiter.reserve(now));
+        assertEquals(0, rateLimiter.reserve(now));
+        // the bucket is empty, so waiting requests are spaced a second apart
+        assertEquals(SECOND, rateLimiter.reserve(now), 1000);
+        assertEquals(2 * SECOND, rateLimiter.reserve(now), 1000);
+
+        // after a quiet period the bucket refills, but only up to the burst
+        now += 10 * SECOND;
+        assertEquals(0, rateLimiter.reserve(now));
+        assertEquals(0, rateLimiter.reserve(now));
+        assertTrue(rateLimiter.reserve(now) > 0);
+    }
+
+    @Test
+    public void testAdaptsToRateLimited() {
+        RateLimiter rateLimiter = new RateLimiter(60, 2);
+        long now = System.nanoTime() + 10 * SECOND;
+
+        rateLimiter.onRateLimited(now);
+        assertEquals(30, rateLimiter.getRequestsPerMinute(), 0.001);
+        // the burst allowance is dropped and requests are paced at the lower rate
+        assertEquals(2 * SECOND, rateLimiter.reserve(now), 1000);
+
+        // rejections of the same burst only lower the rate once
+        rateLimiter.onRateLimited(now + 1);
+        assertEquals(30, rateLimiter.getRequestsPerMinute(), 0.001);
+        rateLimiter.onRateLimited(now + SECOND);
+        assertEquals(15, rateLimiter.getRequestsPerMinute(), 0.001);
+
+        // successful requests bring the rate back up to the configured rate, but not beyond it
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.onSuccess();
+        }
+        assertEquals(60, rateLimiter.getRequestsPerMinute(), 0.001);
+    }
+}
@@ -23,14 +23,20 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.smartsheet.api.SheetRowHandler;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.FieldProjection;
 import com.smartsheet.api.models.Folder;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.User;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -437,4 +443,155 @@ public class JacksonJsonSerializerTest {
         }
     }
 
+    @Test
+    public void testSerializeChanges() throws JSONSerializerException, IOException {
+        String json = "{\"id\":1,\"rowNumber\":1,\"expanded\":true,\"cells\":[" +
+                "{\"columnId\":10,\"value\":\"a\",\"displayValue\":\"a\"}," +
+                "{\"columnId\":11,\"value\":\"b\",\"displayValue\":\"b\"}]}";
+        Row row = jjs.deserialize(Row.class, new ByteArrayInputStream(json.getBytes()));
+        assertFalse(row.hasChanges());
+        assertFalse(row.getCells().get(0).hasChanges());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jjs.serializeChanges(Arrays.asList(row), out);
+        assertEquals("[{\"id\":1}]", out.toString());
+
+        row.getCells().get(1).setValue("c");
+        out = new ByteArrayOutputStream();
+        jjs.serializeChanges(Arrays.asList(row), out);
+        assertEquals("[{\"id\":1,\"cells\":[{\"value\":\"c\",\"columnId\":11}]}]", out.toString());
+
+        // everything is written without the changes only attribute
+        assertTrue(jjs.serialize(row).contains("\"displayValue\":\"a\""));
+
+        // rows built by the caller are written in full
+        Row newRow = new Row.UpdateRowBuilder().setRowId(2L).setExpanded(false).setCells(Arrays.asList(
+                new Cell().setColumnId(10L).setValue("d"))).build();
+        out = new ByteArrayOutputStream();
+        jjs.serializeChanges(Arrays.asList(newRow), out);
+        assertEquals("[{\"id\":2,\"cells\":[{\"value\":\"d\",\"columnId\":10}],\"expanded\":false}]",
+                out.toString());
+    }
+
+    private static final String PROJECTED_SHEET = "{\"id\":1,\"name\":\"sheet\",\"permalink\":\"p\"," +
+            "\"columns\":[{\"id\":10,\"title\":\"a\",\"format\":\",,1\"}]," +
+            "\"rows\":[{\"id\":100,\"permalink\":\"p\",\"format\":\",,1\",\"createdBy\":{\"email\":\"e\"}," +
+            "\"cells\":[{\"columnId\":10,\"value\":\"x\",\"format\":\",,1\",\"hyperlink\":{\"url\":\"u\"}," +
+            "\"linksOutToCells\":[{\"rowId\":1,\"columnId\":2}],\"image\":{\"id\":\"i\"}}]}]}";
+
+    @Test
+    public void testDeserializeWithProjection() throws IOException {
+        Sheet sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(PROJECTED_SHEET.getBytes()),
+                FieldProjection.values().excludeSheetFields("permalink"));
+        assertProjected(sheet, sheet.getRows().get(0));
+
+        // without a projection, everything is read
+        sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(PROJECTED_SHEET.getBytes()), null);
+        assertEquals("p", sheet.getPermalink());
+        assertNotNull(sheet.getRows().get(0).getCells().get(0).getHyperlink());
+    }
+
+    @Test
+    public void testDeserializeSheetRowsWithProjection() throws Exception {
+        final List<Row> rows = new ArrayList<Row>();
+        Sheet sheet = jjs.deserializeSheetRows(new ByteArrayInputStream(PROJECTED_SHEET.getBytes()),
+                new SheetRowHandler() {
+                    public void onSheet(Sheet sheet) {
+                    }
+
+                    public void onRow(Row row) {
+                        rows.add(row);
+                    }
+                }, FieldProjection.values().excludeSheetFields("permalink"));
+        assertEquals(1, rows.size());
+        assertProjected(sheet, rows.get(0));
+    }
+
+    private static void assertProjected(Sheet sheet, Row row) {
+        assertEquals("sheet", sheet.getName());
+        assertNull(sheet.getPermalink());
+        // columns aren't projected
+        assertNotNull(sheet.getColumns().get(0).getFormat());
+
+        assertEquals(Long.valueOf(100), row.getId());
+        assertNull(row.getPermalink());
+        assertNull(row.getFormat());
+        assertNull(row.getCreatedBy());
+
+        Cell cell = row.getCells().get(0);
+        assertEquals(Long.valueOf(10), cell.getColumnId());
+        assertEquals("x", cell.getValue());
+        assertNull(cell.getFormat());
+        assertNull(cell.getHyperlink());
+        assertNull(cell.getLinksOutToCells());
+        assertNull(cell.getImage());
+    }
+
+    @Test
+    public void testDeduplicateCellStrings() throws Exception {
+        String json = "{\"id\":1,\"rows\":[" +
+                "{\"id\":100,\"format\":\",,1\",\"cells\":[{\"columnId\":10,\"value\":\"open\",\"displayValue\":\"open\"}," +
+                "{\"columnId\":11,\"value\":2,\"displayValue\":\"2\"}]}," +
+                "{\"id\":101,\"format\":\",,1\",\"cells\":[{\"columnId\":10,\"value\":\"open\",\"displayValue\":\"open\"}," +
+                "{\"columnId\":11,\"value\":2.5,\"displayValue\":\"2.5\"}]}]}";
+
+        Sheet sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+        assertNotSame(sheet.getRows().get(0).getCells().get(0).getValue(),
+                sheet.getRows().get(1).getCells().get(0).getValue());
+        // formats are always shared
+        assertSame(sheet.getRows().get(0).getFormat(), sheet.getRows().get(1).getFormat());
+
+        JacksonJsonSerializer.setDeduplicateCellStrings(true);
+        try {
+            sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes()));
+            assertDeduplicated(sheet.getRows().get(0), sheet.getRows().get(1));
+
+            final List<Row> rows = new ArrayList<Row>();
+            jjs.deserializeSheetRows(new ByteArrayInputStream(json.getBytes()), new SheetRowHandler() {
+                public void onSheet(Sheet sheet) {
+                }
+
+                public void onRow(Row row) {
+                    rows.add(row);
+                }
+            });
+            assertDeduplicated(rows.get(0), rows.get(1));
+        } finally {
+            JacksonJsonSerializer.setDeduplicateCellStrings(false);
+        }
+    }
+
+    @Test
+    public void testCachedReadersFollowConfiguration() throws Exception {
+        String json = "{\"message\":\"SUCCESS\",\"resultCode\":0,\"result\":{\"id\":100,\"unknownProperty\":1}}";
+        JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        JacksonJsonSerializer.warmUp();
+
+        Result<Row> result = jjs.deserializeResult(Row.class, new ByteArrayInputStream(json.getBytes()));
+        assertEquals(100L, result.getResult().getId().longValue());
+
+        JacksonJsonSerializer.setFailOnUnknownProperties(true);
+        try {
+            jjs.deserializeResult(Row.class, new ByteArrayInputStream(json.getBytes()));
+            fail("Exception should have been thrown");
+        } catch (JSONSerializerException e) {
+            // expected
+        } finally {
+            JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        }
+
+        result = jjs.deserializeResult(Row.class, new ByteArrayInputStream(json.getBytes()));
+        assertEquals(100L, result.getResult().getId().longValue());
+    }
+
+    private static void assertDeduplicated(Row row1, Row row2) {
+        Cell cell1 = row1.getCells().get(0);
+        Cell cell2 = row2.getCells().get(0);
+        assertEquals("open", cell1.getValue());
+        assertSame(cell1.getValue(), cell2.getValue());
+        assertSame(cell1.getValue(), cell2.getDisplayValue());
+        // other values are read as usual
+        assertEquals(2, row1.getCells().get(1).getValue());
+        assertEquals(2.5, row2.getCells().get(1).getValue());
+    }
 }
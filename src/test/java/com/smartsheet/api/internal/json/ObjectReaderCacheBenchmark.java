@@ -0,0 +1,93 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Row;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Measures the deserialization of small responses (a row update result and a column), comparing reading them through
+ * the ObjectMapper, resolving their types on every call, with reading them through the cached readers of
+ * JacksonJsonSerializer.
+ *
+ * Not a unit test; run it with: java -cp &lt;test classpath&gt; com.smartsheet.api.internal.json.ObjectReaderCacheBenchmark [calls]
+ */
+public class ObjectReaderCacheBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    private static final String ROW_RESULT_JSON = "{\"message\":\"SUCCESS\",\"resultCode\":0,\"version\":12,"
+            + "\"result\":{\"id\":1001,\"sheetId\":1,\"rowNumber\":1,\"expanded\":true,"
+            + "\"createdAt\":\"2017-06-05T08:00:00Z\",\"modifiedAt\":\"2017-06-05T08:00:00Z\",\"cells\":["
+            + "{\"columnId\":11,\"value\":\"Task 1\",\"displayValue\":\"Task 1\"},"
+            + "{\"columnId\":12,\"value\":42,\"displayValue\":\"42\"},"
+            + "{\"columnId\":13,\"value\":true}]}}";
+    private static final String COLUMN_JSON = "{\"id\":11,\"index\":0,\"title\":\"Task\",\"type\":\"TEXT_NUMBER\","
+            + "\"primary\":true,\"validation\":false,\"width\":150}";
+
+    public static void main(String[] args) throws Exception {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        byte[] rowResultJson = ROW_RESULT_JSON.getBytes("UTF-8");
+        byte[] columnJson = COLUMN_JSON.getBytes("UTF-8");
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+        ObjectMapper mapper = JacksonJsonSerializer.getObjectMapper();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            readWithMapper(mapper, rowResultJson, columnJson, calls);
+            readWithSerializer(serializer, rowResultJson, columnJson, calls);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            readWithMapper(mapper, rowResultJson, columnJson, calls);
+        }
+        long mapperElapsed = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            readWithSerializer(serializer, rowResultJson, columnJson, calls);
+        }
+        long serializerElapsed = System.nanoTime() - start;
+
+        System.out.printf("%d row results and columns: %.1f ms through the ObjectMapper, %.1f ms through the cached "
+                + "readers%n", calls, mapperElapsed / 1e6 / MEASURED_ITERATIONS,
+                serializerElapsed / 1e6 / MEASURED_ITERATIONS);
+    }
+
+    private static void readWithMapper(ObjectMapper mapper, byte[] rowResultJson, byte[] columnJson, int calls)
+            throws Exception {
+        for (int call = 0; call < calls; call++) {
+            mapper.readValue(new ByteArrayInputStream(rowResultJson),
+                    mapper.getTypeFactory().constructParametrizedType(Result.class, Result.class, Row.class));
+            mapper.readValue(new ByteArrayInputStream(columnJson), Column.class);
+        }
+    }
+
+    private static void readWithSerializer(JacksonJsonSerializer serializer, byte[] rowResultJson, byte[] columnJson,
+            int calls) throws Exception {
+        for (int call = 0; call < calls; call++) {
+            serializer.deserializeResult(Row.class, new ByteArrayInputStream(rowResultJson));
+            serializer.deserialize(Column.class, new ByteArrayInputStream(columnJson));
+        }
+    }
+}
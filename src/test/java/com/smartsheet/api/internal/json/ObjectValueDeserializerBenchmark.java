@@ -0,0 +1,80 @@
+package com.smartsheet.api.internal.json;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.models.Sheet;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Measures getSheet deserialization of a sheet made up of cells with object values (contacts, predecessor lists,
+ * durations and dates), which is the work done by ObjectValueDeserializer.
+ *
+ * Not a unit test; run it with: java -cp &lt;test classpath&gt; com.smartsheet.api.internal.json.ObjectValueDeserializerBenchmark [rows]
+ */
+public class ObjectValueDeserializerBenchmark {
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        byte[] json = createSheetJson(rows).getBytes("UTF-8");
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializer.deserialize(Sheet.class, new ByteArrayInputStream(json));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            serializer.deserialize(Sheet.class, new ByteArrayInputStream(json));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%d rows (%d object value cells, %d KB): %.1f ms per sheet%n", rows, rows * 4,
+                json.length / 1024, elapsed / 1e6 / MEASURED_ITERATIONS);
+    }
+
+    static String createSheetJson(int rows) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"id\":1,\"name\":\"benchmark\",\"columns\":[")
+                .append("{\"id\":11,\"index\":0,\"title\":\"Owner\",\"type\":\"CONTACT_LIST\"},")
+                .append("{\"id\":12,\"index\":1,\"title\":\"Predecessors\",\"type\":\"PREDECESSOR\"},")
+                .append("{\"id\":13,\"index\":2,\"title\":\"Duration\",\"type\":\"DURATION\"},")
+                .append("{\"id\":14,\"index\":3,\"title\":\"Start\",\"type\":\"ABSTRACT_DATETIME\"}],\"rows\":[");
+        for (int row = 1; row <= rows; row++) {
+            if (row > 1) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(1000 + row).append(",\"rowNumber\":").append(row).append(",\"cells\":[")
+                    .append("{\"columnId\":11,\"objectValue\":{\"objectType\":\"CONTACT\",\"email\":\"user")
+                    .append(row).append("@example.com\",\"name\":\"User ").append(row).append("\"}},")
+                    .append("{\"columnId\":12,\"objectValue\":{\"objectType\":\"PREDECESSOR_LIST\",\"predecessors\":[")
+                    .append("{\"rowId\":").append(999 + row).append(",\"rowNumber\":").append(row - 1)
+                    .append(",\"type\":\"FS\",\"lag\":{\"objectType\":\"DURATION\",\"days\":2}}]}},")
+                    .append("{\"columnId\":13,\"objectValue\":{\"objectType\":\"DURATION\",\"days\":")
+                    .append(row % 10).append(",\"hours\":4}},")
+                    .append("{\"columnId\":14,\"objectValue\":{\"objectType\":\"ABSTRACT_DATETIME\",")
+                    .append("\"value\":\"2017-06-05T08:00:00\"}}]}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+}
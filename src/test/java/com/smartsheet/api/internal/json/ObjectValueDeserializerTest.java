@@ -28,6 +28,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
@@ -262,6 +263,46 @@ public class ObjectValueDeserializerTest {
 
     }
 
+    @Test
+    public void contact_objectTypeLast() throws IOException, JSONSerializerException {
+        // attributes may come in any order, and unknown attributes may be objects
+        String json = "{\"objectValue\": {\n" +
+                "                        \"email\": \"john.doe@smartsheet.com\",\n" +
+                "                        \"someNewObjectAddedInFutureVersionOfAPI\": {\"name\": \"ignored\"},\n" +
+                "                        \"name\": \"John Doe\",\n" +
+                "                        \"objectType\": \"CONTACT\"\n" +
+                "                    }}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertTrue(objectValue instanceof ContactObjectValue);
+        ContactObjectValue contact = (ContactObjectValue) objectValue;
+        assertEquals("John Doe", contact.getName());
+        assertEquals("john.doe@smartsheet.com", contact.getEmail());
+    }
+
+    @Test
+    public void predecessorList() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\n" +
+                "                        \"objectType\": \"PREDECESSOR_LIST\",\n" +
+                "                        \"predecessors\": [\n" +
+                "                            {\"rowId\": 123, \"rowNumber\": 4, \"type\": \"FS\",\n" +
+                "                             \"lag\": {\"objectType\": \"DURATION\", \"days\": 2}},\n" +
+                "                            {\"rowId\": 456, \"rowNumber\": 5, \"type\": \"SS\"}\n" +
+                "                        ]\n" +
+                "                    }}";
+
+        ObjectValue objectValue = getObjectValue(json);
+
+        assertTrue(objectValue instanceof PredecessorList);
+        List<Predecessor> predecessors = ((PredecessorList) objectValue).getPredecessors();
+        assertEquals(2, predecessors.size());
+        assertEquals(123L, predecessors.get(0).getRowId().longValue());
+        assertEquals("FS", predecessors.get(0).getType());
+        assertEquals(2.0, predecessors.get(0).getLag().getDays(), DELTA);
+        assertEquals(5, predecessors.get(1).getRowNumber().intValue());
+    }
+
     @Test
     public void longObjectValue() throws IOException, JSONSerializerException {
         String json = "{\"objectValue\":123456}";
@@ -0,0 +1,70 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ *
+ */
+public class CapturingInputStreamTest {
+    @Test
+    public void testCapturesBoundedPrefix() throws Exception {
+        final byte[] testBytes = "fuzzy wuzzy was a bear; fuzzy wuzzy had no hair...".getBytes("UTF-8");
+        CapturingInputStream stream = new CapturingInputStream(new ByteArrayInputStream(testBytes), 10);
+
+        // everything passes through unchanged...
+        Assert.assertArrayEquals(testBytes, StreamUtil.readBytesFromStream(stream));
+        Assert.assertEquals(testBytes.length, stream.getBytesRead());
+        // ...but only the prefix is kept
+        Assert.assertEquals("fuzzy wuzz", new String(stream.getCapturedBytes(), "UTF-8"));
+    }
+
+    @Test
+    public void testSkipIsCaptured() throws Exception {
+        final byte[] testBytes = "0123456789".getBytes("UTF-8");
+        CapturingInputStream stream = new CapturingInputStream(new ByteArrayInputStream(testBytes), Integer.MAX_VALUE);
+
+        Assert.assertEquals(4, stream.skip(4));
+        Assert.assertEquals('4', stream.read());
+        Assert.assertEquals("01234", new String(stream.getCapturedBytes(), "UTF-8"));
+        Assert.assertEquals(5, stream.getBytesRead());
+    }
+
+    @Test
+    public void testBytesAround() throws Exception {
+        final byte[] testBytes = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes("UTF-8");
+        CapturingInputStream stream = new CapturingInputStream(new ByteArrayInputStream(testBytes), 4, 8);
+        byte[] buffer = new byte[5];
+        while (stream.read(buffer, 0, buffer.length) >= 0) {
+        }
+
+        // the end of the stream is still in the window
+        Assert.assertEquals("uvwxyz", new String(stream.getBytesAround(33, 3), "UTF-8"));
+        // the start is in the captured prefix
+        Assert.assertEquals("0123", new String(stream.getBytesAround(1, 3), "UTF-8"));
+        // the middle is gone
+        Assert.assertEquals(0, stream.getBytesAround(16, 2).length);
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ *
+ */
+public class ConcatenatedInputStreamTest {
+    @Test
+    public void testReadAndReset() throws Exception {
+        InputStream stream = new ConcatenatedInputStream(new ByteArrayInputStream("head-".getBytes("UTF-8")),
+                new ByteArrayInputStream("body".getBytes("UTF-8")), new ByteArrayInputStream("-tail".getBytes("UTF-8")));
+        Assert.assertTrue(stream.markSupported());
+        stream.mark(1024);
+
+        Assert.assertEquals("head-body-tail", new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+        // a retry sends the whole body again
+        stream.reset();
+        Assert.assertEquals("head-body-tail", new String(StreamUtil.readBytesFromStream(stream), "UTF-8"));
+    }
+
+    @Test
+    public void testMarkNotSupported() throws Exception {
+        InputStream unmarkable = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        Assert.assertFalse(new ConcatenatedInputStream(new ByteArrayInputStream(new byte[1]), unmarkable).markSupported());
+    }
+}
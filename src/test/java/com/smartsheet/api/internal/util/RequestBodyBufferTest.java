@@ -0,0 +1,74 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.Assert.*;
+
+public class RequestBodyBufferTest {
+
+    @Test
+    public void testToInputStream() throws IOException {
+        RequestBodyBuffer buffer = RequestBodyBuffer.acquire();
+        try {
+            buffer.write("{\"id\":1}".getBytes("UTF-8"));
+            InputStream body = buffer.toInputStream();
+            assertTrue(body.markSupported());
+            body.mark(Integer.MAX_VALUE);
+            assertEquals("{\"id\":1}", new String(StreamUtil.readBytesFromStream(body), "UTF-8"));
+            // read again for a retry
+            body.reset();
+            assertEquals('{', body.read());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testPool() throws IOException {
+        RequestBodyBuffer buffer = RequestBodyBuffer.acquire();
+        buffer.write(new byte[100]);
+        buffer.release();
+
+        RequestBodyBuffer reused = RequestBodyBuffer.acquire();
+        try {
+            assertSame(buffer, reused);
+            assertEquals(0, reused.size());
+        } finally {
+            reused.release();
+        }
+
+        // buffers that grew too large aren't kept
+        RequestBodyBuffer large = RequestBodyBuffer.acquire();
+        large.write(new byte[RequestBodyBuffer.MAX_POOLED_SIZE + 1]);
+        large.release();
+        RequestBodyBuffer next = RequestBodyBuffer.acquire();
+        try {
+            assertNotSame(large, next);
+        } finally {
+            next.release();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.smartsheet.api.internal.util;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.SmartsheetException;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    @Test
+    public void testShared() throws Exception {
+        final SingleFlight<String> singleFlight = new SingleFlight<String>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Callable<String> call = new Callable<String>() {
+            public String call() throws Exception {
+                calls.incrementAndGet();
+                started.countDown();
+                release.await();
+                return new String("result");
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(new Callable<String>() {
+                public String call() throws SmartsheetException {
+                    return singleFlight.execute("key", call);
+                }
+            });
+            started.await();
+            Future<String> second = executor.submit(new Callable<String>() {
+                public String call() throws SmartsheetException {
+                    return singleFlight.execute("key", call);
+                }
+            });
+            // give the second call time to join the first one
+            Thread.sleep(100);
+            release.countDown();
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, calls.get());
+
+        // a completed call isn't reused
+        singleFlight.execute("key", call);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testFailure() {
+        SingleFlight<String> singleFlight = new SingleFlight<String>();
+        try {
+            singleFlight.execute("key", new Callable<String>() {
+                public String call() throws SmartsheetException {
+                    throw new SmartsheetException("failed");
+                }
+            });
+            fail("SmartsheetException expected");
+        } catch (SmartsheetException e) {
+            assertEquals("failed", e.getMessage());
+        }
+    }
+}
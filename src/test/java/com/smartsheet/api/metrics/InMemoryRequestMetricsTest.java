@@ -0,0 +1,91 @@
+package com.smartsheet.api.metrics;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.HttpTestServer;
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InMemoryRequestMetricsTest {
+
+    private HttpTestServer server;
+    private InMemoryRequestMetrics metrics;
+    private Smartsheet smartsheet;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        metrics = new InMemoryRequestMetrics();
+        smartsheet = new SmartsheetBuilder().setBaseURI("http://localhost:9090/2.0/").setAccessToken("accessToken")
+                .addRequestListener(metrics).build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void testToEndpoint() {
+        assertEquals("/2.0/sheets/{id}/rows/{id}", RequestMetrics.toEndpoint("/2.0/sheets/123/rows/456"));
+        assertEquals("/2.0/sheets/{id}", RequestMetrics.toEndpoint("/2.0/sheets/123"));
+        assertEquals("/2.0/users/me", RequestMetrics.toEndpoint("/2.0/users/me"));
+    }
+
+    @Test
+    public void testRequests() throws Exception {
+        File body = new File("src/test/resources/getSheetWithRows.json");
+        server.setResponseBody(body);
+        smartsheet.sheetResources().getSheet(123L, null, null, null, null, null, null, null);
+        smartsheet.sheetResources().getSheet(456L, null, null, null, null, null, null, null);
+
+        InMemoryRequestMetrics.EndpointStats stats = metrics.getStats("GET", "/2.0/sheets/{id}");
+        assertEquals(2, stats.getCount());
+        assertEquals(0, stats.getErrorCount());
+        assertEquals(2 * body.length(), stats.getResponseBytes());
+        assertTrue(stats.getLatencyPercentileMillis(50) > 0);
+
+        server.setStatus(404);
+        server.setResponseBody("{\"errorCode\":1006,\"message\":\"Not Found\"}");
+        try {
+            smartsheet.sheetResources().getSheet(123L, null, null, null, null, null, null, null);
+            fail("ResourceNotFoundException expected");
+        } catch (ResourceNotFoundException expected) {
+        }
+        assertEquals(3, stats.getCount());
+        assertEquals(1, stats.getErrorCount());
+        assertEquals(1, stats.getErrorCodeCount(1006));
+        assertNull(metrics.getStats("POST", "/2.0/sheets/{id}"));
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -54,4 +55,58 @@ public class SheetTest {
         assertNull(new Sheet().getRowByRowNumber(0));
     }
 
+    @Test
+    public void testIndexedLookups() {
+        Column first = new Column();
+        first.setId(11L);
+        first.setIndex(0);
+        first.setTitle("Task");
+        Column second = new Column();
+        second.setId(12L);
+        second.setIndex(1);
+        second.setTitle("Done");
+        List<Column> columns = new ArrayList<Column>();
+        columns.add(first);
+        columns.add(second);
+
+        Cell cell = new Cell();
+        cell.setColumnId(12L);
+        cell.setValue(true);
+        Row row = new Row();
+        row.setId(1234L);
+        row.setRowNumber(1);
+        row.setCells(new ArrayList<Cell>(Arrays.asList(cell)));
+        List<Row> rows = new ArrayList<Row>();
+        rows.add(row);
+
+        Sheet sheet = new Sheet();
+        sheet.setColumns(columns);
+        sheet.setRows(rows);
+
+        assertEquals(second, sheet.getColumnById(12L));
+        assertEquals(second, sheet.getColumnByIndex(1));
+        assertEquals(first, sheet.getColumnByTitle("Task"));
+        assertEquals(row, sheet.getRowById(1234L));
+        assertEquals(cell, sheet.getCell(1234L, 12L));
+        assertNull(sheet.getCell(1234L, 11L));
+        assertNull(sheet.getCell(4321L, 12L));
+
+        // the indexes follow changes to the lists
+        Row added = new Row();
+        added.setId(5678L);
+        added.setRowNumber(2);
+        rows.add(added);
+        assertEquals(added, sheet.getRowById(5678L));
+        assertEquals(added, sheet.getRowByRowNumber(2));
+        columns.remove(0);
+        assertNull(sheet.getColumnByTitle("Task"));
+        assertEquals(second, sheet.getColumnById(12L));
+        Row replaced = new Row();
+        replaced.setId(9999L);
+        rows.set(0, replaced);
+        assertNull(sheet.getRowById(1234L));
+        assertEquals(replaced, sheet.getRowById(9999L));
+        sheet.setRows(new ArrayList<Row>());
+        assertNull(sheet.getRowById(1234L));
+    }
 }
@@ -32,6 +32,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import java.io.IOException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -46,6 +47,14 @@ public class FormatTest {
     public void setup() {
 
     }
+    @Test
+    public void testValueOf() {
+        Format format = Format.valueOf(",,1,1,1,,,,20,29,,,,,,");
+        assertSame(format, Format.valueOf(",,1,1,1,,,,20,29,,,,,,"));
+        assertEquals(20, format.formatArray[8]);
+        assertTrue(format != Format.valueOf(",,1,1,1,,,,20,28,,,,,,"));
+    }
+
     private final static int U = Format.UNSET;
     enum ParserTests {
         VALID_A     (",,1,1,1,,,,20,29,,,,,,",      new int[]{U,U,1,1,1,U,U,U,20,29,U,U,U,U,U,U}),
@@ -0,0 +1,162 @@
+package com.smartsheet.api.trace;
+
+/*
+ * #[license]
+ * Smartsheet Java SDK
+ * %%
+ * Copyright (C) 2014 - 2017 Smartsheet
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * %[license]
+ */
+
+import com.smartsheet.api.HttpTestServer;
+import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetBuilder;
+import com.smartsheet.api.Trace;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncTraceWriterTest {
+
+    private static final String EOL = System.getProperty("line.separator");
+
+    @Test
+    public void testWrite() throws Exception {
+        StringWriter out = new StringWriter();
+        AsyncTraceWriter writer = new AsyncTraceWriter(out, 10);
+        writer.write(new TestRecord("a", 200, 0));
+        writer.write(new TestRecord("b", 200, 0));
+        writer.flush();
+        assertEquals("a" + EOL + "b" + EOL, out.toString());
+
+        writer.close();
+        writer.write(new TestRecord("c", 200, 0));
+        writer.flush();
+        assertEquals("a" + EOL + "b" + EOL, out.toString());
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        StringWriter out = new StringWriter() {
+            @Override
+            public void write(String str) {
+                if ("a".equals(str)) {
+                    writing.countDown();
+                    try {
+                        proceed.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                super.write(str);
+            }
+        };
+        AsyncTraceWriter writer = new AsyncTraceWriter(out, 2);
+        writer.write(new TestRecord("a", 200, 0));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // "a" is being written, so "b" and "c" fill the queue and "d" replaces "b"
+        writer.write(new TestRecord("b", 200, 0));
+        writer.write(new TestRecord("c", 200, 0));
+        writer.write(new TestRecord("d", 200, 0));
+        proceed.countDown();
+        writer.close();
+
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals("a" + EOL + "[1 traces dropped]" + EOL + "c" + EOL + "d" + EOL, out.toString());
+    }
+
+    @Test
+    public void testSamplers() {
+        TraceSampler oneIn = TraceSamplers.oneIn(3);
+        int sampled = 0;
+        for (int i = 0; i < 9; i++) {
+            if (oneIn.isSampled(new TestRecord("a", 200, 0))) {
+                sampled++;
+            }
+        }
+        assertEquals(3, sampled);
+
+        TraceSampler slowOrFailed = TraceSamplers.slowOrFailed(100);
+        assertFalse(slowOrFailed.isSampled(new TestRecord("a", 200, TimeUnit.MILLISECONDS.toNanos(99))));
+        assertTrue(slowOrFailed.isSampled(new TestRecord("a", 200, TimeUnit.MILLISECONDS.toNanos(100))));
+        assertTrue(slowOrFailed.isSampled(new TestRecord("a", 404, 0)));
+    }
+
+    @Test
+    public void testClientTraces() throws Exception {
+        final List<TraceRecord> records = new ArrayList<TraceRecord>();
+        TraceSink sink = new TraceSink() {
+            @Override
+            public void write(TraceRecord record) {
+                records.add(record);
+            }
+        };
+        HttpTestServer server = new HttpTestServer();
+        server.setPort(9090);
+        server.start();
+        try {
+            Smartsheet smartsheet = new SmartsheetBuilder().setBaseURI("http://localhost:9090/2.0/")
+                    .setAccessToken("accessToken").setTraceSink(sink)
+                    .setTraceSampler(TraceSamplers.slowOrFailed(60000)).build();
+            smartsheet.setTraces(Trace.Request, Trace.Response);
+
+            server.setResponseBody(new File("src/test/resources/getSheetWithRows.json"));
+            smartsheet.sheetResources().getSheet(123L, null, null, null, null, null, null, null);
+            assertEquals(0, records.size());
+
+            server.setStatus(404);
+            server.setResponseBody("{\"errorCode\":1006,\"message\":\"Not Found\"}");
+            try {
+                smartsheet.sheetResources().getSheet(123L, null, null, null, null, null, null, null);
+                fail("ResourceNotFoundException expected");
+            } catch (ResourceNotFoundException expected) {
+            }
+            assertEquals(1, records.size());
+            TraceRecord record = records.get(0);
+            assertEquals("GET", record.getMethod());
+            assertEquals(404, record.getStatusCode());
+            String text = record.format();
+            assertTrue(text, text.contains("'Authorization':'Bearer ****oken'"));
+            assertTrue(text, text.contains("\"errorCode\":1006"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static class TestRecord extends TraceRecord {
+        TestRecord(String uri, int statusCode, long latencyNanos) {
+            super("GET", uri, statusCode, latencyNanos);
+        }
+
+        @Override
+        protected String formatRecord() {
+            return getUri();
+        }
+    }
+}